@@ -0,0 +1,146 @@
+package com.endava.internship.warmup.domain.cache;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Operation and arguments of a call, hashed once on their contents. A probe key references the caller's arrays;
+ * {@link #detach()} copies them before the key is stored, so later writes by the caller cannot change a cached key.
+ * Arguments are int[], int[][] without null rows, or IntMatrix.
+ */
+final class CacheKey {
+
+    private final int operation;
+    private final Object[] arguments;
+    private final int hash;
+
+    private CacheKey(int operation, Object[] arguments, int hash) {
+        this.operation = operation;
+        this.arguments = arguments;
+        this.hash = hash;
+    }
+
+    /**
+     * Return a probe key, or null when an argument or one of its rows is null and the call is not cacheable
+     */
+    static CacheKey of(int operation, Object... arguments) {
+        int hash = operation;
+        for (Object argument : arguments) {
+            if (argument instanceof int[]) {
+                final int[] array = (int[]) argument;
+                hash = 31 * hash + hash(array, 0, array.length);
+            } else if (argument instanceof int[][]) {
+                final int[][] rows = (int[][]) argument;
+                for (int[] row : rows) {
+                    if (row == null) {
+                        return null;
+                    }
+                }
+                hash = 31 * hash + hash(rows);
+            } else if (argument instanceof IntMatrix) {
+                hash = 31 * hash + hash((IntMatrix) argument);
+            } else {
+                return null;
+            }
+        }
+        return new CacheKey(operation, arguments, hash);
+    }
+
+    /**
+     * Four independent lanes so consecutive multiplies do not wait on each other, mixed once at the end
+     */
+    private static int hash(int[] data, int from, int to) {
+        int h0 = 1, h1 = 3, h2 = 5, h3 = 7;
+        int i = from;
+        for (final int unrolled = from + ((to - from) & ~3); i < unrolled; i += 4) {
+            h0 = 31 * h0 + data[i];
+            h1 = 31 * h1 + data[i + 1];
+            h2 = 31 * h2 + data[i + 2];
+            h3 = 31 * h3 + data[i + 3];
+        }
+        for (; i < to; ++i) {
+            h0 = 31 * h0 + data[i];
+        }
+        int h = ((h0 * 0x01000193 ^ h1) * 0x01000193 ^ h2) * 0x01000193 ^ h3;
+        h ^= to - from;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        return h ^ (h >>> 13);
+    }
+
+    private static int hash(int[][] rows) {
+        int hash = rows.length;
+        for (int[] row : rows) {
+            hash = 31 * hash + hash(row, 0, row.length);
+        }
+        return hash;
+    }
+
+    private static int hash(IntMatrix matrix) {
+        int hash = 31 * matrix.getRows() + matrix.getColumns();
+        for (int i = 0; i < matrix.getRows(); ++i) {
+            final int start = matrix.index(i, 0);
+            hash = 31 * hash + hash(matrix.getData(), start, start + matrix.getColumns());
+        }
+        return hash;
+    }
+
+    /**
+     * Return a key holding private copies of the arguments
+     */
+    CacheKey detach() {
+        final Object[] copies = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; ++i) {
+            copies[i] = ResultCache.copy(arguments[i]);
+        }
+        return new CacheKey(operation, copies, hash);
+    }
+
+    long weight() {
+        long weight = 32 + 16 + 8L * arguments.length;
+        for (Object argument : arguments) {
+            weight += ResultCache.weight(argument);
+        }
+        return weight;
+    }
+
+    int getHash() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheKey)) {
+            return false;
+        }
+        final CacheKey other = (CacheKey) o;
+        if (hash != other.hash || operation != other.operation || arguments.length != other.arguments.length) {
+            return false;
+        }
+        for (int i = 0; i < arguments.length; ++i) {
+            final Object argument = arguments[i];
+            final Object otherArgument = other.arguments[i];
+            if (argument instanceof int[] && otherArgument instanceof int[]) {
+                if (!Arrays.equals((int[]) argument, (int[]) otherArgument)) {
+                    return false;
+                }
+            } else if (argument instanceof int[][] && otherArgument instanceof int[][]) {
+                if (!Arrays.deepEquals((int[][]) argument, (int[][]) otherArgument)) {
+                    return false;
+                }
+            } else if (!argument.equals(otherArgument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
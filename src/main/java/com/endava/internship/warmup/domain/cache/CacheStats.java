@@ -0,0 +1,67 @@
+package com.endava.internship.warmup.domain.cache;
+
+/**
+ * Point in time counters of a {@link CachingArrayProcessor}
+ */
+public final class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long rejections;
+    private final long entries;
+    private final long weightBytes;
+
+    CacheStats(long hits, long misses, long evictions, long rejections, long entries, long weightBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.rejections = rejections;
+        this.entries = entries;
+        this.weightBytes = weightBytes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Return the results not cached because their entry alone weighs more than the whole budget
+     */
+    public long getRejections() {
+        return rejections;
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    /**
+     * Return the estimated heap bytes of the cached inputs and results
+     */
+    public long getWeightBytes() {
+        return weightBytes;
+    }
+
+    /**
+     * Return hits / (hits + misses), or 0 before the first lookup
+     */
+    public double getHitRate() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+                + ", rejections=" + rejections + ", entries=" + entries + ", weightBytes=" + weightBytes + '}';
+    }
+}
@@ -0,0 +1,309 @@
+package com.endava.internship.warmup.domain.cache;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+import com.endava.internship.warmup.domain.model.IntSlice;
+import com.endava.internship.warmup.domain.model.IntSource;
+import com.endava.internship.warmup.domain.model.SparseIntMatrix;
+import com.endava.internship.warmup.domain.service.ArrayProcessor;
+
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link ArrayProcessor} decorator caching the results of matrix multiplication, distinct and merging sorted arrays,
+ * keyed on a content hash of the inputs and verified by comparing the inputs in full on a hit. Inputs and results
+ * are copied into the cache and results are copied out of it, so neither the caller nor the cache can observe the
+ * other's writes. Two threads missing on the same inputs both compute the result. Every other method, and any call
+ * with a null argument, goes straight to the delegate.
+ */
+public class CachingArrayProcessor implements ArrayProcessor {
+
+    public static final long DEFAULT_MAXIMUM_BYTES = 64L * 1024 * 1024;
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private static final int MATRIX_MULTIPLICATION = 0;
+    private static final int MATRIX_MULTIPLICATION_INT_MATRIX = 1;
+    private static final int DISTINCT = 2;
+    private static final int MERGE_SORTED_ARRAYS = 3;
+    private static final int MERGE_SORTED_ARRAYS_MANY = 4;
+
+    private final ArrayProcessor delegate;
+    private final ResultCache cache;
+
+    public CachingArrayProcessor(ArrayProcessor delegate) throws NullPointerException {
+        this(delegate, DEFAULT_MAXIMUM_BYTES, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * @param delegate the processor whose results are cached
+     * @param maximumBytes estimated heap bytes of cached inputs and results over all segments, a single result
+     *                     weighing more is not cached
+     * @param concurrencyLevel number of independently locked segments, rounded up to a power of two
+     * @throws NullPointerException when delegate is null
+     * @throws IllegalArgumentException when maximumBytes is negative or concurrencyLevel is not positive
+     */
+    public CachingArrayProcessor(ArrayProcessor delegate, long maximumBytes, int concurrencyLevel)
+            throws NullPointerException, IllegalArgumentException {
+        if (delegate == null) {
+            throw new NullPointerException();
+        }
+        if (maximumBytes < 0 || concurrencyLevel <= 0 || concurrencyLevel > 1 << 16) {
+            throw new IllegalArgumentException();
+        }
+        this.delegate = delegate;
+        this.cache = new ResultCache(maximumBytes, concurrencyLevel);
+    }
+
+    public ArrayProcessor getDelegate() {
+        return delegate;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Drop every cached result, keeping the counters
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Override
+    public int[][] matrixMultiplication(int[][] leftMatrix, int[][] rightMatrix) throws NullPointerException, IllegalArgumentException {
+        final CacheKey key = CacheKey.of(MATRIX_MULTIPLICATION, leftMatrix, rightMatrix);
+        if (key == null) {
+            return delegate.matrixMultiplication(leftMatrix, rightMatrix);
+        }
+        final int[][] cached = (int[][]) cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final int[][] result = delegate.matrixMultiplication(leftMatrix, rightMatrix);
+        cache.put(key, result);
+        return result;
+    }
+
+    @Override
+    public IntMatrix matrixMultiplication(IntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        final CacheKey key = CacheKey.of(MATRIX_MULTIPLICATION_INT_MATRIX, leftMatrix, rightMatrix);
+        if (key == null) {
+            return delegate.matrixMultiplication(leftMatrix, rightMatrix);
+        }
+        final IntMatrix cached = (IntMatrix) cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final IntMatrix result = delegate.matrixMultiplication(leftMatrix, rightMatrix);
+        cache.put(key, result);
+        return result;
+    }
+
+    @Override
+    public int[] distinct(int[] input) {
+        final CacheKey key = CacheKey.of(DISTINCT, input);
+        if (key == null) {
+            return delegate.distinct(input);
+        }
+        final int[] cached = (int[]) cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final int[] result = delegate.distinct(input);
+        cache.put(key, result);
+        return result;
+    }
+
+    @Override
+    public int[] mergeSortedArrays(int[] input, int[] input2) throws IllegalArgumentException {
+        final CacheKey key = CacheKey.of(MERGE_SORTED_ARRAYS, input, input2);
+        if (key == null) {
+            return delegate.mergeSortedArrays(input, input2);
+        }
+        final int[] cached = (int[]) cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final int[] result = delegate.mergeSortedArrays(input, input2);
+        cache.put(key, result);
+        return result;
+    }
+
+    @Override
+    public int[] mergeSortedArrays(int[]... inputs) throws IllegalArgumentException {
+        final CacheKey key = CacheKey.of(MERGE_SORTED_ARRAYS_MANY, (Object) inputs);
+        if (key == null) {
+            return delegate.mergeSortedArrays(inputs);
+        }
+        final int[] cached = (int[]) cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final int[] result = delegate.mergeSortedArrays(inputs);
+        cache.put(key, result);
+        return result;
+    }
+
+    @Override
+    public boolean noneMatch(int[] input) {
+        return delegate.noneMatch(input);
+    }
+
+    @Override
+    public boolean someMatch(int[] input, IntPredicate predicate) {
+        return delegate.someMatch(input, predicate);
+    }
+
+    @Override
+    public boolean allMatch(String[] input, ToIntFunction<String> function, IntPredicate predicate) {
+        return delegate.allMatch(input, function, predicate);
+    }
+
+    @Override
+    public boolean allMatch(IntSource input, IntPredicate predicate) throws NumberFormatException {
+        return delegate.allMatch(input, predicate);
+    }
+
+    @Override
+    public int[] copyValues(int[] input, int startInclusive, int endExclusive) throws IllegalArgumentException {
+        return delegate.copyValues(input, startInclusive, endExclusive);
+    }
+
+    @Override
+    public int[] replace(int[] input) {
+        return delegate.replace(input);
+    }
+
+    @Override
+    public int findSecondMax(int[] input) throws IllegalArgumentException {
+        return delegate.findSecondMax(input);
+    }
+
+    @Override
+    public int[] topK(int[] input, int k) throws IllegalArgumentException {
+        return delegate.topK(input, k);
+    }
+
+    @Override
+    public int kthLargest(int[] input, int k) throws IllegalArgumentException {
+        return delegate.kthLargest(input, k);
+    }
+
+    @Override
+    public int[] rearrange(int[] input) {
+        return delegate.rearrange(input);
+    }
+
+    @Override
+    public void rearrange(int[] input, int[] output) throws IllegalArgumentException {
+        delegate.rearrange(input, output);
+    }
+
+    @Override
+    public int[] filter(int[] input) {
+        return delegate.filter(input);
+    }
+
+    @Override
+    public int filterInto(int[] input, int[] output) throws IllegalArgumentException {
+        return delegate.filterInto(input, output);
+    }
+
+    @Override
+    public int[] insertValues(int[] input, int startInclusive, int[] values) throws IllegalArgumentException {
+        return delegate.insertValues(input, startInclusive, values);
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(int[][] leftMatrix, int[][] rightMatrix) throws NullPointerException, IllegalArgumentException {
+        delegate.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(IntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        delegate.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(SparseIntMatrix leftMatrix, SparseIntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        delegate.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+    }
+
+    @Override
+    public SparseIntMatrix matrixMultiplication(SparseIntMatrix leftMatrix, SparseIntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        return delegate.matrixMultiplication(leftMatrix, rightMatrix);
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(SparseIntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        delegate.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+    }
+
+    @Override
+    public IntMatrix matrixMultiplication(SparseIntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        return delegate.matrixMultiplication(leftMatrix, rightMatrix);
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output)
+            throws NullPointerException, IllegalArgumentException {
+        delegate.validateForMatrixMultiplication(leftMatrices, rightMatrices, output);
+    }
+
+    @Override
+    public void matrixMultiplication(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output)
+            throws NullPointerException, IllegalArgumentException {
+        delegate.matrixMultiplication(leftMatrices, rightMatrices, output);
+    }
+
+    @Override
+    public boolean noneMatch(IntSlice input) {
+        return delegate.noneMatch(input);
+    }
+
+    @Override
+    public boolean someMatch(IntSlice input, IntPredicate predicate) {
+        return delegate.someMatch(input, predicate);
+    }
+
+    @Override
+    public IntSlice copyValues(IntSlice input, int startInclusive, int endExclusive) throws IllegalArgumentException {
+        return delegate.copyValues(input, startInclusive, endExclusive);
+    }
+
+    @Override
+    public int[] replace(IntSlice input) {
+        return delegate.replace(input);
+    }
+
+    @Override
+    public int findSecondMax(IntSlice input) throws IllegalArgumentException {
+        return delegate.findSecondMax(input);
+    }
+
+    @Override
+    public int[] rearrange(IntSlice input) {
+        return delegate.rearrange(input);
+    }
+
+    @Override
+    public int[] filter(IntSlice input) {
+        return delegate.filter(input);
+    }
+
+    @Override
+    public int[] insertValues(IntSlice input, int startInclusive, IntSlice values) throws IllegalArgumentException {
+        return delegate.insertValues(input, startInclusive, values);
+    }
+
+    @Override
+    public int[] mergeSortedArrays(IntSlice input, IntSlice input2) throws IllegalArgumentException {
+        return delegate.mergeSortedArrays(input, input2);
+    }
+
+    @Override
+    public int[] distinct(IntSlice input) {
+        return delegate.distinct(input);
+    }
+}
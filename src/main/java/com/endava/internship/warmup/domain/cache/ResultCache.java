@@ -0,0 +1,223 @@
+package com.endava.internship.warmup.domain.cache;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte-bounded LRU split into lock-striped segments chosen by key hash, each an access ordered
+ * {@link LinkedHashMap}. The budget is shared by all segments: a write evicts the least recently used entries of
+ * its own segment first, then of the others, until the total weight fits again. Racing writers may overshoot the
+ * budget until the last of them has evicted. An entry weighing more than the whole budget is not cached and is
+ * counted as a rejection. Values are stored and handed out as private copies.
+ */
+final class ResultCache {
+
+    /**
+     * Rough per-entry cost of the map node, the entry holder and their headers
+     */
+    private static final long ENTRY_OVERHEAD = 64;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final long maximumBytes;
+    private final AtomicLong totalWeight = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    ResultCache(long maximumBytes, int concurrencyLevel) {
+        int segmentCount = 1;
+        while (segmentCount < concurrencyLevel) {
+            segmentCount <<= 1;
+        }
+        segments = new Segment[segmentCount];
+        segmentMask = segmentCount - 1;
+        this.maximumBytes = maximumBytes;
+        for (int i = 0; i < segmentCount; ++i) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Return a copy of the value cached for key, or null on a miss
+     */
+    Object get(CacheKey key) {
+        final Object value = segmentFor(key).get(key);
+        if (value == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy(value);
+    }
+
+    /**
+     * Cache a copy of value under a copy of key, unless the entry alone exceeds the budget
+     */
+    void put(CacheKey key, Object value) {
+        final CacheKey detached = key.detach();
+        final Object stored = copy(value);
+        final long weight = ENTRY_OVERHEAD + detached.weight() + weight(stored);
+        if (weight > maximumBytes) {
+            rejections.increment();
+            return;
+        }
+        final Segment segment = segmentFor(key);
+        segment.put(detached, stored, weight);
+        for (Segment other : segments) {
+            if (totalWeight.get() <= maximumBytes) {
+                return;
+            }
+            if (other != segment) {
+                other.evictWhileOverBudget();
+            }
+        }
+    }
+
+    void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    CacheStats stats() {
+        long entries = 0;
+        long weight = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                entries += segment.entries.size();
+                weight += segment.weight;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), rejections.sum(), entries, weight);
+    }
+
+    private Segment segmentFor(CacheKey key) {
+        final int hash = key.getHash();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    static Object copy(Object value) {
+        if (value instanceof int[]) {
+            return ((int[]) value).clone();
+        }
+        if (value instanceof int[][]) {
+            final int[][] rows = ((int[][]) value).clone();
+            for (int i = 0; i < rows.length; ++i) {
+                rows[i] = rows[i].clone();
+            }
+            return rows;
+        }
+        final IntMatrix matrix = (IntMatrix) value;
+        final int columns = matrix.getColumns();
+        final int[] data = new int[matrix.getRows() * columns];
+        for (int i = 0; i < matrix.getRows(); ++i) {
+            System.arraycopy(matrix.getData(), matrix.index(i, 0), data, i * columns, columns);
+        }
+        return IntMatrix.wrap(data, matrix.getRows(), columns);
+    }
+
+    static long weight(Object value) {
+        if (value instanceof int[]) {
+            return 16 + 4L * ((int[]) value).length;
+        }
+        if (value instanceof int[][]) {
+            final int[][] rows = (int[][]) value;
+            long weight = 16 + 4L * rows.length;
+            for (int[] row : rows) {
+                weight += 16 + 4L * row.length;
+            }
+            return weight;
+        }
+        final IntMatrix matrix = (IntMatrix) value;
+        return 32 + 16 + 4L * matrix.getRows() * matrix.getColumns();
+    }
+
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+
+        Object get(CacheKey key) {
+            lock.lock();
+            try {
+                final Entry entry = entries.get(key);
+                return entry == null ? null : entry.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Store the entry and evict the eldest other entries of this segment while the cache is over budget
+         */
+        void put(CacheKey key, Object value, long entryWeight) {
+            lock.lock();
+            try {
+                final Entry previous = entries.put(key, new Entry(value, entryWeight));
+                final long added = previous == null ? entryWeight : entryWeight - previous.weight;
+                weight += added;
+                totalWeight.addAndGet(added);
+                final Iterator<Map.Entry<CacheKey, Entry>> eldest = entries.entrySet().iterator();
+                while (entries.size() > 1 && totalWeight.get() > maximumBytes) {
+                    evict(eldest);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void evictWhileOverBudget() {
+            lock.lock();
+            try {
+                final Iterator<Map.Entry<CacheKey, Entry>> eldest = entries.entrySet().iterator();
+                while (eldest.hasNext() && totalWeight.get() > maximumBytes) {
+                    evict(eldest);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void evict(Iterator<Map.Entry<CacheKey, Entry>> eldest) {
+            final long evicted = eldest.next().getValue().weight;
+            eldest.remove();
+            weight -= evicted;
+            totalWeight.addAndGet(-evicted);
+            evictions.increment();
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+                totalWeight.addAndGet(-weight);
+                weight = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long weight;
+
+        Entry(Object value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
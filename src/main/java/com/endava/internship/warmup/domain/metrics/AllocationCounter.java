@@ -0,0 +1,46 @@
+package com.endava.internship.warmup.domain.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Bytes allocated so far by the current thread, where the JVM exposes them through
+ * {@link com.sun.management.ThreadMXBean}.
+ */
+final class AllocationCounter {
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationAwareThreads();
+
+    private AllocationCounter() {
+    }
+
+    static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Return the bytes allocated by the current thread, or -1 when that is not supported
+     */
+    static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationAwareThreads() {
+        try {
+            final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+            final com.sun.management.ThreadMXBean allocationAware = (com.sun.management.ThreadMXBean) threads;
+            if (!allocationAware.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            if (!allocationAware.isThreadAllocatedMemoryEnabled()) {
+                allocationAware.setThreadAllocatedMemoryEnabled(true);
+            }
+            return allocationAware;
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+    }
+}
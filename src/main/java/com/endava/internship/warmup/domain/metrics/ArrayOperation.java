@@ -0,0 +1,45 @@
+package com.endava.internship.warmup.domain.metrics;
+
+/**
+ * One constant per {@link com.endava.internship.warmup.domain.service.ArrayProcessor} method; overloads are told
+ * apart by a suffix naming the argument type that differs.
+ */
+public enum ArrayOperation {
+    NONE_MATCH,
+    SOME_MATCH,
+    ALL_MATCH_STRINGS,
+    ALL_MATCH_SOURCE,
+    COPY_VALUES,
+    REPLACE,
+    FIND_SECOND_MAX,
+    TOP_K,
+    KTH_LARGEST,
+    REARRANGE,
+    REARRANGE_INTO,
+    FILTER,
+    FILTER_INTO,
+    INSERT_VALUES,
+    MERGE_SORTED_ARRAYS,
+    MERGE_SORTED_ARRAYS_MANY,
+    VALIDATE_FOR_MATRIX_MULTIPLICATION,
+    MATRIX_MULTIPLICATION,
+    VALIDATE_FOR_MATRIX_MULTIPLICATION_INT_MATRIX,
+    MATRIX_MULTIPLICATION_INT_MATRIX,
+    VALIDATE_FOR_MATRIX_MULTIPLICATION_SPARSE,
+    MATRIX_MULTIPLICATION_SPARSE,
+    VALIDATE_FOR_MATRIX_MULTIPLICATION_SPARSE_INT_MATRIX,
+    MATRIX_MULTIPLICATION_SPARSE_INT_MATRIX,
+    VALIDATE_FOR_MATRIX_MULTIPLICATION_BATCH,
+    MATRIX_MULTIPLICATION_BATCH,
+    DISTINCT,
+    NONE_MATCH_SLICE,
+    SOME_MATCH_SLICE,
+    COPY_VALUES_SLICE,
+    REPLACE_SLICE,
+    FIND_SECOND_MAX_SLICE,
+    REARRANGE_SLICE,
+    FILTER_SLICE,
+    INSERT_VALUES_SLICE,
+    MERGE_SORTED_ARRAYS_SLICE,
+    DISTINCT_SLICE
+}
@@ -0,0 +1,175 @@
+package com.endava.internship.warmup.domain.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registers one {@link OperationMetricsMXBean} per {@link ArrayOperation} of an {@link InstrumentedArrayProcessor}
+ * under "com.endava.internship.warmup:type=ArrayProcessor,name=&lt;name&gt;,operation=&lt;operation&gt;".
+ */
+public final class ArrayProcessorMBeans implements AutoCloseable {
+
+    public static final String DOMAIN = "com.endava.internship.warmup";
+
+    private final MBeanServer server;
+    private final List<ObjectName> names;
+
+    private ArrayProcessorMBeans(MBeanServer server, List<ObjectName> names) {
+        this.server = server;
+        this.names = names;
+    }
+
+    /**
+     * Register the metrics of processor, or none of them when one of the names is already taken
+     *
+     * @param server e.g. {@link java.lang.management.ManagementFactory#getPlatformMBeanServer()}
+     * @param name distinguishes several instrumented processors, quoted if it is not a valid name value
+     * @throws InstanceAlreadyExistsException when a processor with the same name is registered
+     * @throws JMException when server rejects the registration
+     */
+    public static ArrayProcessorMBeans register(MBeanServer server, String name, InstrumentedArrayProcessor processor)
+            throws JMException {
+        final List<ObjectName> registered = new ArrayList<>();
+        try {
+            for (ArrayOperation operation : ArrayOperation.values()) {
+                final ObjectName objectName = objectName(name, operation);
+                server.registerMBean(new OperationMetricsView(processor, operation), objectName);
+                registered.add(objectName);
+            }
+        } catch (JMException | RuntimeException e) {
+            unregister(server, registered);
+            throw e;
+        }
+        return new ArrayProcessorMBeans(server, Collections.unmodifiableList(registered));
+    }
+
+    static ObjectName objectName(String name, ArrayOperation operation) throws MalformedObjectNameException {
+        final String value = isPlainValue(name) ? name : ObjectName.quote(name);
+        return new ObjectName(DOMAIN + ":type=ArrayProcessor,name=" + value + ",operation=" + operation.name());
+    }
+
+    public List<ObjectName> getNames() {
+        return names;
+    }
+
+    /**
+     * Unregister every MBean registered by this instance
+     */
+    @Override
+    public void close() {
+        unregister(server, names);
+    }
+
+    private static boolean isPlainValue(String value) {
+        for (int i = 0; i < value.length(); ++i) {
+            if (",=:\"*?\n".indexOf(value.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return !value.isEmpty();
+    }
+
+    private static void unregister(MBeanServer server, List<ObjectName> names) {
+        for (ObjectName name : names) {
+            try {
+                server.unregisterMBean(name);
+            } catch (InstanceNotFoundException e) {
+                // already gone
+            } catch (JMException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class OperationMetricsView implements OperationMetricsMXBean {
+
+        private final InstrumentedArrayProcessor processor;
+        private final ArrayOperation operation;
+
+        OperationMetricsView(InstrumentedArrayProcessor processor, ArrayOperation operation) {
+            this.processor = processor;
+            this.operation = operation;
+        }
+
+        private OperationSnapshot snapshot() {
+            return processor.snapshot(operation);
+        }
+
+        @Override
+        public String getOperation() {
+            return operation.name();
+        }
+
+        @Override
+        public long getCalls() {
+            return snapshot().getCalls();
+        }
+
+        @Override
+        public long getFailures() {
+            return snapshot().getFailures();
+        }
+
+        @Override
+        public double getMeanInputSize() {
+            return snapshot().getInputSizes().getMean();
+        }
+
+        @Override
+        public long getInputSizeP50() {
+            return snapshot().getInputSizes().getValueAtPercentile(50);
+        }
+
+        @Override
+        public long getInputSizeP99() {
+            return snapshot().getInputSizes().getValueAtPercentile(99);
+        }
+
+        @Override
+        public long getMaxInputSize() {
+            return snapshot().getInputSizes().getMax();
+        }
+
+        @Override
+        public double getMeanLatencyNanos() {
+            return snapshot().getLatencyNanos().getMean();
+        }
+
+        @Override
+        public long getLatencyNanosP50() {
+            return snapshot().getLatencyNanos().getValueAtPercentile(50);
+        }
+
+        @Override
+        public long getLatencyNanosP99() {
+            return snapshot().getLatencyNanos().getValueAtPercentile(99);
+        }
+
+        @Override
+        public long getLatencyNanosP999() {
+            return snapshot().getLatencyNanos().getValueAtPercentile(99.9);
+        }
+
+        @Override
+        public long getMaxLatencyNanos() {
+            return snapshot().getLatencyNanos().getMax();
+        }
+
+        @Override
+        public double getMeanAllocatedBytes() {
+            return snapshot().getAllocatedBytes().getMean();
+        }
+
+        @Override
+        public long getMaxAllocatedBytes() {
+            return snapshot().getAllocatedBytes().getMax();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.endava.internship.warmup.domain.metrics;
+
+/**
+ * Immutable copy of a {@link LogLinearHistogram}.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long min;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long min, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.min = count == 0 ? 0 : min;
+        this.max = count == 0 ? 0 : max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Return the smallest recorded value, or 0 when nothing was recorded
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Return the largest recorded value, or 0 when nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Return an upper bound, within the bucket precision, of the value below which percentile percent of the
+     * recorded values fall, or 0 when nothing was recorded
+     *
+     * @param percentile in [0, 100]
+     * @throws IllegalArgumentException when percentile is outside of [0, 100]
+     */
+    public long getValueAtPercentile(double percentile) throws IllegalArgumentException {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException();
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; ++i) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, LogLinearHistogram.bucketUpperBound(i)));
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,411 @@
+package com.endava.internship.warmup.domain.metrics;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+import com.endava.internship.warmup.domain.model.IntSlice;
+import com.endava.internship.warmup.domain.model.IntSource;
+import com.endava.internship.warmup.domain.model.SparseIntMatrix;
+import com.endava.internship.warmup.domain.service.ArrayProcessor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link ArrayProcessor} decorator recording, per method, the number of calls and failures and histograms of the
+ * input size, the latency and the bytes allocated by the calling thread. Recording takes a few atomic increments
+ * per call and never blocks; work a delegate hands to other threads is not part of the allocated bytes.
+ */
+public class InstrumentedArrayProcessor implements ArrayProcessor {
+
+    private final ArrayProcessor delegate;
+    private final boolean measureAllocations;
+    private final OperationMetrics[] metrics = new OperationMetrics[ArrayOperation.values().length];
+
+    /**
+     * Instrument delegate, measuring allocations where the JVM supports it
+     */
+    public InstrumentedArrayProcessor(ArrayProcessor delegate) throws NullPointerException {
+        this(delegate, true);
+    }
+
+    /**
+     * @param delegate the instrumented processor
+     * @param measureAllocations whether to read the thread allocation counter around every call, which is ignored
+     *                           when the JVM does not expose it
+     * @throws NullPointerException when delegate is null
+     */
+    public InstrumentedArrayProcessor(ArrayProcessor delegate, boolean measureAllocations) throws NullPointerException {
+        if (delegate == null) {
+            throw new NullPointerException();
+        }
+        this.delegate = delegate;
+        this.measureAllocations = measureAllocations && AllocationCounter.isSupported();
+        for (ArrayOperation operation : ArrayOperation.values()) {
+            metrics[operation.ordinal()] = new OperationMetrics(operation);
+        }
+    }
+
+    public ArrayProcessor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Return whether allocated bytes are recorded
+     */
+    public boolean isMeasuringAllocations() {
+        return measureAllocations;
+    }
+
+    public OperationSnapshot snapshot(ArrayOperation operation) {
+        return metrics[operation.ordinal()].snapshot();
+    }
+
+    /**
+     * Return one snapshot per operation, in {@link ArrayOperation} order
+     */
+    public Map<ArrayOperation, OperationSnapshot> snapshot() {
+        final Map<ArrayOperation, OperationSnapshot> snapshots = new EnumMap<>(ArrayOperation.class);
+        for (OperationMetrics operation : metrics) {
+            final OperationSnapshot snapshot = operation.snapshot();
+            snapshots.put(snapshot.getOperation(), snapshot);
+        }
+        return snapshots;
+    }
+
+    /**
+     * Hand a fresh snapshot of every operation to reporter, e.g. from a scheduled task
+     */
+    public void report(MetricsReporter reporter) {
+        reporter.report(snapshot());
+    }
+
+    @Override
+    public boolean noneMatch(int[] input) {
+        return timedBoolean(ArrayOperation.NONE_MATCH, length(input), () -> delegate.noneMatch(input));
+    }
+
+    @Override
+    public boolean someMatch(int[] input, IntPredicate predicate) {
+        return timedBoolean(ArrayOperation.SOME_MATCH, length(input), () -> delegate.someMatch(input, predicate));
+    }
+
+    @Override
+    public boolean allMatch(String[] input, ToIntFunction<String> function, IntPredicate predicate) {
+        return timedBoolean(ArrayOperation.ALL_MATCH_STRINGS, input == null ? 0 : input.length, () -> delegate.allMatch(input, function, predicate));
+    }
+
+    @Override
+    public boolean allMatch(IntSource input, IntPredicate predicate) throws NumberFormatException {
+        // the input size is only known once the delegate has read the source, so it is recorded by hand
+        final CountingIntSource counting = input == null ? null : new CountingIntSource(input);
+        final long allocated = allocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            return delegate.allMatch(counting, predicate);
+        } catch (RuntimeException | Error e) {
+            failed(ArrayOperation.ALL_MATCH_SOURCE);
+            throw e;
+        } finally {
+            record(ArrayOperation.ALL_MATCH_SOURCE, counting == null ? 0 : counting.read, start, allocated);
+        }
+    }
+
+    @Override
+    public int[] copyValues(int[] input, int startInclusive, int endExclusive) throws IllegalArgumentException {
+        return timed(ArrayOperation.COPY_VALUES, length(input), () -> delegate.copyValues(input, startInclusive, endExclusive));
+    }
+
+    @Override
+    public int[] replace(int[] input) {
+        return timed(ArrayOperation.REPLACE, length(input), () -> delegate.replace(input));
+    }
+
+    @Override
+    public int findSecondMax(int[] input) throws IllegalArgumentException {
+        return timedInt(ArrayOperation.FIND_SECOND_MAX, length(input), () -> delegate.findSecondMax(input));
+    }
+
+    @Override
+    public int[] topK(int[] input, int k) throws IllegalArgumentException {
+        return timed(ArrayOperation.TOP_K, length(input), () -> delegate.topK(input, k));
+    }
+
+    @Override
+    public int kthLargest(int[] input, int k) throws IllegalArgumentException {
+        return timedInt(ArrayOperation.KTH_LARGEST, length(input), () -> delegate.kthLargest(input, k));
+    }
+
+    @Override
+    public int[] rearrange(int[] input) {
+        return timed(ArrayOperation.REARRANGE, length(input), () -> delegate.rearrange(input));
+    }
+
+    @Override
+    public void rearrange(int[] input, int[] output) throws IllegalArgumentException {
+        timed(ArrayOperation.REARRANGE_INTO, length(input), () -> delegate.rearrange(input, output));
+    }
+
+    @Override
+    public int[] filter(int[] input) {
+        return timed(ArrayOperation.FILTER, length(input), () -> delegate.filter(input));
+    }
+
+    @Override
+    public int filterInto(int[] input, int[] output) throws IllegalArgumentException {
+        return timedInt(ArrayOperation.FILTER_INTO, length(input), () -> delegate.filterInto(input, output));
+    }
+
+    @Override
+    public int[] insertValues(int[] input, int startInclusive, int[] values) throws IllegalArgumentException {
+        return timed(ArrayOperation.INSERT_VALUES, length(input) + length(values), () -> delegate.insertValues(input, startInclusive, values));
+    }
+
+    @Override
+    public int[] mergeSortedArrays(int[] input, int[] input2) throws IllegalArgumentException {
+        return timed(ArrayOperation.MERGE_SORTED_ARRAYS, length(input) + length(input2), () -> delegate.mergeSortedArrays(input, input2));
+    }
+
+    @Override
+    public int[] mergeSortedArrays(int[]... inputs) throws IllegalArgumentException {
+        return timed(ArrayOperation.MERGE_SORTED_ARRAYS_MANY, cells(inputs), () -> delegate.mergeSortedArrays(inputs));
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(int[][] leftMatrix, int[][] rightMatrix) throws NullPointerException, IllegalArgumentException {
+        timed(ArrayOperation.VALIDATE_FOR_MATRIX_MULTIPLICATION, cells(leftMatrix) + cells(rightMatrix), () -> delegate.validateForMatrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Override
+    public int[][] matrixMultiplication(int[][] leftMatrix, int[][] rightMatrix) throws NullPointerException, IllegalArgumentException {
+        return timed(ArrayOperation.MATRIX_MULTIPLICATION, cells(leftMatrix) + cells(rightMatrix), () -> delegate.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(IntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        timed(ArrayOperation.VALIDATE_FOR_MATRIX_MULTIPLICATION_INT_MATRIX, cells(leftMatrix) + cells(rightMatrix), () -> delegate.validateForMatrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Override
+    public IntMatrix matrixMultiplication(IntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        return timed(ArrayOperation.MATRIX_MULTIPLICATION_INT_MATRIX, cells(leftMatrix) + cells(rightMatrix), () -> delegate.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(SparseIntMatrix leftMatrix, SparseIntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        timed(ArrayOperation.VALIDATE_FOR_MATRIX_MULTIPLICATION_SPARSE, cells(leftMatrix) + cells(rightMatrix), () -> delegate.validateForMatrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Override
+    public SparseIntMatrix matrixMultiplication(SparseIntMatrix leftMatrix, SparseIntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        return timed(ArrayOperation.MATRIX_MULTIPLICATION_SPARSE, cells(leftMatrix) + cells(rightMatrix), () -> delegate.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(SparseIntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        timed(ArrayOperation.VALIDATE_FOR_MATRIX_MULTIPLICATION_SPARSE_INT_MATRIX, cells(leftMatrix) + cells(rightMatrix), () -> delegate.validateForMatrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Override
+    public IntMatrix matrixMultiplication(SparseIntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        return timed(ArrayOperation.MATRIX_MULTIPLICATION_SPARSE_INT_MATRIX, cells(leftMatrix) + cells(rightMatrix), () -> delegate.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Override
+    public void validateForMatrixMultiplication(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output)
+            throws NullPointerException, IllegalArgumentException {
+        timed(ArrayOperation.VALIDATE_FOR_MATRIX_MULTIPLICATION_BATCH, cells(leftMatrices) + cells(rightMatrices), () -> delegate.validateForMatrixMultiplication(leftMatrices, rightMatrices, output));
+    }
+
+    @Override
+    public void matrixMultiplication(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output)
+            throws NullPointerException, IllegalArgumentException {
+        timed(ArrayOperation.MATRIX_MULTIPLICATION_BATCH, cells(leftMatrices) + cells(rightMatrices), () -> delegate.matrixMultiplication(leftMatrices, rightMatrices, output));
+    }
+
+    @Override
+    public int[] distinct(int[] input) {
+        return timed(ArrayOperation.DISTINCT, length(input), () -> delegate.distinct(input));
+    }
+
+    @Override
+    public boolean noneMatch(IntSlice input) {
+        return timedBoolean(ArrayOperation.NONE_MATCH_SLICE, length(input), () -> delegate.noneMatch(input));
+    }
+
+    @Override
+    public boolean someMatch(IntSlice input, IntPredicate predicate) {
+        return timedBoolean(ArrayOperation.SOME_MATCH_SLICE, length(input), () -> delegate.someMatch(input, predicate));
+    }
+
+    @Override
+    public IntSlice copyValues(IntSlice input, int startInclusive, int endExclusive) throws IllegalArgumentException {
+        return timed(ArrayOperation.COPY_VALUES_SLICE, length(input), () -> delegate.copyValues(input, startInclusive, endExclusive));
+    }
+
+    @Override
+    public int[] replace(IntSlice input) {
+        return timed(ArrayOperation.REPLACE_SLICE, length(input), () -> delegate.replace(input));
+    }
+
+    @Override
+    public int findSecondMax(IntSlice input) throws IllegalArgumentException {
+        return timedInt(ArrayOperation.FIND_SECOND_MAX_SLICE, length(input), () -> delegate.findSecondMax(input));
+    }
+
+    @Override
+    public int[] rearrange(IntSlice input) {
+        return timed(ArrayOperation.REARRANGE_SLICE, length(input), () -> delegate.rearrange(input));
+    }
+
+    @Override
+    public int[] filter(IntSlice input) {
+        return timed(ArrayOperation.FILTER_SLICE, length(input), () -> delegate.filter(input));
+    }
+
+    @Override
+    public int[] insertValues(IntSlice input, int startInclusive, IntSlice values) throws IllegalArgumentException {
+        return timed(ArrayOperation.INSERT_VALUES_SLICE, length(input) + length(values), () -> delegate.insertValues(input, startInclusive, values));
+    }
+
+    @Override
+    public int[] mergeSortedArrays(IntSlice input, IntSlice input2) throws IllegalArgumentException {
+        return timed(ArrayOperation.MERGE_SORTED_ARRAYS_SLICE, length(input) + length(input2), () -> delegate.mergeSortedArrays(input, input2));
+    }
+
+    @Override
+    public int[] distinct(IntSlice input) {
+        return timed(ArrayOperation.DISTINCT_SLICE, length(input), () -> delegate.distinct(input));
+    }
+
+    /**
+     * Run call, recording its latency, input size, allocations and failure under operation
+     */
+    private <T> T timed(ArrayOperation operation, long inputSize, Supplier<T> call) {
+        final long allocated = allocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            return call.get();
+        } catch (RuntimeException | Error e) {
+            failed(operation);
+            throw e;
+        } finally {
+            record(operation, inputSize, start, allocated);
+        }
+    }
+
+    private int timedInt(ArrayOperation operation, long inputSize, IntSupplier call) {
+        final long allocated = allocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            return call.getAsInt();
+        } catch (RuntimeException | Error e) {
+            failed(operation);
+            throw e;
+        } finally {
+            record(operation, inputSize, start, allocated);
+        }
+    }
+
+    private boolean timedBoolean(ArrayOperation operation, long inputSize, BooleanSupplier call) {
+        final long allocated = allocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            return call.getAsBoolean();
+        } catch (RuntimeException | Error e) {
+            failed(operation);
+            throw e;
+        } finally {
+            record(operation, inputSize, start, allocated);
+        }
+    }
+
+    private void timed(ArrayOperation operation, long inputSize, Runnable call) {
+        final long allocated = allocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            call.run();
+        } catch (RuntimeException | Error e) {
+            failed(operation);
+            throw e;
+        } finally {
+            record(operation, inputSize, start, allocated);
+        }
+    }
+
+    private long allocatedBytes() {
+        return measureAllocations ? AllocationCounter.currentThreadAllocatedBytes() : -1;
+    }
+
+    private void record(ArrayOperation operation, long inputSize, long start, long allocated) {
+        final long latency = System.nanoTime() - start;
+        final long allocatedDuringCall = allocated < 0 ? -1 : AllocationCounter.currentThreadAllocatedBytes() - allocated;
+        metrics[operation.ordinal()].record(inputSize, latency, allocatedDuringCall);
+    }
+
+    private void failed(ArrayOperation operation) {
+        metrics[operation.ordinal()].failed();
+    }
+
+    private static int length(int[] input) {
+        return input == null ? 0 : input.length;
+    }
+
+    private static int length(IntSlice input) {
+        return input == null ? 0 : input.getLength();
+    }
+
+    private static long cells(int[][] rows) {
+        long cells = 0;
+        if (rows != null) {
+            for (int[] row : rows) {
+                cells += length(row);
+            }
+        }
+        return cells;
+    }
+
+    private static long cells(IntMatrix matrix) {
+        return matrix == null ? 0 : (long) matrix.getRows() * matrix.getColumns();
+    }
+
+    /**
+     * The stored values, which is what the sparse kernels work on
+     */
+    private static long cells(SparseIntMatrix matrix) {
+        return matrix == null ? 0 : matrix.getNonZeros();
+    }
+
+    private static long cells(IntMatrixBatch batch) {
+        return batch == null ? 0 : batch.length();
+    }
+
+    /**
+     * Count the values the delegate reads, which is the input size of a lazily parsed source
+     */
+    private static final class CountingIntSource implements IntSource {
+
+        private final IntSource source;
+        private long read;
+
+        CountingIntSource(IntSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            final int value = source.nextInt();
+            ++read;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.endava.internship.warmup.domain.metrics;
+
+import java.util.Map;
+
+/**
+ * Destination of metric snapshots, e.g. an adapter to a metrics agent.
+ */
+@FunctionalInterface
+public interface MetricsReporter {
+
+    /**
+     * @param snapshots one snapshot per operation, in {@link ArrayOperation} order
+     */
+    void report(Map<ArrayOperation, OperationSnapshot> snapshots);
+}
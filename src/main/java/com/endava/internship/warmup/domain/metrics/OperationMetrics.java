@@ -0,0 +1,40 @@
+package com.endava.internship.warmup.domain.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of one {@link ArrayOperation}.
+ */
+final class OperationMetrics {
+
+    private final ArrayOperation operation;
+    private final LongAdder failures = new LongAdder();
+    private final LogLinearHistogram inputSizes = new LogLinearHistogram();
+    private final LogLinearHistogram latencyNanos = new LogLinearHistogram();
+    private final LogLinearHistogram allocatedBytes = new LogLinearHistogram();
+
+    OperationMetrics(ArrayOperation operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * @param allocated bytes allocated during the call, negative when unknown
+     */
+    void record(long inputSize, long latency, long allocated) {
+        inputSizes.record(inputSize);
+        latencyNanos.record(latency);
+        if (allocated >= 0) {
+            allocatedBytes.record(allocated);
+        }
+    }
+
+    void failed() {
+        failures.increment();
+    }
+
+    OperationSnapshot snapshot() {
+        final HistogramSnapshot sizes = inputSizes.snapshot();
+        return new OperationSnapshot(operation, sizes.getCount(), failures.sum(), sizes,
+                latencyNanos.snapshot(), allocatedBytes.snapshot());
+    }
+}
@@ -0,0 +1,38 @@
+package com.endava.internship.warmup.domain.metrics;
+
+/**
+ * JMX view of the metrics of one {@link ArrayOperation}; every attribute is read from a fresh snapshot.
+ */
+public interface OperationMetricsMXBean {
+
+    String getOperation();
+
+    long getCalls();
+
+    long getFailures();
+
+    double getMeanInputSize();
+
+    long getInputSizeP50();
+
+    long getInputSizeP99();
+
+    long getMaxInputSize();
+
+    double getMeanLatencyNanos();
+
+    long getLatencyNanosP50();
+
+    long getLatencyNanosP99();
+
+    long getLatencyNanosP999();
+
+    long getMaxLatencyNanos();
+
+    /**
+     * Return the mean bytes allocated by the calling thread per call, 0 when allocations are not measured
+     */
+    double getMeanAllocatedBytes();
+
+    long getMaxAllocatedBytes();
+}
@@ -0,0 +1,58 @@
+package com.endava.internship.warmup.domain.metrics;
+
+/**
+ * Metrics recorded for one {@link ArrayOperation} up to the moment the snapshot was taken.
+ */
+public final class OperationSnapshot {
+
+    private final ArrayOperation operation;
+    private final long calls;
+    private final long failures;
+    private final HistogramSnapshot inputSizes;
+    private final HistogramSnapshot latencyNanos;
+    private final HistogramSnapshot allocatedBytes;
+
+    OperationSnapshot(ArrayOperation operation, long calls, long failures, HistogramSnapshot inputSizes,
+                      HistogramSnapshot latencyNanos, HistogramSnapshot allocatedBytes) {
+        this.operation = operation;
+        this.calls = calls;
+        this.failures = failures;
+        this.inputSizes = inputSizes;
+        this.latencyNanos = latencyNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public ArrayOperation getOperation() {
+        return operation;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * Return the number of calls that threw
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Return the distribution of input elements per call, e.g. the total cells of both matrices
+     */
+    public HistogramSnapshot getInputSizes() {
+        return inputSizes;
+    }
+
+    public HistogramSnapshot getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * Return the distribution of bytes allocated by the calling thread per call; empty when the JVM does not
+     * expose per-thread allocation or it was not requested
+     */
+    public HistogramSnapshot getAllocatedBytes() {
+        return allocatedBytes;
+    }
+}
@@ -0,0 +1,136 @@
+package com.endava.internship.warmup.domain.model;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link IntSource} parsing decimal ints separated by a single delimiter character, with the same rules as
+ * {@link Integer#parseInt(String)} for each token. A trailing delimiter at the very end is allowed.
+ * No objects are created per value.
+ */
+final class DelimitedIntSource implements IntSource {
+
+    private final Text text;
+    private final char delimiter;
+    private int position;
+
+    DelimitedIntSource(Text text, char delimiter) {
+        this.text = text;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < text.length();
+    }
+
+    @Override
+    public int nextInt() {
+        final int length = text.length();
+        if (position >= length) {
+            throw new NoSuchElementException();
+        }
+        final int start = position;
+        int i = position;
+        boolean negative = false;
+        // accumulate negatively so that Integer.MIN_VALUE does not overflow
+        int limit = -Integer.MAX_VALUE;
+        int result = 0;
+
+        char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (negative) {
+                limit = Integer.MIN_VALUE;
+            }
+            ++i;
+        }
+        final int digitsStart = i;
+        final int multiplyLimit = limit / 10;
+
+        for (; i < length; ++i) {
+            char c = text.charAt(i);
+            if (c == delimiter) {
+                break;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw numberFormat(start, length);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormat(start, length);
+            }
+            result -= digit;
+        }
+
+        if (i == digitsStart) {
+            throw numberFormat(start, length);
+        }
+        position = i + 1;
+        return negative ? result : -result;
+    }
+
+    private NumberFormatException numberFormat(int start, int length) {
+        int end = start;
+        while (end < length && text.charAt(end) != delimiter) {
+            ++end;
+        }
+        StringBuilder token = new StringBuilder(end - start);
+        for (int i = start; i < end; ++i) {
+            token.append(text.charAt(i));
+        }
+        return new NumberFormatException("For input string: \"" + token + "\" at offset " + start);
+    }
+
+    /**
+     * Random access to the characters being parsed
+     */
+    interface Text {
+        int length();
+
+        char charAt(int index);
+    }
+
+    static final class CharSequenceText implements Text {
+
+        private final CharSequence text;
+
+        CharSequenceText(CharSequence text) {
+            this.text = text;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return text.charAt(index);
+        }
+    }
+
+    static final class ByteBufferText implements Text {
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+
+        ByteBufferText(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.offset = buffer.position();
+            this.length = buffer.remaining();
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(offset + index) & 0xFF);
+        }
+    }
+}
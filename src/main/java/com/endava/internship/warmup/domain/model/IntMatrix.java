@@ -0,0 +1,191 @@
+package com.endava.internship.warmup.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Row-major int matrix backed by a single int[]. Element [row][column] is stored at
+ * {@code offset + row * stride + column}, so sub-matrices can be viewed without copying.
+ */
+public final class IntMatrix {
+
+    private final int[] data;
+    private final int offset;
+    private final int rows;
+    private final int columns;
+    private final int stride;
+
+    private IntMatrix(int[] data, int offset, int rows, int columns, int stride) {
+        this.data = data;
+        this.offset = offset;
+        this.rows = rows;
+        this.columns = columns;
+        this.stride = stride;
+    }
+
+    /**
+     * Create a zero filled matrix
+     * @throws IllegalArgumentException when a dimension is negative
+     */
+    public static IntMatrix zeros(int rows, int columns) throws IllegalArgumentException {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException();
+        }
+        return new IntMatrix(new int[Math.multiplyExact(rows, columns)], 0, rows, columns, columns);
+    }
+
+    /**
+     * View data as a rows x columns matrix without copying it
+     * @param data non-null array holding at least rows * columns values in row-major order
+     * @throws NullPointerException when data is null
+     * @throws IllegalArgumentException when data is too short for the dimensions
+     */
+    public static IntMatrix wrap(int[] data, int rows, int columns) throws NullPointerException, IllegalArgumentException {
+        return wrap(data, 0, rows, columns, columns);
+    }
+
+    /**
+     * View a strided region of data as a rows x columns matrix without copying it
+     * @throws NullPointerException when data is null
+     * @throws IllegalArgumentException when the region does not fit into data
+     */
+    public static IntMatrix wrap(int[] data, int offset, int rows, int columns, int stride)
+            throws NullPointerException, IllegalArgumentException {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+        if (offset < 0 || rows < 0 || columns < 0 || stride < columns) {
+            throw new IllegalArgumentException();
+        }
+        if (rows > 0 && columns > 0 && offset + (long) (rows - 1) * stride + columns > data.length) {
+            throw new IllegalArgumentException();
+        }
+        return new IntMatrix(data, offset, rows, columns, stride);
+    }
+
+    /**
+     * Pack a [row][column] matrix into contiguous storage. This is the only place that walks the rows.
+     * @throws NullPointerException when the matrix or any of its rows are null
+     * @throws IllegalArgumentException when the rows have different lengths
+     */
+    public static IntMatrix of(int[][] matrix) throws NullPointerException, IllegalArgumentException {
+        if (matrix == null) {
+            throw new NullPointerException();
+        }
+        int rows = matrix.length;
+        int columns = rows == 0 ? 0 : matrix[0].length;
+        IntMatrix packed = zeros(rows, columns);
+
+        for (int i = 0; i < rows; ++i) {
+            if (matrix[i].length != columns) {
+                throw new IllegalArgumentException();
+            }
+            System.arraycopy(matrix[i], 0, packed.data, i * columns, columns);
+        }
+        return packed;
+    }
+
+    /**
+     * View a block of this matrix without copying it
+     * @throws IllegalArgumentException when the block is outside of this matrix
+     */
+    public IntMatrix subMatrix(int rowFrom, int columnFrom, int subRows, int subColumns) throws IllegalArgumentException {
+        if (rowFrom < 0 || columnFrom < 0 || subRows < 0 || subColumns < 0
+                || rowFrom + subRows > rows || columnFrom + subColumns > columns) {
+            throw new IllegalArgumentException();
+        }
+        return new IntMatrix(data, index(rowFrom, columnFrom), subRows, subColumns, stride);
+    }
+
+    /**
+     * Unpack into a new [row][column] matrix
+     */
+    public int[][] toArray() {
+        int[][] matrix = new int[rows][];
+        for (int i = 0; i < rows; ++i) {
+            int start = offset + i * stride;
+            matrix[i] = Arrays.copyOfRange(data, start, start + columns);
+        }
+        return matrix;
+    }
+
+    public int get(int row, int column) {
+        checkElement(row, column);
+        return data[index(row, column)];
+    }
+
+    public void set(int row, int column, int value) {
+        checkElement(row, column);
+        data[index(row, column)] = value;
+    }
+
+    /**
+     * Position of [row][column] inside {@link #getData()}, without bounds checking
+     */
+    public int index(int row, int column) {
+        return offset + row * stride + column;
+    }
+
+    public int[] getData() {
+        return data;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    private void checkElement(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntMatrix)) {
+            return false;
+        }
+        IntMatrix other = (IntMatrix) o;
+        if (rows != other.rows || columns != other.columns) {
+            return false;
+        }
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                if (data[index(i, j)] != other.data[other.index(i, j)]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 * rows + columns;
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                hash = 31 * hash + data[index(i, j)];
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.deepToString(toArray());
+    }
+}
@@ -0,0 +1,112 @@
+package com.endava.internship.warmup.domain.model;
+
+/**
+ * Batch of count same-shaped row-major int matrices packed back to back in one int[]. Matrix b starts at
+ * {@code offset + b * rows * columns}, so a whole batch is validated and traversed without per-matrix objects.
+ */
+public final class IntMatrixBatch {
+
+    private final int[] data;
+    private final int offset;
+    private final int count;
+    private final int rows;
+    private final int columns;
+
+    private IntMatrixBatch(int[] data, int offset, int count, int rows, int columns) {
+        this.data = data;
+        this.offset = offset;
+        this.count = count;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Create a zero filled batch
+     * @throws IllegalArgumentException when a dimension is negative or the batch exceeds an int[]
+     */
+    public static IntMatrixBatch zeros(int count, int rows, int columns) throws IllegalArgumentException {
+        if (count < 0 || rows < 0 || columns < 0 || cells(count, rows, columns) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException();
+        }
+        return new IntMatrixBatch(new int[count * rows * columns], 0, count, rows, columns);
+    }
+
+    /**
+     * View data as count rows x columns matrices without copying it
+     * @throws NullPointerException when data is null
+     * @throws IllegalArgumentException when data is too short for the dimensions
+     */
+    public static IntMatrixBatch wrap(int[] data, int count, int rows, int columns) throws NullPointerException, IllegalArgumentException {
+        return wrap(data, 0, count, rows, columns);
+    }
+
+    /**
+     * View data from offset as count rows x columns matrices without copying it
+     * @throws NullPointerException when data is null
+     * @throws IllegalArgumentException when the batch does not fit into data
+     */
+    public static IntMatrixBatch wrap(int[] data, int offset, int count, int rows, int columns)
+            throws NullPointerException, IllegalArgumentException {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+        if (offset < 0 || count < 0 || rows < 0 || columns < 0
+                || cells(count, rows, columns) > data.length - offset) {
+            throw new IllegalArgumentException();
+        }
+        return new IntMatrixBatch(data, offset, count, rows, columns);
+    }
+
+    /**
+     * Return count * rows * columns for non-negative dimensions, or Long.MAX_VALUE when it does not fit a long
+     */
+    private static long cells(int count, int rows, int columns) {
+        final long matrixCells = (long) rows * columns;
+        return count == 0 || matrixCells <= Long.MAX_VALUE / count ? count * matrixCells : Long.MAX_VALUE;
+    }
+
+    /**
+     * View matrix b of the batch without copying it
+     * @throws IndexOutOfBoundsException when b is outside of [0, count)
+     */
+    public IntMatrix get(int b) throws IndexOutOfBoundsException {
+        if (b < 0 || b >= count) {
+            throw new IndexOutOfBoundsException();
+        }
+        return IntMatrix.wrap(data, start(b), rows, columns, columns);
+    }
+
+    /**
+     * Position of the first value of matrix b inside {@link #getData()}, without bounds checking
+     */
+    public int start(int b) {
+        return offset + b * rows * columns;
+    }
+
+    /**
+     * Return the length of the packed region, count * rows * columns
+     */
+    public int length() {
+        return count * rows * columns;
+    }
+
+    public int[] getData() {
+        return data;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,114 @@
+package com.endava.internship.warmup.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Read-only view of the range [offset, offset + length) of an int array. Creating a slice, or a slice of a slice,
+ * never copies; {@link #toArray()} does. The backing array is exposed for fast iteration and must not be modified.
+ */
+public final class IntSlice {
+
+    private final int[] array;
+    private final int offset;
+    private final int length;
+
+    private IntSlice(int[] array, int offset, int length) {
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * View the whole array
+     * @throws NullPointerException when array is null
+     */
+    public static IntSlice of(int[] array) throws NullPointerException {
+        if (array == null) {
+            throw new NullPointerException();
+        }
+        return new IntSlice(array, 0, array.length);
+    }
+
+    /**
+     * View array[startInclusive, endExclusive)
+     * @throws NullPointerException when array is null
+     * @throws IllegalArgumentException when the range is outside of array bounds
+     */
+    public static IntSlice of(int[] array, int startInclusive, int endExclusive) throws NullPointerException, IllegalArgumentException {
+        return of(array).subSlice(startInclusive, endExclusive);
+    }
+
+    /**
+     * View the range [startInclusive, endExclusive) of this slice
+     * @throws IllegalArgumentException when the range is outside of this slice
+     */
+    public IntSlice subSlice(int startInclusive, int endExclusive) throws IllegalArgumentException {
+        if (startInclusive < 0 || endExclusive > length || startInclusive > endExclusive) {
+            throw new IllegalArgumentException();
+        }
+        return new IntSlice(array, offset + startInclusive, endExclusive - startInclusive);
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException when index is outside of [0, length)
+     */
+    public int get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return array[offset + index];
+    }
+
+    /**
+     * Copy the viewed values into a new array
+     */
+    public int[] toArray() {
+        return Arrays.copyOfRange(array, offset, offset + length);
+    }
+
+    public int[] getArray() {
+        return array;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntSlice)) {
+            return false;
+        }
+        IntSlice other = (IntSlice) o;
+        if (length != other.length) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            if (array[offset + i] != other.array[other.offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = offset; i < offset + length; ++i) {
+            hash = 31 * hash + array[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
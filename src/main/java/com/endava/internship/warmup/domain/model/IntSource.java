@@ -0,0 +1,36 @@
+package com.endava.internship.warmup.domain.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Forward-only supplier of ints that may be produced lazily, e.g. parsed from a buffer on demand.
+ */
+public interface IntSource {
+
+    /**
+     * Return true if another value can be read
+     */
+    boolean hasNext();
+
+    /**
+     * Return the next value
+     *
+     * @throws java.util.NoSuchElementException when there is no value left
+     * @throws NumberFormatException when the next value cannot be parsed
+     */
+    int nextInt();
+
+    /**
+     * Parse delimited ASCII decimal ints from buffer[position, limit) without changing the buffer's position
+     */
+    static IntSource of(ByteBuffer buffer, char delimiter) {
+        return new DelimitedIntSource(new DelimitedIntSource.ByteBufferText(buffer), delimiter);
+    }
+
+    /**
+     * Parse delimited decimal ints from text
+     */
+    static IntSource of(CharSequence text, char delimiter) {
+        return new DelimitedIntSource(new DelimitedIntSource.CharSequenceText(text), delimiter);
+    }
+}
@@ -0,0 +1,247 @@
+package com.endava.internship.warmup.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Immutable int matrix in compressed sparse row (CSR) form: the non-zero values of row r are
+ * {@code values[rowPointers[r] .. rowPointers[r + 1])}, with their columns, in ascending order, at the same positions
+ * of {@code columnIndices}. Zeros are never stored, so two matrices are equal exactly when their arrays are.
+ * The arrays are copied on the way in and out, so no caller can break these invariants.
+ */
+public final class SparseIntMatrix {
+
+    private final int rows;
+    private final int columns;
+    private final int[] rowPointers;
+    private final int[] columnIndices;
+    private final int[] values;
+
+    private SparseIntMatrix(int rows, int columns, int[] rowPointers, int[] columnIndices, int[] values) {
+        this.rows = rows;
+        this.columns = columns;
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    /**
+     * Compress a [row][column] matrix
+     * @throws NullPointerException when the matrix or any of its rows are null
+     * @throws IllegalArgumentException when the rows have different lengths
+     */
+    public static SparseIntMatrix of(int[][] matrix) throws NullPointerException, IllegalArgumentException {
+        if (matrix == null) {
+            throw new NullPointerException();
+        }
+        int rows = matrix.length;
+        int columns = rows == 0 ? 0 : matrix[0].length;
+        int[] rowPointers = new int[rows + 1];
+
+        for (int i = 0; i < rows; ++i) {
+            if (matrix[i].length != columns) {
+                throw new IllegalArgumentException();
+            }
+            int nonZeros = 0;
+            for (int value : matrix[i]) {
+                if (value != 0) {
+                    ++nonZeros;
+                }
+            }
+            rowPointers[i + 1] = Math.addExact(rowPointers[i], nonZeros);
+        }
+
+        int[] columnIndices = new int[rowPointers[rows]];
+        int[] values = new int[rowPointers[rows]];
+        int k = 0;
+        for (int[] row : matrix) {
+            for (int j = 0; j < columns; ++j) {
+                if (row[j] != 0) {
+                    columnIndices[k] = j;
+                    values[k++] = row[j];
+                }
+            }
+        }
+        return new SparseIntMatrix(rows, columns, rowPointers, columnIndices, values);
+    }
+
+    /**
+     * Compress a contiguous matrix
+     * @throws NullPointerException when the matrix is null
+     */
+    public static SparseIntMatrix of(IntMatrix matrix) throws NullPointerException {
+        final int rows = matrix.getRows();
+        final int columns = matrix.getColumns();
+        final int[] data = matrix.getData();
+        final int[] rowPointers = new int[rows + 1];
+
+        for (int i = 0; i < rows; ++i) {
+            int nonZeros = 0;
+            for (int j = matrix.index(i, 0), end = j + columns; j < end; ++j) {
+                if (data[j] != 0) {
+                    ++nonZeros;
+                }
+            }
+            rowPointers[i + 1] = Math.addExact(rowPointers[i], nonZeros);
+        }
+
+        final int[] columnIndices = new int[rowPointers[rows]];
+        final int[] values = new int[rowPointers[rows]];
+        int k = 0;
+        for (int i = 0; i < rows; ++i) {
+            final int start = matrix.index(i, 0);
+            for (int j = 0; j < columns; ++j) {
+                if (data[start + j] != 0) {
+                    columnIndices[k] = j;
+                    values[k++] = data[start + j];
+                }
+            }
+        }
+        return new SparseIntMatrix(rows, columns, rowPointers, columnIndices, values);
+    }
+
+    /**
+     * Copy CSR arrays into a matrix
+     * @throws NullPointerException when an array is null
+     * @throws IllegalArgumentException when the arrays do not describe a rows x columns CSR matrix with ascending
+     *                                  columns per row and no stored zeros
+     */
+    public static SparseIntMatrix wrap(int rows, int columns, int[] rowPointers, int[] columnIndices, int[] values)
+            throws NullPointerException, IllegalArgumentException {
+        if (rowPointers == null || columnIndices == null || values == null) {
+            throw new NullPointerException();
+        }
+        if (rows < 0 || columns < 0 || rowPointers.length != rows + 1 || rowPointers[0] != 0
+                || rowPointers[rows] != values.length || columnIndices.length != values.length) {
+            throw new IllegalArgumentException();
+        }
+        for (int i = 0; i < rows; ++i) {
+            if (rowPointers[i] > rowPointers[i + 1]) {
+                throw new IllegalArgumentException();
+            }
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; ++k) {
+                if (values[k] == 0 || columnIndices[k] < 0 || columnIndices[k] >= columns
+                        || (k > rowPointers[i] && columnIndices[k - 1] >= columnIndices[k])) {
+                    throw new IllegalArgumentException();
+                }
+            }
+        }
+        return new SparseIntMatrix(rows, columns, rowPointers.clone(), columnIndices.clone(), values.clone());
+    }
+
+    /**
+     * Take ownership of CSR arrays already known to be valid, without checking or copying them
+     */
+    static SparseIntMatrix trusted(int rows, int columns, int[] rowPointers, int[] columnIndices, int[] values) {
+        return new SparseIntMatrix(rows, columns, rowPointers, columnIndices, values);
+    }
+
+    /**
+     * Expand into a new [row][column] matrix
+     */
+    public int[][] toArray() {
+        int[][] matrix = new int[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; ++k) {
+                matrix[i][columnIndices[k]] = values[k];
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Expand into a new contiguous matrix
+     */
+    public IntMatrix toIntMatrix() {
+        IntMatrix matrix = IntMatrix.zeros(rows, columns);
+        int[] data = matrix.getData();
+        for (int i = 0; i < rows; ++i) {
+            for (int k = rowPointers[i]; k < rowPointers[i + 1]; ++k) {
+                data[i * columns + columnIndices[k]] = values[k];
+            }
+        }
+        return matrix;
+    }
+
+    public int get(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException();
+        }
+        int k = Arrays.binarySearch(columnIndices, rowPointers[row], rowPointers[row + 1], column);
+        return k < 0 ? 0 : values[k];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Return the number of stored, non-zero values
+     */
+    public int getNonZeros() {
+        return values.length;
+    }
+
+    /**
+     * Return a copy of the row pointers
+     */
+    public int[] getRowPointers() {
+        return rowPointers.clone();
+    }
+
+    /**
+     * Return a copy of the column of every stored value
+     */
+    public int[] getColumnIndices() {
+        return columnIndices.clone();
+    }
+
+    /**
+     * Return a copy of the stored values
+     */
+    public int[] getValues() {
+        return values.clone();
+    }
+
+    int[] rowPointers() {
+        return rowPointers;
+    }
+
+    int[] columnIndices() {
+        return columnIndices;
+    }
+
+    int[] values() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SparseIntMatrix)) {
+            return false;
+        }
+        SparseIntMatrix other = (SparseIntMatrix) o;
+        return rows == other.rows && columns == other.columns
+                && Arrays.equals(rowPointers, other.rowPointers)
+                && Arrays.equals(columnIndices, other.columnIndices)
+                && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 * rows + columns;
+        hash = 31 * hash + Arrays.hashCode(columnIndices);
+        return 31 * hash + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "SparseIntMatrix{" + rows + "x" + columns + ", nonZeros=" + values.length + '}';
+    }
+}
@@ -0,0 +1,100 @@
+package com.endava.internship.warmup.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Multiplies {@link SparseIntMatrix} operands touching only non-zero values, so the work is proportional to the
+ * number of non-zero products rather than to rows * inner * columns. Dimensions must have been validated.
+ * It lives next to {@link SparseIntMatrix} to read and build the CSR arrays without the copies and checks of the
+ * public API.
+ */
+public class SparseMatrixMultiplier {
+
+    /**
+     * Gustavson's row-by-row product: row i of the result accumulates, into a dense scratch row, row k of
+     * rightMatrix scaled by every non-zero [i][k] of leftMatrix. Products that cancel out to zero are not stored.
+     */
+    public SparseIntMatrix multiply(final SparseIntMatrix leftMatrix, final SparseIntMatrix rightMatrix) {
+        final int rows = leftMatrix.getRows();
+        final int columns = rightMatrix.getColumns();
+        final int[] leftPointers = leftMatrix.rowPointers();
+        final int[] leftColumns = leftMatrix.columnIndices();
+        final int[] leftValues = leftMatrix.values();
+        final int[] rightPointers = rightMatrix.rowPointers();
+        final int[] rightColumns = rightMatrix.columnIndices();
+        final int[] rightValues = rightMatrix.values();
+
+        final int[] accumulator = new int[columns];
+        // lastRow[j] == i marks column j as already touched in row i
+        final int[] lastRow = new int[columns];
+        Arrays.fill(lastRow, -1);
+        final int[] touched = new int[columns];
+
+        final int[] rowPointers = new int[rows + 1];
+        int[] columnIndices = new int[Math.max(16, leftMatrix.getNonZeros() + rightMatrix.getNonZeros())];
+        int[] values = new int[columnIndices.length];
+        int nonZeros = 0;
+
+        for (int i = 0; i < rows; ++i) {
+            int touchedCount = 0;
+            for (int a = leftPointers[i]; a < leftPointers[i + 1]; ++a) {
+                final int k = leftColumns[a];
+                final int factor = leftValues[a];
+                for (int b = rightPointers[k]; b < rightPointers[k + 1]; ++b) {
+                    final int j = rightColumns[b];
+                    if (lastRow[j] != i) {
+                        lastRow[j] = i;
+                        accumulator[j] = 0;
+                        touched[touchedCount++] = j;
+                    }
+                    accumulator[j] += factor * rightValues[b];
+                }
+            }
+
+            Arrays.sort(touched, 0, touchedCount);
+            if (nonZeros + touchedCount > columnIndices.length) {
+                final int capacity = (int) Math.min(Integer.MAX_VALUE - 8,
+                        Math.max((long) nonZeros + touchedCount, 2L * columnIndices.length));
+                columnIndices = Arrays.copyOf(columnIndices, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            for (int t = 0; t < touchedCount; ++t) {
+                final int j = touched[t];
+                if (accumulator[j] != 0) {
+                    columnIndices[nonZeros] = j;
+                    values[nonZeros++] = accumulator[j];
+                }
+            }
+            rowPointers[i + 1] = nonZeros;
+        }
+
+        return SparseIntMatrix.trusted(rows, columns, rowPointers,
+                Arrays.copyOf(columnIndices, nonZeros), Arrays.copyOf(values, nonZeros));
+    }
+
+    /**
+     * Add row k of rightMatrix, scaled by [i][k], to row i of the dense result for every non-zero [i][k] of leftMatrix
+     */
+    public IntMatrix multiply(final SparseIntMatrix leftMatrix, final IntMatrix rightMatrix) {
+        final int rows = leftMatrix.getRows();
+        final int columns = rightMatrix.getColumns();
+        final int[] leftPointers = leftMatrix.rowPointers();
+        final int[] leftColumns = leftMatrix.columnIndices();
+        final int[] leftValues = leftMatrix.values();
+        final int[] right = rightMatrix.getData();
+        final IntMatrix resultMatrix = IntMatrix.zeros(rows, columns);
+        final int[] result = resultMatrix.getData();
+
+        for (int i = 0; i < rows; ++i) {
+            final int resultRow = i * columns;
+            for (int a = leftPointers[i]; a < leftPointers[i + 1]; ++a) {
+                final int factor = leftValues[a];
+                final int rightRow = rightMatrix.index(leftColumns[a], 0);
+                for (int j = 0; j < columns; ++j) {
+                    result[resultRow + j] += factor * right[rightRow + j];
+                }
+            }
+        }
+        return resultMatrix;
+    }
+}
@@ -0,0 +1,244 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.util.IntHashSet;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link ArrayProcessorWithForLoops} routing every call to the sequential loops, the fork/join kernels or a
+ * specialized kernel, by input length, matrix shape, a small sample of the input and the cores available.
+ * The cut-over points are {@link AdaptiveThresholds}; results do not depend on the route taken.
+ */
+public class AdaptiveArrayProcessor extends ArrayProcessorWithForLoops {
+
+    /** Number of evenly spaced positions inspected when sampling an input */
+    static final int SAMPLE_SIZE = 64;
+
+    private final AdaptiveThresholds thresholds;
+    private final ArrayProcessorWithForkJoin parallel;
+    private final ArrayProcessorWithBlockedMatrices blocked;
+    private final ArrayProcessorWithStrassen strassen;
+
+    /**
+     * Route by thresholds calibrated once per JVM, overridden by the system properties prefixed with
+     * {@link AdaptiveThresholds#SYSTEM_PROPERTY_PREFIX}
+     */
+    public AdaptiveArrayProcessor() {
+        this(CalibratedThresholds.INSTANCE.withOverrides(System.getProperties(), AdaptiveThresholds.SYSTEM_PROPERTY_PREFIX));
+    }
+
+    public AdaptiveArrayProcessor(AdaptiveThresholds thresholds) throws NullPointerException {
+        this(thresholds, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param thresholds the cut-over points
+     * @param pool runs the parallel kernels
+     * @throws NullPointerException when thresholds or pool is null
+     */
+    public AdaptiveArrayProcessor(AdaptiveThresholds thresholds, ForkJoinPool pool) throws NullPointerException {
+        if (thresholds == null || pool == null) {
+            throw new NullPointerException();
+        }
+        this.thresholds = thresholds;
+        // tasks split down to a few per core of the smallest input routed to them
+        final int leafLength = Math.max(1 << 10, thresholds.getParallelThreshold() / (4 * thresholds.getParallelism()));
+        final int leafWork = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(1 << 12, thresholds.getParallelMatrixThreshold() / (4 * thresholds.getParallelism())));
+        final BlockedMatrixMultiplier kernel = new BlockedMatrixMultiplier();
+        this.parallel = new ArrayProcessorWithForkJoin(pool, leafLength, new ParallelMatrixMultiplier(pool, leafWork, kernel));
+        this.blocked = new ArrayProcessorWithBlockedMatrices(kernel);
+        this.strassen = new ArrayProcessorWithStrassen(new StrassenMatrixMultiplier(StrassenMatrixMultiplier.DEFAULT_CROSSOVER, kernel));
+    }
+
+    public AdaptiveThresholds getThresholds() {
+        return thresholds;
+    }
+
+    @Override
+    public boolean noneMatch(final int[] input) {
+        return isParallel(input.length) ? parallel.noneMatch(input) : super.noneMatch(input);
+    }
+
+    @Override
+    public boolean someMatch(final int[] input, IntPredicate predicate) {
+        return isParallel(input.length) ? parallel.someMatch(input, predicate) : super.someMatch(input, predicate);
+    }
+
+    @Override
+    public boolean allMatch(final String[] input, ToIntFunction<String> function, IntPredicate predicate) {
+        return isParallel(input.length) ? parallel.allMatch(input, function, predicate) : super.allMatch(input, function, predicate);
+    }
+
+    @Override
+    public int[] rearrange(final int[] input) {
+        return isParallel(input.length) ? parallel.rearrange(input) : super.rearrange(input);
+    }
+
+    @Override
+    public void rearrange(final int[] input, final int[] output) throws IllegalArgumentException {
+        if (isParallel(input.length)) {
+            parallel.rearrange(input, output);
+        } else {
+            super.rearrange(input, output);
+        }
+    }
+
+    @Override
+    public int[] filter(final int[] input) {
+        return isParallel(input.length) ? parallel.filter(input) : super.filter(input);
+    }
+
+    @Override
+    public int filterInto(final int[] input, final int[] output) throws IllegalArgumentException {
+        return isParallel(input.length) ? parallel.filterInto(input, output) : super.filterInto(input, output);
+    }
+
+    @Override
+    public int[] mergeSortedArrays(int[] input, int[] input2) throws IllegalArgumentException {
+        return isParallel((long) input.length + input2.length)
+                ? parallel.mergeSortedArrays(input, input2) : super.mergeSortedArrays(input, input2);
+    }
+
+    /**
+     * Return the values of input without duplicates in encounter order. Input that samples as sorted is reduced
+     * by comparing neighbours, without hashing; otherwise the hash set is sized by the duplicate ratio of the sample.
+     * @param input non-null immutable array of ints
+     */
+    @Override
+    public int[] distinct(final int[] input) {
+        if (input.length <= SAMPLE_SIZE) {
+            return super.distinct(input);
+        }
+        if (samplesSorted(input)) {
+            final int[] distinct = distinctOfSorted(input);
+            if (distinct != null) {
+                return distinct;
+            }
+        }
+
+        final IntHashSet seen = new IntHashSet(estimateDistinct(input));
+        final int[] newValues = new int[input.length];
+        int k = 0;
+        for (int num : input) {
+            if (seen.add(num)) {
+                newValues[k++] = num;
+            }
+        }
+        return Arrays.copyOf(newValues, k);
+    }
+
+    @Override
+    public int[][] matrixMultiplication(final int[][] leftMatrix, final int[][] rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        switch (route(leftMatrix.length, rightMatrix.length, rightMatrix[0].length)) {
+            case PARALLEL:
+                return parallel.matrixMultiplication(leftMatrix, rightMatrix);
+            case STRASSEN:
+                return strassen.matrixMultiplication(leftMatrix, rightMatrix);
+            case BLOCKED:
+                return blocked.matrixMultiplication(leftMatrix, rightMatrix);
+            default:
+                return super.matrixMultiplication(leftMatrix, rightMatrix);
+        }
+    }
+
+    @Override
+    public IntMatrix matrixMultiplication(final IntMatrix leftMatrix, final IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        switch (route(leftMatrix.getRows(), rightMatrix.getRows(), rightMatrix.getColumns())) {
+            case PARALLEL:
+                return parallel.matrixMultiplication(leftMatrix, rightMatrix);
+            case STRASSEN:
+                return strassen.matrixMultiplication(leftMatrix, rightMatrix);
+            case BLOCKED:
+                return blocked.matrixMultiplication(leftMatrix, rightMatrix);
+            default:
+                return super.matrixMultiplication(leftMatrix, rightMatrix);
+        }
+    }
+
+    /**
+     * Return the kernel multiplying a rows x inner by an inner x columns matrix
+     */
+    MatrixRoute route(int rows, int inner, int columns) {
+        final long work = (long) rows * inner * columns;
+        final int smallest = Math.min(rows, Math.min(inner, columns));
+        final int largest = Math.max(rows, Math.max(inner, columns));
+
+        if (thresholds.getParallelism() > 1 && work >= thresholds.getParallelMatrixThreshold()) {
+            return MatrixRoute.PARALLEL;
+        }
+        // padding to a power-of-two multiple only pays off for roughly square operands
+        if (smallest >= thresholds.getStrassenThreshold() && largest <= 2L * smallest) {
+            return MatrixRoute.STRASSEN;
+        }
+        if (work >= thresholds.getBlockedMatrixThreshold()) {
+            return MatrixRoute.BLOCKED;
+        }
+        return MatrixRoute.NAIVE;
+    }
+
+    private boolean isParallel(long length) {
+        return thresholds.getParallelism() > 1 && length >= thresholds.getParallelThreshold();
+    }
+
+    private static boolean samplesSorted(int[] input) {
+        final int step = input.length / SAMPLE_SIZE;
+        for (int i = step; i < input.length; i += step) {
+            if (input[i - step] > input[i] || input[i - 1] > input[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the distinct values of a sorted input, or null as soon as input turns out not to be sorted
+     */
+    private static int[] distinctOfSorted(int[] input) {
+        final int[] newValues = new int[input.length];
+        newValues[0] = input[0];
+        int k = 1;
+        for (int i = 1; i < input.length; ++i) {
+            if (input[i] != input[i - 1]) {
+                if (input[i] < input[i - 1]) {
+                    return null;
+                }
+                newValues[k++] = input[i];
+            }
+        }
+        return Arrays.copyOf(newValues, k);
+    }
+
+    /**
+     * Scale the distinct values of an evenly spaced sample to the whole input, rounding up generously because
+     * a hash set that has to grow costs more than a sparse one, but never past the shared presize cap
+     */
+    private static int estimateDistinct(int[] input) {
+        final IntHashSet sample = new IntHashSet(SAMPLE_SIZE);
+        final int step = input.length / SAMPLE_SIZE;
+        for (int i = 0; i < input.length; i += step) {
+            sample.add(input[i]);
+        }
+        final long sampled = (input.length + step - 1) / step;
+        final long estimate = 2L * sample.size() * input.length / sampled;
+        final int limit = Math.min(input.length, ArrayProcessorWithForLoops.DISTINCT_PRESIZE_LIMIT);
+        return (int) Math.min(limit, Math.max(SAMPLE_SIZE, estimate));
+    }
+
+    enum MatrixRoute {
+        NAIVE, BLOCKED, STRASSEN, PARALLEL
+    }
+
+    /**
+     * Calibrates on first use only, so that processors built from explicit thresholds never pay for it
+     */
+    private static final class CalibratedThresholds {
+        static final AdaptiveThresholds INSTANCE = AdaptiveThresholds.calibrate();
+    }
+}
@@ -0,0 +1,197 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The cut-over points {@link AdaptiveArrayProcessor} routes by. Values come from the defaults, from a short
+ * self-benchmark of the current machine ({@link #calibrate()}) and from configuration ({@link #withOverrides}).
+ */
+public final class AdaptiveThresholds {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = ArrayProcessorWithForkJoin.DEFAULT_SEQUENTIAL_THRESHOLD;
+    public static final long DEFAULT_BLOCKED_MATRIX_THRESHOLD = 1L << 15;
+    public static final long DEFAULT_PARALLEL_MATRIX_THRESHOLD = ParallelMatrixMultiplier.DEFAULT_SEQUENTIAL_CUTOFF;
+    public static final int DEFAULT_STRASSEN_THRESHOLD = 1024;
+
+    /** Prefix of the system properties read by {@link AdaptiveArrayProcessor#AdaptiveArrayProcessor()} */
+    public static final String SYSTEM_PROPERTY_PREFIX = "warmup.adaptive.";
+
+    private static final int REPEATS = 5;
+
+    /** Keeps the timed results observable so that they are not optimized away */
+    private static volatile boolean sink;
+
+    private final int parallelism;
+    private final int parallelThreshold;
+    private final long blockedMatrixThreshold;
+    private final long parallelMatrixThreshold;
+    private final int strassenThreshold;
+
+    /**
+     * @param parallelism the number of cores parallel kernels may use; 1 disables them
+     * @param parallelThreshold array length from which array operations run in parallel
+     * @param blockedMatrixThreshold multiply-adds from which matrices are multiplied tile by tile
+     * @param parallelMatrixThreshold multiply-adds from which matrices are multiplied in parallel
+     * @param strassenThreshold smallest dimension of square matrices multiplied with Strassen's recursion
+     * @throws IllegalArgumentException when a value is not positive
+     */
+    public AdaptiveThresholds(int parallelism, int parallelThreshold, long blockedMatrixThreshold,
+                              long parallelMatrixThreshold, int strassenThreshold) throws IllegalArgumentException {
+        if (parallelism <= 0 || parallelThreshold <= 0 || blockedMatrixThreshold <= 0
+                || parallelMatrixThreshold <= 0 || strassenThreshold <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.parallelism = parallelism;
+        this.parallelThreshold = parallelThreshold;
+        this.blockedMatrixThreshold = blockedMatrixThreshold;
+        this.parallelMatrixThreshold = parallelMatrixThreshold;
+        this.strassenThreshold = strassenThreshold;
+    }
+
+    /**
+     * Return the defaults for the cores available to the JVM
+     */
+    public static AdaptiveThresholds defaults() {
+        return new AdaptiveThresholds(Runtime.getRuntime().availableProcessors(), DEFAULT_PARALLEL_THRESHOLD,
+                DEFAULT_BLOCKED_MATRIX_THRESHOLD, DEFAULT_PARALLEL_MATRIX_THRESHOLD, DEFAULT_STRASSEN_THRESHOLD);
+    }
+
+    /**
+     * Time the candidate kernels on generated inputs of growing size and keep, for each choice, the smallest size
+     * at which the more elaborate kernel is clearly faster. Takes well under a second; a kernel that never wins
+     * is never chosen.
+     */
+    public static AdaptiveThresholds calibrate() {
+        final AdaptiveThresholds defaults = defaults();
+        final int parallelism = defaults.parallelism;
+        final Random random = new Random(42);
+        final ArrayProcessorWithForLoops sequential = new ArrayProcessorWithForLoops();
+        final ArrayProcessorWithForkJoin parallel = new ArrayProcessorWithForkJoin(ForkJoinPool.commonPool(), 1 << 12,
+                new ParallelMatrixMultiplier(ForkJoinPool.commonPool(), 1 << 15, new BlockedMatrixMultiplier()));
+        final ArrayProcessorWithBlockedMatrices blocked = new ArrayProcessorWithBlockedMatrices();
+        final ArrayProcessorWithStrassen strassen = new ArrayProcessorWithStrassen();
+
+        int parallelThreshold = Integer.MAX_VALUE;
+        if (parallelism > 1) {
+            for (int length = 1 << 12; length <= 1 << 20; length <<= 2) {
+                final int[] input = random.ints(length, 1, 10).toArray();
+                final long sequentialTime = time(() -> sequential.noneMatch(input) && sequential.filter(input) != null);
+                final long parallelTime = time(() -> parallel.noneMatch(input) && parallel.filter(input) != null);
+                if (parallelTime * 5 < sequentialTime * 4) {
+                    parallelThreshold = length;
+                    break;
+                }
+            }
+        }
+
+        final long blockedMatrixThreshold = matrixCrossover(random, 16, 128, sequential, blocked);
+        final long parallelMatrixThreshold = parallelism > 1
+                ? matrixCrossover(random, 32, 256, blocked, parallel) : Long.MAX_VALUE;
+        final long strassenCrossover = matrixCrossover(random, 256, 256, blocked, strassen);
+        final int strassenThreshold = strassenCrossover == Long.MAX_VALUE
+                ? Integer.MAX_VALUE : (int) Math.round(Math.cbrt(strassenCrossover));
+
+        return new AdaptiveThresholds(parallelism, parallelThreshold, blockedMatrixThreshold,
+                parallelMatrixThreshold, strassenThreshold);
+    }
+
+    /**
+     * Return a copy with the values found in properties under prefix + "parallelism", "parallelThreshold",
+     * "blockedMatrixThreshold", "parallelMatrixThreshold" and "strassenThreshold"
+     *
+     * @throws NumberFormatException when a value is not a number, or out of the int range for an int-valued key
+     * @throws IllegalArgumentException when a value is not positive
+     */
+    public AdaptiveThresholds withOverrides(Properties properties, String prefix) throws IllegalArgumentException {
+        return new AdaptiveThresholds(
+                readInt(properties, prefix + "parallelism", parallelism),
+                readInt(properties, prefix + "parallelThreshold", parallelThreshold),
+                read(properties, prefix + "blockedMatrixThreshold", blockedMatrixThreshold),
+                read(properties, prefix + "parallelMatrixThreshold", parallelMatrixThreshold),
+                readInt(properties, prefix + "strassenThreshold", strassenThreshold));
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public long getBlockedMatrixThreshold() {
+        return blockedMatrixThreshold;
+    }
+
+    public long getParallelMatrixThreshold() {
+        return parallelMatrixThreshold;
+    }
+
+    public int getStrassenThreshold() {
+        return strassenThreshold;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveThresholds{parallelism=" + parallelism + ", parallelThreshold=" + parallelThreshold
+                + ", blockedMatrixThreshold=" + blockedMatrixThreshold
+                + ", parallelMatrixThreshold=" + parallelMatrixThreshold
+                + ", strassenThreshold=" + strassenThreshold + '}';
+    }
+
+    private static int readInt(Properties properties, String key, int fallback) throws NumberFormatException {
+        final String value = properties.getProperty(key);
+        return value == null ? fallback : Integer.parseInt(value.trim());
+    }
+
+    private static long read(Properties properties, String key, long fallback) throws NumberFormatException {
+        final String value = properties.getProperty(key);
+        return value == null ? fallback : Long.parseLong(value.trim());
+    }
+
+    /**
+     * Return the multiply-adds of the smallest square size in [from, to] at which faster beats baseline by 20%,
+     * or Long.MAX_VALUE
+     */
+    private static long matrixCrossover(Random random, int from, int to, ArrayProcessor baseline, ArrayProcessor faster) {
+        for (int size = from; size <= to; size <<= 1) {
+            final IntMatrix left = randomMatrix(random, size);
+            final IntMatrix right = randomMatrix(random, size);
+            final long baselineTime = time(() -> baseline.matrixMultiplication(left, right) != null);
+            final long fasterTime = time(() -> faster.matrixMultiplication(left, right) != null);
+            if (fasterTime * 5 < baselineTime * 4) {
+                return (long) size * size * size;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static IntMatrix randomMatrix(Random random, int size) {
+        final IntMatrix matrix = IntMatrix.zeros(size, size);
+        for (int i = 0; i < size; ++i) {
+            for (int j = 0; j < size; ++j) {
+                matrix.set(i, j, random.nextInt());
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Return the fastest of a few runs after one warm-up run, in nanoseconds
+     */
+    private static long time(BooleanSupplier run) {
+        sink = run.getAsBoolean();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < REPEATS; ++i) {
+            final long start = System.nanoTime();
+            sink = run.getAsBoolean();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
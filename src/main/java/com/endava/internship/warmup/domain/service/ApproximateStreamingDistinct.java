@@ -0,0 +1,56 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.util.HyperLogLog;
+import com.endava.internship.warmup.domain.util.IntBloomFilter;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-memory {@link StreamingDistinct}. Membership is answered by an {@link IntBloomFilter}, so a new value is
+ * occasionally reported as already seen (with the configured false positive rate) but never the opposite.
+ * The cardinality is estimated by a {@link HyperLogLog} sketch.
+ */
+public class ApproximateStreamingDistinct implements StreamingDistinct {
+
+    private final IntBloomFilter seen;
+    private final HyperLogLog sketch;
+
+    public ApproximateStreamingDistinct(long expectedDistinctValues, double falsePositiveRate) {
+        this(expectedDistinctValues, falsePositiveRate, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * @param expectedDistinctValues number of distinct values the Bloom filter is sized for
+     * @param falsePositiveRate probability of dropping a new value once expectedDistinctValues were seen
+     * @param precision HyperLogLog register index bits
+     * @throws IllegalArgumentException when any parameter is out of range
+     */
+    public ApproximateStreamingDistinct(long expectedDistinctValues, double falsePositiveRate, int precision) throws IllegalArgumentException {
+        this.seen = new IntBloomFilter(expectedDistinctValues, falsePositiveRate);
+        this.sketch = new HyperLogLog(precision);
+    }
+
+    @Override
+    public int[] accept(final int[] chunk) {
+        final int[] newValues = new int[chunk.length];
+        int k = 0;
+
+        for (int value : chunk) {
+            sketch.add(value);
+            if (seen.put(value)) {
+                newValues[k++] = value;
+            }
+        }
+        return Arrays.copyOf(newValues, k);
+    }
+
+    @Override
+    public long cardinality() {
+        return sketch.estimate();
+    }
+
+    @Override
+    public void close() {
+        // nothing is held outside of the heap
+    }
+}
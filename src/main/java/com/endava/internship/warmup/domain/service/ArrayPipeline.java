@@ -0,0 +1,303 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.util.IntHashSet;
+import com.endava.internship.warmup.domain.util.IntSecondMax;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Lazy chain of {@link ArrayProcessor} operations that runs as few passes as the operations allow.
+ * replace and distinct are fused with their neighbours and with the terminal operation into one pass without
+ * intermediate arrays. filter needs the whole input of the stage to compute its threshold and rearrange moves
+ * values across the whole array, so only these two materialize what precedes them.
+ * Every terminal operation returns what calling the processor methods one by one would return.
+ * Pipelines are immutable and the input array is never modified.
+ */
+public final class ArrayPipeline {
+
+    private final ArrayProcessorWithForLoops processor;
+    private final int[] input;
+    private final List<Operation> operations;
+
+    private ArrayPipeline(ArrayProcessorWithForLoops processor, int[] input, List<Operation> operations) {
+        this.processor = processor;
+        this.input = input;
+        this.operations = operations;
+    }
+
+    /**
+     * Start a pipeline whose barriers use {@link ArrayProcessorWithForLoops}
+     *
+     * @param input non-null array, not modified by the pipeline
+     */
+    public static ArrayPipeline of(int[] input) throws NullPointerException {
+        return of(new ArrayProcessorWithForLoops(), input);
+    }
+
+    /**
+     * @param processor the processor whose filter threshold and rearrange are used at the barriers
+     * @param input non-null array, not modified by the pipeline
+     * @throws NullPointerException when processor or input is null
+     */
+    public static ArrayPipeline of(ArrayProcessorWithForLoops processor, int[] input) throws NullPointerException {
+        if (processor == null || input == null) {
+            throw new NullPointerException();
+        }
+        return new ArrayPipeline(processor, input, Collections.<Operation>emptyList());
+    }
+
+    /**
+     * Add {@link ArrayProcessor#replace(int[])}, fused
+     */
+    public ArrayPipeline replace() {
+        return then(Operation.REPLACE);
+    }
+
+    /**
+     * Add {@link ArrayProcessor#filter(int[])}, materializing the preceding fused operations
+     */
+    public ArrayPipeline filter() {
+        return then(Operation.FILTER);
+    }
+
+    /**
+     * Add {@link ArrayProcessor#distinct(int[])}, fused
+     */
+    public ArrayPipeline distinct() {
+        return then(Operation.DISTINCT);
+    }
+
+    /**
+     * Add {@link ArrayProcessor#rearrange(int[])}, materializing the preceding fused operations
+     */
+    public ArrayPipeline rearrange() {
+        return then(Operation.REARRANGE);
+    }
+
+    public int[] toArray() {
+        final Collector collector = new Collector(0);
+        return run(collector).toArray();
+    }
+
+    /**
+     * Return {@link ArrayProcessor#noneMatch(int[])} of the pipeline result, stopping at the first multiple of 10
+     */
+    public boolean noneMatch() {
+        return !run(new Matcher(value -> value % 10 == 0)).matched;
+    }
+
+    /**
+     * Return {@link ArrayProcessor#someMatch(int[], IntPredicate)} of the pipeline result, stopping at the first match
+     */
+    public boolean someMatch(IntPredicate predicate) {
+        return run(new Matcher(predicate)).matched;
+    }
+
+    /**
+     * Return {@link ArrayProcessor#findSecondMax(int[])} of the pipeline result
+     *
+     * @throws IllegalArgumentException when the result has fewer than two distinct values
+     */
+    public int findSecondMax() throws IllegalArgumentException {
+        return run(new SecondMax()).get();
+    }
+
+    private ArrayPipeline then(Operation operation) {
+        final List<Operation> chained = new ArrayList<>(operations);
+        chained.add(operation);
+        return new ArrayPipeline(processor, input, Collections.unmodifiableList(chained));
+    }
+
+    /**
+     * Push the input through the operations into terminal, materializing only at barriers
+     */
+    private <T extends Sink> T run(T terminal) {
+        int[] values = input;
+        boolean owned = false;
+        final List<Operation> fused = new ArrayList<>();
+        int threshold = 0;
+
+        for (Operation operation : operations) {
+            if (operation == Operation.FILTER || operation == Operation.REARRANGE) {
+                if (!fused.isEmpty()) {
+                    values = push(values, fused, threshold, new Collector(values.length)).toArray();
+                    owned = true;
+                    fused.clear();
+                }
+                if (operation == Operation.FILTER) {
+                    // the threshold is applied in the next pass, together with whatever follows
+                    threshold = processor.filterThreshold(values, 0, values.length);
+                    fused.add(Operation.FILTER);
+                } else if (owned) {
+                    processor.rearrange(values, values);
+                } else {
+                    values = processor.rearrange(values);
+                    owned = true;
+                }
+            } else {
+                fused.add(operation);
+            }
+        }
+        return push(values, fused, threshold, terminal);
+    }
+
+    /**
+     * Run one fused pass. FILTER in fused may only come first and keeps the values not smaller than threshold.
+     */
+    private static <T extends Sink> T push(int[] values, List<Operation> fused, int threshold, T terminal) {
+        Sink sink = terminal;
+        for (int i = fused.size() - 1; i >= 0; --i) {
+            switch (fused.get(i)) {
+                case REPLACE:
+                    sink = new Replacing(sink);
+                    break;
+                case DISTINCT:
+                    sink = new Distinct(sink, values.length);
+                    break;
+                case FILTER:
+                    sink = new Filtering(sink, threshold);
+                    break;
+                default:
+                    throw new IllegalStateException();
+            }
+        }
+
+        for (int i = 0; i < values.length && !terminal.isDone(); ++i) {
+            sink.accept(values[i]);
+        }
+        return terminal;
+    }
+
+    private enum Operation {
+        REPLACE, FILTER, DISTINCT, REARRANGE
+    }
+
+    private abstract static class Sink {
+
+        abstract void accept(int value);
+
+        boolean isDone() {
+            return false;
+        }
+    }
+
+    private static final class Replacing extends Sink {
+
+        private final Sink downstream;
+        private boolean even = true;
+
+        Replacing(Sink downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        void accept(int value) {
+            downstream.accept(even ? 2 * value : -value);
+            even = !even;
+        }
+    }
+
+    private static final class Filtering extends Sink {
+
+        private final Sink downstream;
+        private final int threshold;
+
+        Filtering(Sink downstream, int threshold) {
+            this.downstream = downstream;
+            this.threshold = threshold;
+        }
+
+        @Override
+        void accept(int value) {
+            if (value >= threshold) {
+                downstream.accept(value);
+            }
+        }
+    }
+
+    private static final class Distinct extends Sink {
+
+        private final Sink downstream;
+        private final IntHashSet seen;
+
+        Distinct(Sink downstream, int expectedSize) {
+            this.downstream = downstream;
+            this.seen = new IntHashSet(Math.min(expectedSize, ArrayProcessorWithForLoops.DISTINCT_PRESIZE_LIMIT));
+        }
+
+        @Override
+        void accept(int value) {
+            if (seen.add(value)) {
+                downstream.accept(value);
+            }
+        }
+    }
+
+    private static final class Collector extends Sink {
+
+        private int[] values;
+        private int size;
+
+        /**
+         * @param capacity upper bound of the collected values; every fused operation keeps or drops values
+         */
+        Collector(int capacity) {
+            this.values = new int[capacity];
+        }
+
+        @Override
+        void accept(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(16, 2 * size));
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Matcher extends Sink {
+
+        private final IntPredicate predicate;
+        private boolean matched;
+
+        Matcher(IntPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        void accept(int value) {
+            if (!matched && predicate.test(value)) {
+                matched = true;
+            }
+        }
+
+        @Override
+        boolean isDone() {
+            return matched;
+        }
+    }
+
+    /**
+     * The single-pass second maximum of {@link ArrayProcessorWithForLoops#findSecondMax(int[])}
+     */
+    private static final class SecondMax extends Sink {
+
+        private final IntSecondMax secondMax = new IntSecondMax();
+
+        @Override
+        void accept(int value) {
+            secondMax.accept(value);
+        }
+
+        int get() throws IllegalArgumentException {
+            return secondMax.get();
+        }
+    }
+}
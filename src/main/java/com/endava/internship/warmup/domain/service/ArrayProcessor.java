@@ -1,8 +1,19 @@
 package com.endava.internship.warmup.domain.service;
 
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+import com.endava.internship.warmup.domain.model.IntSlice;
+import com.endava.internship.warmup.domain.model.IntSource;
+import com.endava.internship.warmup.domain.model.SparseIntMatrix;
+
 import java.util.function.IntPredicate;
 import java.util.function.ToIntFunction;
 
+/**
+ * Operations on arrays of ints and int matrices. The overloads taking slices, contiguous, sparse or batched matrices
+ * have default implementations that copy their inputs into arrays and call the array methods; implementations
+ * override them to work on the inputs in place.
+ */
 public interface ArrayProcessor {
     /**
      * Return true if there are no numbers that divide by 10
@@ -30,6 +41,15 @@ public interface ArrayProcessor {
                      ToIntFunction<String> function,
                      IntPredicate predicate);
 
+    /**
+     * Return true if all values read from input match the predicate, stopping at the first value that does not
+     *
+     * @param input non-null source of ints, e.g. parsing a buffer on demand
+     * @param predicate invoke predicate.test(int value) on each value read from input
+     * @throws NumberFormatException when input cannot parse a value read before the first failing one
+     */
+    boolean allMatch(IntSource input, IntPredicate predicate) throws NumberFormatException;
+
     /**
      * Copy values into a separate array from specific index to stopindex
      *
@@ -52,8 +72,28 @@ public interface ArrayProcessor {
      * Find the second max value in the array
      *
      * @param input non-null immutable array of ints
+     * @throws IllegalArgumentException when input has fewer than two distinct values
+     */
+    int findSecondMax(int[] input) throws IllegalArgumentException;
+
+    /**
+     * Return the k largest values in descending order. Duplicates count as separate values.
+     *
+     * @param input non-null immutable array of ints
+     * @param k the number of values to return
+     * @return new array of length k
+     * @throws IllegalArgumentException when k is negative or greater than input.length
+     */
+    int[] topK(int[] input, int k) throws IllegalArgumentException;
+
+    /**
+     * Return the k-th largest value. Duplicates count as separate values, so k = 1 returns the max.
+     *
+     * @param input non-null immutable array of ints
+     * @param k the 1-based rank from the top
+     * @throws IllegalArgumentException when k is not in [1, input.length]
      */
-    int findSecondMax(int[] input);
+    int kthLargest(int[] input, int k) throws IllegalArgumentException;
 
     /**
      * Return in reverse first negative numbers, then positive numbers from array
@@ -65,6 +105,15 @@ public interface ArrayProcessor {
      */
     int[] rearrange(int[] input);
 
+    /**
+     * Rearrange like {@link #rearrange(int[])}, writing the result into output instead of a new array
+     *
+     * @param input non-null array of ints
+     * @param output non-null array with at least input.length cells. When output is input, the array is rearranged in place
+     * @throws IllegalArgumentException when output is shorter than input
+     */
+    void rearrange(int[] input, int[] output) throws IllegalArgumentException;
+
     /**
      * Remove (filter) all values which are smaller than (input max element - 10)
      *
@@ -73,6 +122,16 @@ public interface ArrayProcessor {
      */
     int[] filter(int[] input);
 
+    /**
+     * Filter like {@link #filter(int[])}, writing the kept values to the beginning of output instead of a new array
+     *
+     * @param input non-null array of ints
+     * @param output non-null array with at least input.length cells. When output is input, the array is filtered in place
+     * @return the number of values written to output
+     * @throws IllegalArgumentException when output is shorter than input
+     */
+    int filterInto(int[] input, int[] output) throws IllegalArgumentException;
+
     /**
      * Insert values into input array at a specific index.
      *
@@ -94,6 +153,15 @@ public interface ArrayProcessor {
      */
     int[] mergeSortedArrays(int[] input, int[] input2) throws IllegalArgumentException;
 
+    /**
+     * Merge any number of sorted arrays in a single pass so that the return values are also sorted
+     *
+     * @param inputs non-null arrays, none of them null
+     * @return new array containing all elements sorted from every input
+     * @throws IllegalArgumentException if any input is not sorted ascending
+     */
+    int[] mergeSortedArrays(int[]... inputs) throws IllegalArgumentException;
+
     /**
      * In order to execute a matrix multiplication, in this method, please validate the input data throwing exceptions for invalid input.
      * If the the input params are satisfactory, do not throw any exception.
@@ -118,10 +186,240 @@ public interface ArrayProcessor {
      */
     int[][] matrixMultiplication(int[][] leftMatrix, int[][] rightMatrix) throws NullPointerException, IllegalArgumentException;
 
+    /**
+     * Validate contiguous matrices for multiplication. Only the dimensions are checked, so this runs in constant time.
+     *
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    default void validateForMatrixMultiplication(IntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        if (leftMatrix == null || rightMatrix == null) {
+            throw new NullPointerException();
+        }
+        MatrixValidation.validateDimensions(leftMatrix.getRows(), leftMatrix.getColumns(), rightMatrix.getRows(), rightMatrix.getColumns());
+    }
+
+    /**
+     * Perform the matrix multiplication over contiguous matrices
+     *
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @return new matrix with leftMatrix rows and rightMatrix columns
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    default IntMatrix matrixMultiplication(IntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return IntMatrix.of(matrixMultiplication(leftMatrix.toArray(), rightMatrix.toArray()));
+    }
+
+    /**
+     * Validate sparse matrices for multiplication. Only the dimensions are checked, so this runs in constant time.
+     *
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    default void validateForMatrixMultiplication(SparseIntMatrix leftMatrix, SparseIntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        if (leftMatrix == null || rightMatrix == null) {
+            throw new NullPointerException();
+        }
+        MatrixValidation.validateDimensions(leftMatrix.getRows(), leftMatrix.getColumns(), rightMatrix.getRows(), rightMatrix.getColumns());
+    }
+
+    /**
+     * Perform the matrix multiplication of sparse matrices; copies the operands into arrays and multiplies them
+     *
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @return new sparse matrix with leftMatrix rows and rightMatrix columns
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    default SparseIntMatrix matrixMultiplication(SparseIntMatrix leftMatrix, SparseIntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return SparseIntMatrix.of(matrixMultiplication(leftMatrix.toArray(), rightMatrix.toArray()));
+    }
+
+    /**
+     * Validate a sparse and a contiguous matrix for multiplication. Only the dimensions are checked.
+     *
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    default void validateForMatrixMultiplication(SparseIntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        if (leftMatrix == null || rightMatrix == null) {
+            throw new NullPointerException();
+        }
+        MatrixValidation.validateDimensions(leftMatrix.getRows(), leftMatrix.getColumns(), rightMatrix.getRows(), rightMatrix.getColumns());
+    }
+
+    /**
+     * Perform the matrix multiplication of a sparse by a contiguous matrix; copies the operands into arrays and multiplies them
+     *
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @return new matrix with leftMatrix rows and rightMatrix columns
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    default IntMatrix matrixMultiplication(SparseIntMatrix leftMatrix, IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return IntMatrix.of(matrixMultiplication(leftMatrix.toArray(), rightMatrix.toArray()));
+    }
+
+    /**
+     * Validate packed batches for multiplication once for the whole batch, instead of once per matrix
+     *
+     * @param leftMatrices the left matrices
+     * @param rightMatrices the right matrices
+     * @param output the batch the products are written into
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when the counts differ, any dimension is zero, leftMatrices columns differ from
+     * rightMatrices rows, output has the wrong shape or output overlaps an input
+     */
+    default void validateForMatrixMultiplication(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output)
+            throws NullPointerException, IllegalArgumentException {
+        MatrixValidation.validateBatches(leftMatrices, rightMatrices, output);
+    }
+
+    /**
+     * Multiply each left matrix of the batch by the right matrix at the same position, writing the products into output
+     *
+     * @param leftMatrices the left matrices
+     * @param rightMatrices the right matrices
+     * @param output caller-provided batch that is overwritten with the products
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when the counts differ, any dimension is zero, leftMatrices columns differ from
+     * rightMatrices rows, output has the wrong shape or output overlaps an input
+     */
+    default void matrixMultiplication(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output)
+            throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrices, rightMatrices, output);
+        final int[] data = output.getData();
+        for (int m = 0; m < output.getCount(); ++m) {
+            final IntMatrix product = matrixMultiplication(leftMatrices.get(m), rightMatrices.get(m));
+            for (int i = 0; i < product.getRows(); ++i) {
+                System.arraycopy(product.getData(), product.index(i, 0), data, output.start(m) + i * product.getColumns(), product.getColumns());
+            }
+        }
+    }
+
     /**
      * Return only distinct values in an array.
      *
      * @param input non-null immutable array of ints.
      */
     int[] distinct(int[] input);
+
+    /**
+     * Return true if there are no numbers that divide by 10
+     *
+     * @param input non-null slice of ints
+     */
+    default boolean noneMatch(IntSlice input) {
+        return noneMatch(input.toArray());
+    }
+
+    /**
+     * Return true if at least one value in input matches the predicate
+     *
+     * @param input non-null slice of ints
+     * @param predicate invoke the predicate.test(int value) on each input element
+     */
+    default boolean someMatch(IntSlice input, IntPredicate predicate) {
+        return someMatch(input.toArray(), predicate);
+    }
+
+    /**
+     * View values from specific index to stopindex without copying them
+     *
+     * @param input non-null slice of ints
+     * @param startInclusive the first index of the element from input to be included in the view
+     * @param endExclusive the last index prior to which the elements are to be included in the view
+     * @return a slice sharing the array of input; call {@link IntSlice#toArray()} to materialize it
+     * @throws IllegalArgumentException when parameters are outside of input index bounds
+     */
+    default IntSlice copyValues(IntSlice input, int startInclusive, int endExclusive) throws IllegalArgumentException {
+        return input.subSlice(startInclusive, endExclusive);
+    }
+
+    /**
+     * Replace even index values with their doubles and odd indexed elements with their negative
+     *
+     * @param input non-null slice of ints, indexed from its own start
+     * @return new array with changed elements
+     */
+    default int[] replace(IntSlice input) {
+        return replace(input.toArray());
+    }
+
+    /**
+     * Find the second max value in the slice
+     *
+     * @param input non-null slice of ints
+     * @throws IllegalArgumentException when input has fewer than two distinct values
+     */
+    default int findSecondMax(IntSlice input) throws IllegalArgumentException {
+        return findSecondMax(input.toArray());
+    }
+
+    /**
+     * Return in reverse first negative numbers, then positive numbers from the slice
+     *
+     * @param input non-null slice of ints
+     * @return new array with the rearranged values
+     */
+    default int[] rearrange(IntSlice input) {
+        return rearrange(input.toArray());
+    }
+
+    /**
+     * Remove (filter) values of the slice like {@link #filter(int[])} does for an array of the same values
+     *
+     * @param input non-null slice of ints
+     * @return The result array should not contain empty cells!
+     */
+    default int[] filter(IntSlice input) {
+        return filter(input.toArray());
+    }
+
+    /**
+     * Insert values into input slice at a specific index.
+     *
+     * @param input non-null slice of ints
+     * @param startInclusive the index of input at which the first element from values should be inserted
+     * @param values the non-null values to be inserted from startInclusive index
+     * @return new array containing the combined elements of input and values
+     * @throws IllegalArgumentException when startInclusive is out of bounds for input
+     */
+    default int[] insertValues(IntSlice input, int startInclusive, IntSlice values) throws IllegalArgumentException {
+        return insertValues(input.toArray(), startInclusive, values.toArray());
+    }
+
+    /**
+     * Merge two sorted slices so that the return values are also sorted
+     *
+     * @param input first non-null slice
+     * @param input2 second non-null slice
+     * @return new array containing all elements sorted from input and input2
+     * @throws IllegalArgumentException if either input or input2 are not sorted ascending
+     */
+    default int[] mergeSortedArrays(IntSlice input, IntSlice input2) throws IllegalArgumentException {
+        return mergeSortedArrays(input.toArray(), input2.toArray());
+    }
+
+    /**
+     * Return only distinct values of the slice.
+     *
+     * @param input non-null slice of ints
+     */
+    default int[] distinct(IntSlice input) {
+        return distinct(input.toArray());
+    }
 }
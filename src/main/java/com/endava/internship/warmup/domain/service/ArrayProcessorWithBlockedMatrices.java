@@ -0,0 +1,45 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+
+/**
+ * {@link ArrayProcessorWithForLoops} whose matrix multiplication uses the cache-blocked {@link BlockedMatrixMultiplier}.
+ */
+public class ArrayProcessorWithBlockedMatrices extends ArrayProcessorWithForLoops {
+
+    private final BlockedMatrixMultiplier multiplier;
+
+    public ArrayProcessorWithBlockedMatrices() {
+        this(new BlockedMatrixMultiplier());
+    }
+
+    public ArrayProcessorWithBlockedMatrices(BlockedMatrixMultiplier multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Perform the matrix multiplication tile by tile, so that the rows of rightMatrix are walked sequentially
+     * @param leftMatrix the left matrix represented by array indexes [row][column]
+     * @param rightMatrix the right matrix represented by array indexes [row][column]
+     * @throws NullPointerException when any of the inputs are null. (arrays, rows and columns)
+     * @throws IllegalArgumentException when any array dimensions are not appropriate for matrix multiplication
+     */
+    @Override
+    public int[][] matrixMultiplication(final int[][] leftMatrix, final int[][] rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return multiplier.multiply(leftMatrix, rightMatrix);
+    }
+
+    /**
+     * Perform the matrix multiplication over contiguous matrices tile by tile
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    @Override
+    public IntMatrix matrixMultiplication(final IntMatrix leftMatrix, final IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return multiplier.multiply(leftMatrix, rightMatrix);
+    }
+}
@@ -1,24 +1,39 @@
 package com.endava.internship.warmup.domain.service;
 
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+import com.endava.internship.warmup.domain.model.IntSlice;
+import com.endava.internship.warmup.domain.model.IntSource;
+import com.endava.internship.warmup.domain.model.SparseIntMatrix;
+import com.endava.internship.warmup.domain.model.SparseMatrixMultiplier;
+import com.endava.internship.warmup.domain.util.IntHashSet;
+import com.endava.internship.warmup.domain.util.IntMerge;
+import com.endava.internship.warmup.domain.util.IntMinHeap;
+import com.endava.internship.warmup.domain.util.IntSecondMax;
+import com.endava.internship.warmup.domain.util.IntSelection;
+
 import java.util.*;
 import java.util.function.IntPredicate;
 import java.util.function.ToIntFunction;
-import java.util.stream.IntStream;
 
 public class ArrayProcessorWithForLoops implements ArrayProcessor {
 
+    /** Largest k for which topK and kthLargest keep a heap instead of running quickselect */
+    private static final int HEAP_SELECT_THRESHOLD = 128;
+
+    /** Largest number of values distinct presizes its set for; inputs with more distinct values grow the set */
+    static final int DISTINCT_PRESIZE_LIMIT = 1 << 16;
+
+    private static final SparseMatrixMultiplier SPARSE_MULTIPLIER = new SparseMatrixMultiplier();
+    private static final BatchedMatrixMultiplier BATCHED_MULTIPLIER = new BatchedMatrixMultiplier();
+
     /**
      * Return true if there are no numbers that divide by 10
      * @param input non-null immutable array of ints
      */
     @Override
     public boolean noneMatch(final int[] input) {
-        for(int num : input) {
-            if (num % 10 == 0) {
-                return false;
-            }
-        }
-        return true;
+        return noneMatch(input, 0, input.length);
     }
 
     /**
@@ -28,12 +43,7 @@ public class ArrayProcessorWithForLoops implements ArrayProcessor {
      */
     @Override
     public boolean someMatch(final int[] input, IntPredicate predicate) {
-        for(int num : input) {
-            if (predicate.test(num)) {
-                return true;
-            }
-        }
-        return false;
+        return someMatch(input, 0, input.length, predicate);
     }
 
     /**
@@ -55,6 +65,22 @@ public class ArrayProcessorWithForLoops implements ArrayProcessor {
         return true;
     }
 
+    /**
+     * Return true if all values read from input match the predicate
+     * @param input non-null source of ints
+     * @param predicate invoke predicate.test(int value) on each value read from input
+     * @throws NumberFormatException when input cannot parse a value read before the first failing one
+     */
+    @Override
+    public boolean allMatch(final IntSource input, IntPredicate predicate) throws NumberFormatException {
+        while(input.hasNext()) {
+            if (!predicate.test(input.nextInt())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Copy values into a separate array from specific index to stopindex
      * @param input non-null array of ints
@@ -64,12 +90,10 @@ public class ArrayProcessorWithForLoops implements ArrayProcessor {
      */
     @Override
     public int[] copyValues(int[] input, int startInclusive, int endExclusive) throws IllegalArgumentException {
-        try {
-            return Arrays.stream(input, startInclusive, endExclusive)
-                    .toArray();
-        } catch (Exception e) {
+        if(startInclusive < 0 || endExclusive > input.length || startInclusive > endExclusive) {
             throw new IllegalArgumentException();
         }
+        return Arrays.copyOfRange(input, startInclusive, endExclusive);
     }
 
     /**
@@ -79,23 +103,77 @@ public class ArrayProcessorWithForLoops implements ArrayProcessor {
      */
     @Override
     public int[] replace(final int[] input) {
-        return IntStream.range(0, input.length)
-                .map(i -> i % 2 == 0 ? 2 * input[i] : -input[i])
-                .toArray();
+        return replace(input, 0, input.length);
+    }
+
+    /**
+     * Find the second max value in the array in a single pass
+     * @param input non-null immutable array of ints
+     * @throws IllegalArgumentException when input has fewer than two distinct values
+     */
+    @Override
+    public int findSecondMax(final int[] input) throws IllegalArgumentException {
+        return findSecondMax(input, 0, input.length);
+    }
+
+    /**
+     * Return the k largest values in descending order, keeping a min-heap of the best k for small k
+     * and running quickselect on a copy otherwise
+     * @param input non-null immutable array of ints
+     * @param k the number of values to return
+     * @throws IllegalArgumentException when k is negative or greater than input.length
+     */
+    @Override
+    public int[] topK(final int[] input, int k) throws IllegalArgumentException {
+        if (k < 0 || k > input.length) {
+            throw new IllegalArgumentException();
+        }
+        int[] newValues;
+
+        if (k <= HEAP_SELECT_THRESHOLD) {
+            IntMinHeap heap = new IntMinHeap(k);
+            for(int num : input) {
+                heap.offer(num);
+            }
+            newValues = heap.toArray();
+        } else {
+            int[] copy = input.clone();
+            IntSelection.select(copy, 0, copy.length, copy.length - k);
+            newValues = Arrays.copyOfRange(copy, copy.length - k, copy.length);
+        }
+
+        Arrays.sort(newValues);
+        for(int i = 0, j = newValues.length - 1; i < j; ++i, --j) {
+            int tmp = newValues[i];
+            newValues[i] = newValues[j];
+            newValues[j] = tmp;
+        }
+        return newValues;
     }
 
     /**
-     * Find the second max value in the array
+     * Return the k-th largest value, counting duplicates
      * @param input non-null immutable array of ints
+     * @param k the 1-based rank from the top
+     * @throws IllegalArgumentException when k is not in [1, input.length]
      */
     @Override
-    public int findSecondMax(final int[] input) {
-        int[] newValues = Arrays.stream(input)
-                .sorted()
-                .distinct()
-                .toArray();
+    public int kthLargest(final int[] input, int k) throws IllegalArgumentException {
+        if (k < 1 || k > input.length) {
+            throw new IllegalArgumentException();
+        }
 
-        return newValues[newValues.length - 2];
+        if (k <= HEAP_SELECT_THRESHOLD) {
+            IntMinHeap heap = new IntMinHeap(k);
+            for(int num : input) {
+                heap.offer(num);
+            }
+            return heap.min();
+        }
+
+        int[] copy = input.clone();
+        IntSelection.select(copy, 0, copy.length, copy.length - k);
+        return copy[copy.length - k];
     }
 
     /**
@@ -107,19 +185,31 @@ public class ArrayProcessorWithForLoops implements ArrayProcessor {
     @Override
     public int[] rearrange(final int[] input) {
         int[] newValues = new int[input.length];
+        rearrange(input, 0, input.length, newValues);
+        return newValues;
+    }
 
-        int i = 0, j = (int)Arrays.stream(input)
-                .filter(n -> n < 0)
-                .count();
+    /**
+     * Return in reverse first negative numbers, then positive numbers from array, into output.
+     * Negatives are written from the front and the other values from the back, so one pass and a reversal
+     * of the second part suffice. In place, the array is reversed and then stably partitioned by rotations.
+     * @param input non-null array of ints
+     * @param output non-null array with at least input.length cells, or input itself
+     * @throws IllegalArgumentException when output is shorter than input
+     */
+    @Override
+    public void rearrange(final int[] input, final int[] output) throws IllegalArgumentException {
+        if(output.length < input.length) {
+            throw new IllegalArgumentException();
+        }
 
-        for(int k = input.length - 1; k >= 0; --k) {
-            if (input[k] < 0) {
-                newValues[i++] = input[k];
-            } else {
-                newValues[j++] = input[k];
-            }
+        if(output == input) {
+            reverse(output, 0, output.length);
+            partitionNegativesFirst(output, 0, output.length);
+            return;
         }
-        return newValues;
+
+        rearrange(input, 0, input.length, output);
     }
 
     /**
@@ -129,11 +219,44 @@ public class ArrayProcessorWithForLoops implements ArrayProcessor {
      */
     @Override
     public int[] filter(final int[] input) {
-        int threshold = input.length - 10;
+        return filter(input, 0, input.length);
+    }
 
-        return Arrays.stream(input)
-                .filter(n -> n >= threshold)
-                .toArray();
+    /**
+     * Remove (filter) all values which are smaller than the filter threshold, writing the kept values into output
+     * @param input non-null array of ints
+     * @param output non-null array with at least input.length cells, or input itself
+     * @return the number of values written to output
+     * @throws IllegalArgumentException when output is shorter than input
+     */
+    @Override
+    public int filterInto(final int[] input, final int[] output) throws IllegalArgumentException {
+        if(output.length < input.length) {
+            throw new IllegalArgumentException();
+        }
+        int threshold = filterThreshold(input, 0, input.length);
+        int k = 0;
+
+        for(int num : input) {
+            if (num >= threshold) {
+                output[k++] = num;
+            }
+        }
+        return k;
+    }
+
+    /**
+     * Return the smallest value of input[from, to) kept by filter
+     */
+    protected int filterThreshold(final int[] input, int from, int to) {
+        return filterThreshold(to - from);
+    }
+
+    /**
+     * Return the smallest value kept by filter from length values, for processors that do not see an int[]
+     */
+    static int filterThreshold(int length) {
+        return length - 10;
     }
 
     /**
@@ -146,26 +269,7 @@ public class ArrayProcessorWithForLoops implements ArrayProcessor {
      */
     @Override
     public int[] insertValues(final int[] input, int startInclusive, int[] values) throws IllegalArgumentException {
-        int[] newValues = new int[input.length + values.length];
-        int j = 0;
-
-        try {
-            if(startInclusive < 0 || startInclusive >= input.length) {
-                throw new Exception();
-            }
-            for (int i = 0; i < input.length; ++i) {
-                if (i == startInclusive) {
-                    while (j < values.length) {
-                        newValues[i + j] = values[j++];
-                    }
-                }
-                newValues[i + j] = input[i];
-            }
-            return newValues;
-        } catch (Exception e) {
-            throw new IllegalArgumentException();
-        }
-
+        return insertValues(input, 0, input.length, startInclusive, values, 0, values.length);
     }
 
     /**
@@ -177,41 +281,30 @@ public class ArrayProcessorWithForLoops implements ArrayProcessor {
      */
     @Override
     public int[] mergeSortedArrays(int[] input, int[] input2) throws IllegalArgumentException {
-        final int INPUT_ROWS = input.length;
-        final int INPUT2_ROWS = input2.length;
-        int[] newValues = new int[INPUT_ROWS + INPUT2_ROWS];
-        int i = 0, j = 0, k = 0;
-
-        try {
-            while (i < INPUT_ROWS && j < INPUT2_ROWS) {
-                if (input[i] < input2[j]) {
-                    if (i > 0 && input[i] < input[i - 1]) {
-                        throw new Exception();
-                    }
-                    newValues[k++] = input[i++];
-                } else {
-                    if (j > 0 && input2[j] < input2[j - 1]) {
-                        throw new Exception();
-                    }
-                    newValues[k++] = input2[j++];
-                }
-            }
+        return mergeSortedArrays(input, 0, input.length, input2, 0, input2.length);
+    }
 
-            while(i < INPUT_ROWS) {
-                newValues[k++] = input[i++];
-            }
+    /**
+     * Merge any number of sorted arrays with a loser tree, copying every element once
+     * @param inputs non-null arrays, none of them null
+     * @return new array containing all elements sorted from every input
+     * @throws IllegalArgumentException if any input is not sorted ascending
+     */
+    @Override
+    public int[] mergeSortedArrays(int[]... inputs) throws IllegalArgumentException {
+        long totalLength = 0;
 
-            while(j < INPUT2_ROWS) {
-                if(j > 0 && input2[j] < input2[j - 1]) {
-                    throw new Exception();
-                }
-                newValues[k++] = input2[j++];
+        for(int[] input : inputs) {
+            if (!IntMerge.isSorted(input, 0, input.length)) {
+                throw new IllegalArgumentException();
             }
-        } catch (Exception e) {
-            throw new IllegalArgumentException();
+            totalLength += input.length;
         }
 
-        return newValues;
+        if(totalLength > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException();
+        }
+        return IntMerge.mergeAll(inputs, (int) totalLength);
     }
 
     /**
@@ -291,13 +384,320 @@ public class ArrayProcessorWithForLoops implements ArrayProcessor {
     }
 
     /**
-     * Return only distinct values in an array.
+     * Perform the matrix multiplication over contiguous matrices
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    @Override
+    public IntMatrix matrixMultiplication(final IntMatrix leftMatrix, final IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        IntMatrix multiplicationMatrix = IntMatrix.zeros(leftMatrix.getRows(), rightMatrix.getColumns());
+        final int[] left = leftMatrix.getData();
+        final int[] right = rightMatrix.getData();
+        final int[] result = multiplicationMatrix.getData();
+
+        for(int k = 0; k < leftMatrix.getRows(); ++k) {
+            int resultRow = multiplicationMatrix.index(k, 0);
+            for(int i = 0; i < rightMatrix.getRows(); ++i) {
+                int value = left[leftMatrix.index(k, i)];
+                int rightRow = rightMatrix.index(i, 0);
+                for(int j = 0; j < rightMatrix.getColumns(); ++j) {
+                    result[resultRow + j] += value * right[rightRow + j];
+                }
+            }
+        }
+        return multiplicationMatrix;
+    }
+
+    /**
+     * Perform the matrix multiplication of sparse matrices with {@link SparseMatrixMultiplier},
+     * in time proportional to the non-zero products
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    @Override
+    public SparseIntMatrix matrixMultiplication(final SparseIntMatrix leftMatrix, final SparseIntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return SPARSE_MULTIPLIER.multiply(leftMatrix, rightMatrix);
+    }
+
+    /**
+     * Perform the matrix multiplication of a sparse by a contiguous matrix with {@link SparseMatrixMultiplier},
+     * skipping the zeros of leftMatrix
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    @Override
+    public IntMatrix matrixMultiplication(final SparseIntMatrix leftMatrix, final IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return SPARSE_MULTIPLIER.multiply(leftMatrix, rightMatrix);
+    }
+
+    /**
+     * Multiply packed batches with {@link BatchedMatrixMultiplier}, validating the batch once
+     * @param leftMatrices the left matrices
+     * @param rightMatrices the right matrices
+     * @param output caller-provided batch that is overwritten with the products
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when the counts differ, any dimension is zero, leftMatrices columns differ from
+     * rightMatrices rows, output has the wrong shape or output overlaps an input
+     */
+    @Override
+    public void matrixMultiplication(final IntMatrixBatch leftMatrices, final IntMatrixBatch rightMatrices, final IntMatrixBatch output)
+            throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrices, rightMatrices, output);
+        BATCHED_MULTIPLIER.multiply(leftMatrices, rightMatrices, output);
+    }
+
+    /**
+     * Return only distinct values in an array, in the order they are first encountered.
      * @param input non-null immutable array of ints.
      */
     @Override
     public int[] distinct(final int[] input) {
-        return IntStream.of(input)
-                .distinct()
-                .toArray();
+        return distinct(input, 0, input.length);
+    }
+
+    /**
+     * Return true if there are no numbers that divide by 10
+     * @param input non-null slice of ints
+     */
+    @Override
+    public boolean noneMatch(final IntSlice input) {
+        return noneMatch(input.getArray(), input.getOffset(), end(input));
+    }
+
+    /**
+     * Return true if at least one value in input matches the predicate
+     * @param input non-null slice of ints
+     * @param predicate invoke the predicate.test(int value) on each input element
+     */
+    @Override
+    public boolean someMatch(final IntSlice input, IntPredicate predicate) {
+        return someMatch(input.getArray(), input.getOffset(), end(input), predicate);
+    }
+
+    /**
+     * Replace even index values with their doubles and odd indexed elements with their negative
+     * @param input non-null slice of ints, indexed from its own start
+     * @return new array with changed elements
+     */
+    @Override
+    public int[] replace(final IntSlice input) {
+        return replace(input.getArray(), input.getOffset(), end(input));
+    }
+
+    /**
+     * Find the second max value in the slice in a single pass
+     * @param input non-null slice of ints
+     * @throws IllegalArgumentException when input has fewer than two distinct values
+     */
+    @Override
+    public int findSecondMax(final IntSlice input) throws IllegalArgumentException {
+        return findSecondMax(input.getArray(), input.getOffset(), end(input));
+    }
+
+    /**
+     * Return in reverse first negative numbers, then positive numbers from the slice
+     * @param input non-null slice of ints
+     * @return new array with the rearranged values
+     */
+    @Override
+    public int[] rearrange(final IntSlice input) {
+        int[] newValues = new int[input.getLength()];
+        rearrange(input.getArray(), input.getOffset(), end(input), newValues);
+        return newValues;
+    }
+
+    /**
+     * Remove (filter) all values of the slice which are smaller than the filter threshold
+     * @param input non-null slice of ints
+     * @return The result array should not contain empty cells!
+     */
+    @Override
+    public int[] filter(final IntSlice input) {
+        return filter(input.getArray(), input.getOffset(), end(input));
+    }
+
+    /**
+     * Insert values into input slice at a specific index.
+     * @param input non-null slice of ints
+     * @param startInclusive the index of input at which the first element from values should be inserted
+     * @param values the values to be inserted from startInclusive index
+     * @return new array containing the combined elements of input and values
+     * @throws IllegalArgumentException when startInclusive is out of bounds for input
+     */
+    @Override
+    public int[] insertValues(final IntSlice input, int startInclusive, IntSlice values) throws IllegalArgumentException {
+        return insertValues(input.getArray(), input.getOffset(), end(input), startInclusive,
+                            values.getArray(), values.getOffset(), end(values));
+    }
+
+    /**
+     * Merge two sorted slices so that the return values are also sorted
+     * @param input first non-null slice
+     * @param input2 second non-null slice
+     * @return new array containing all elements sorted from input and input2
+     * @throws IllegalArgumentException if either input or input2 are not sorted ascending
+     */
+    @Override
+    public int[] mergeSortedArrays(final IntSlice input, final IntSlice input2) throws IllegalArgumentException {
+        return mergeSortedArrays(input.getArray(), input.getOffset(), end(input), input2.getArray(), input2.getOffset(), end(input2));
+    }
+
+    /**
+     * Return only distinct values of the slice, in the order they are first encountered.
+     * @param input non-null slice of ints
+     */
+    @Override
+    public int[] distinct(final IntSlice input) {
+        return distinct(input.getArray(), input.getOffset(), end(input));
+    }
+
+    private static int end(IntSlice slice) {
+        return slice.getOffset() + slice.getLength();
+    }
+
+    private static boolean noneMatch(final int[] input, int from, int to) {
+        for(int i = from; i < to; ++i) {
+            if (input[i] % 10 == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean someMatch(final int[] input, int from, int to, IntPredicate predicate) {
+        for(int i = from; i < to; ++i) {
+            if (predicate.test(input[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] replace(final int[] input, int from, int to) {
+        int[] newValues = new int[to - from];
+        for(int i = 0; i < newValues.length; ++i) {
+            newValues[i] = i % 2 == 0 ? 2 * input[from + i] : -input[from + i];
+        }
+        return newValues;
+    }
+
+    private static int findSecondMax(final int[] input, int from, int to) throws IllegalArgumentException {
+        IntSecondMax secondMax = new IntSecondMax();
+        for(int i = from; i < to; ++i) {
+            secondMax.accept(input[i]);
+        }
+        return secondMax.get();
+    }
+
+    /**
+     * Negatives are written from the front of output and the other values from the back,
+     * so one pass and a reversal of the second part suffice
+     */
+    private static void rearrange(final int[] input, int from, int to, final int[] output) {
+        int i = 0, j = to - from - 1;
+        for(int k = to - 1; k >= from; --k) {
+            if (input[k] < 0) {
+                output[i++] = input[k];
+            } else {
+                output[j--] = input[k];
+            }
+        }
+        reverse(output, i, to - from);
+    }
+
+    private int[] filter(final int[] input, int from, int to) {
+        int threshold = filterThreshold(input, from, to);
+        int count = 0;
+
+        for(int i = from; i < to; ++i) {
+            if (input[i] >= threshold) {
+                ++count;
+            }
+        }
+
+        int[] newValues = new int[count];
+        int k = 0;
+        for(int i = from; i < to; ++i) {
+            if (input[i] >= threshold) {
+                newValues[k++] = input[i];
+            }
+        }
+        return newValues;
+    }
+
+    private static int[] insertValues(final int[] input, int from, int to, int startInclusive,
+                                      final int[] values, int valuesFrom, int valuesTo) throws IllegalArgumentException {
+        if(startInclusive < 0 || startInclusive >= to - from) {
+            throw new IllegalArgumentException();
+        }
+        int valuesLength = valuesTo - valuesFrom;
+        int[] newValues = new int[to - from + valuesLength];
+
+        System.arraycopy(input, from, newValues, 0, startInclusive);
+        System.arraycopy(values, valuesFrom, newValues, startInclusive, valuesLength);
+        System.arraycopy(input, from + startInclusive, newValues, startInclusive + valuesLength, to - from - startInclusive);
+        return newValues;
+    }
+
+    private static int[] mergeSortedArrays(int[] input, int from, int to, int[] input2, int from2, int to2) throws IllegalArgumentException {
+        if(!IntMerge.isSorted(input, from, to) || !IntMerge.isSorted(input2, from2, to2)) {
+            throw new IllegalArgumentException();
+        }
+        int[] newValues = new int[(to - from) + (to2 - from2)];
+
+        IntMerge.merge(input, from, to, input2, from2, to2, newValues, 0);
+        return newValues;
+    }
+
+    private static int[] distinct(final int[] input, int from, int to) {
+        IntHashSet seen = new IntHashSet(Math.min(to - from, DISTINCT_PRESIZE_LIMIT));
+        int[] newValues = new int[to - from];
+        int k = 0;
+
+        for(int i = from; i < to; ++i) {
+            if (seen.add(input[i])) {
+                newValues[k++] = input[i];
+            }
+        }
+        return Arrays.copyOf(newValues, k);
+    }
+
+    private static void reverse(int[] values, int from, int to) {
+        for(int i = from, j = to - 1; i < j; ++i, --j) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    /**
+     * Stably move the negatives of values[from, to) before the other values without extra memory
+     * @return the index of the first non-negative value
+     */
+    private static int partitionNegativesFirst(int[] values, int from, int to) {
+        if(to - from == 1) {
+            return values[from] < 0 ? to : from;
+        }
+        if(to - from == 0) {
+            return from;
+        }
+        int middle = (from + to) >>> 1;
+        int leftSplit = partitionNegativesFirst(values, from, middle);
+        int rightSplit = partitionNegativesFirst(values, middle, to);
+
+        // rotate [non-negatives of left | negatives of right] into [negatives of right | non-negatives of left]
+        reverse(values, leftSplit, middle);
+        reverse(values, middle, rightSplit);
+        reverse(values, leftSplit, rightSplit);
+        return leftSplit + (rightSplit - middle);
     }
 }
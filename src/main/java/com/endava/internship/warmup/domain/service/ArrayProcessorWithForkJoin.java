@@ -0,0 +1,196 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link ArrayProcessorWithForLoops} that spreads the expensive operations over a {@link ForkJoinPool}.
+ */
+public class ArrayProcessorWithForkJoin extends ArrayProcessorWithForLoops {
+
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    private final ParallelMatrixMultiplier matrixMultiplier;
+    private final ParallelSortedMerger sortedMerger;
+    private final ParallelPartitioner partitioner;
+    private final ParallelMatcher matcher;
+    private final int sequentialThreshold;
+
+    public ArrayProcessorWithForkJoin() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ArrayProcessorWithForkJoin(ForkJoinPool pool) {
+        this(pool, DEFAULT_SEQUENTIAL_THRESHOLD, new ParallelMatrixMultiplier(pool));
+    }
+
+    /**
+     * @param pool the pool running the array tasks
+     * @param sequentialThreshold input length below which array operations run on the calling thread
+     * @param matrixMultiplier the multiplier used for matrices
+     * @throws NullPointerException when pool or matrixMultiplier are null
+     * @throws IllegalArgumentException when sequentialThreshold is not positive
+     */
+    public ArrayProcessorWithForkJoin(ForkJoinPool pool, int sequentialThreshold, ParallelMatrixMultiplier matrixMultiplier)
+            throws NullPointerException, IllegalArgumentException {
+        if (matrixMultiplier == null) {
+            throw new NullPointerException();
+        }
+        this.matrixMultiplier = matrixMultiplier;
+        this.sortedMerger = new ParallelSortedMerger(pool, sequentialThreshold);
+        this.partitioner = new ParallelPartitioner(pool, sequentialThreshold);
+        this.matcher = new ParallelMatcher(pool, sequentialThreshold);
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Return true if there are no numbers that divide by 10, searching chunks in parallel
+     * @param input non-null immutable array of ints
+     */
+    @Override
+    public boolean noneMatch(final int[] input) {
+        if (input.length <= sequentialThreshold) {
+            return super.noneMatch(input);
+        }
+        return !matcher.anyMatch(input.length, i -> input[i] % 10 == 0);
+    }
+
+    /**
+     * Return true if at least one value in input matches the predicate, searching chunks in parallel
+     * @param input non-null immutable array of ints
+     * @param predicate thread-safe predicate invoked on the input elements
+     */
+    @Override
+    public boolean someMatch(final int[] input, IntPredicate predicate) {
+        if (input.length <= sequentialThreshold) {
+            return super.someMatch(input, predicate);
+        }
+        return matcher.anyMatch(input.length, i -> predicate.test(input[i]));
+    }
+
+    /**
+     * Return true if all values processed by function match the predicate, searching chunks in parallel
+     * @param input non-null immutable array of Strings. No element is null
+     * @param function thread-safe function transforming the input elements into int values
+     * @param predicate thread-safe predicate testing the int values obtained from the function
+     */
+    @Override
+    public boolean allMatch(final String[] input,
+                            ToIntFunction<String> function,
+                            IntPredicate predicate) {
+        if (input.length <= sequentialThreshold) {
+            return super.allMatch(input, function, predicate);
+        }
+        return !matcher.anyMatch(input.length, i -> !predicate.test(function.applyAsInt(input[i])));
+    }
+
+    /**
+     * Return in reverse first negative numbers, then positive numbers from array, scattering chunks in parallel
+     * @param input non-null immutable array of ints.
+     * @return new array with the rearranged values
+     */
+    @Override
+    public int[] rearrange(final int[] input) {
+        if (input.length <= sequentialThreshold) {
+            return super.rearrange(input);
+        }
+        int[] newValues = new int[input.length];
+        partitioner.rearrange(input, newValues);
+        return newValues;
+    }
+
+    /**
+     * Rearrange into output, scattering chunks in parallel unless the rearrangement happens in place
+     * @param input non-null array of ints
+     * @param output non-null array with at least input.length cells, or input itself
+     * @throws IllegalArgumentException when output is shorter than input
+     */
+    @Override
+    public void rearrange(final int[] input, final int[] output) throws IllegalArgumentException {
+        if (input.length <= sequentialThreshold || output == input) {
+            super.rearrange(input, output);
+            return;
+        }
+        if (output.length < input.length) {
+            throw new IllegalArgumentException();
+        }
+        partitioner.rearrange(input, output);
+    }
+
+    /**
+     * Remove (filter) all values which are smaller than the filter threshold, counting and copying chunks in parallel
+     * @param input non-null immutable array of ints
+     * @return The result array should not contain empty cells!
+     */
+    @Override
+    public int[] filter(final int[] input) {
+        if (input.length <= sequentialThreshold) {
+            return super.filter(input);
+        }
+        final int threshold = filterThreshold(input, 0, input.length);
+        return partitioner.filter(input, n -> n >= threshold);
+    }
+
+    /**
+     * Filter into output, counting and copying chunks in parallel unless the filtering happens in place
+     * @param input non-null array of ints
+     * @param output non-null array with at least input.length cells, or input itself
+     * @return the number of values written to output
+     * @throws IllegalArgumentException when output is shorter than input
+     */
+    @Override
+    public int filterInto(final int[] input, final int[] output) throws IllegalArgumentException {
+        if (input.length <= sequentialThreshold || output == input) {
+            return super.filterInto(input, output);
+        }
+        if (output.length < input.length) {
+            throw new IllegalArgumentException();
+        }
+        final int threshold = filterThreshold(input, 0, input.length);
+        return partitioner.filterInto(input, output, n -> n >= threshold);
+    }
+
+    /**
+     * Merge two sorted input and input2 arrays, merging independent output slices in parallel
+     * @param input first non-null array
+     * @param input2 second non-null array
+     * @return new array containing all elements sorted from input and input2
+     * @throws IllegalArgumentException if either input or input are not sorted ascending
+     */
+    @Override
+    public int[] mergeSortedArrays(int[] input, int[] input2) throws IllegalArgumentException {
+        if (input.length + input2.length <= sequentialThreshold) {
+            return super.mergeSortedArrays(input, input2);
+        }
+        return sortedMerger.merge(input, input2);
+    }
+
+    /**
+     * Perform the matrix multiplication computing bands of result rows in parallel
+     * @param leftMatrix the left matrix represented by array indexes [row][column]
+     * @param rightMatrix the right matrix represented by array indexes [row][column]
+     * @throws NullPointerException when any of the inputs are null. (arrays, rows and columns)
+     * @throws IllegalArgumentException when any array dimensions are not appropriate for matrix multiplication
+     */
+    @Override
+    public int[][] matrixMultiplication(final int[][] leftMatrix, final int[][] rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return matrixMultiplier.multiply(leftMatrix, rightMatrix);
+    }
+
+    /**
+     * Perform the matrix multiplication over contiguous matrices computing bands of result rows in parallel
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    @Override
+    public IntMatrix matrixMultiplication(final IntMatrix leftMatrix, final IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return matrixMultiplier.multiply(leftMatrix, rightMatrix);
+    }
+}
@@ -0,0 +1,45 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+
+/**
+ * {@link ArrayProcessorWithForLoops} whose matrix multiplication uses the sub-cubic {@link StrassenMatrixMultiplier}.
+ */
+public class ArrayProcessorWithStrassen extends ArrayProcessorWithForLoops {
+
+    private final StrassenMatrixMultiplier multiplier;
+
+    public ArrayProcessorWithStrassen() {
+        this(new StrassenMatrixMultiplier());
+    }
+
+    public ArrayProcessorWithStrassen(StrassenMatrixMultiplier multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * Perform the matrix multiplication with Strassen's recursion, packing the operands into contiguous storage first
+     * @param leftMatrix the left matrix represented by array indexes [row][column]
+     * @param rightMatrix the right matrix represented by array indexes [row][column]
+     * @throws NullPointerException when any of the inputs are null. (arrays, rows and columns)
+     * @throws IllegalArgumentException when any array dimensions are not appropriate for matrix multiplication
+     */
+    @Override
+    public int[][] matrixMultiplication(final int[][] leftMatrix, final int[][] rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return multiplier.multiply(IntMatrix.of(leftMatrix), IntMatrix.of(rightMatrix)).toArray();
+    }
+
+    /**
+     * Perform the matrix multiplication over contiguous matrices with Strassen's recursion
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    @Override
+    public IntMatrix matrixMultiplication(final IntMatrix leftMatrix, final IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        return multiplier.multiply(leftMatrix, rightMatrix);
+    }
+}
@@ -0,0 +1,465 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+import com.endava.internship.warmup.domain.model.IntSlice;
+import com.endava.internship.warmup.domain.model.IntSource;
+import com.endava.internship.warmup.domain.model.SparseIntMatrix;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Asynchronous facade running every {@link ArrayProcessor} method on an executor and returning a
+ * {@link CompletableFuture} that completes with its result or exception. Inputs must not be modified until the
+ * future completes.
+ * <p>
+ * Requests with fewer than tinyRequestSize input values are queued and run up to maxBatchSize at a time in one task,
+ * with at most one such task per available processor in flight, so tiny requests do not pay a task hand-off each.
+ * At most maxPendingRequests tiny requests wait in that queue, further ones fail with
+ * {@link RejectedExecutionException} like requests the executor refuses.
+ * A facade from {@link #withTimeout(long, TimeUnit)} fails its futures with {@link TimeoutException} once the
+ * deadline passes; a request that has not started by then is skipped, one that has is left to finish.
+ */
+public class AsyncArrayProcessor implements AutoCloseable {
+
+    public static final int DEFAULT_TINY_REQUEST_SIZE = 256;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    public static final int DEFAULT_MAX_PENDING_REQUESTS = 4096;
+
+    private final ArrayProcessor processor;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final int tinyRequestSize;
+    private final RequestBatcher batcher;
+    private final long timeoutNanos;
+
+    /**
+     * Run on {@link AsyncExecutors#newDefaultExecutor()}, which is shut down by {@link #close()}
+     */
+    public AsyncArrayProcessor(ArrayProcessor processor) throws NullPointerException {
+        this(processor, AsyncExecutors.newDefaultExecutor(), true,
+                DEFAULT_TINY_REQUEST_SIZE, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_PENDING_REQUESTS);
+    }
+
+    /**
+     * Run on executor, which stays owned by the caller
+     */
+    public AsyncArrayProcessor(ArrayProcessor processor, Executor executor) throws NullPointerException {
+        this(processor, executor, DEFAULT_TINY_REQUEST_SIZE, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param processor the processor doing the work
+     * @param executor runs the requests and stays owned by the caller
+     * @param tinyRequestSize requests with fewer input values than this are batched, 0 disables batching
+     * @param maxBatchSize the most tiny requests run by one task
+     * @throws NullPointerException when processor or executor are null
+     * @throws IllegalArgumentException when tinyRequestSize is negative or maxBatchSize is not positive
+     */
+    public AsyncArrayProcessor(ArrayProcessor processor, Executor executor, int tinyRequestSize, int maxBatchSize)
+            throws NullPointerException, IllegalArgumentException {
+        this(processor, executor, tinyRequestSize, maxBatchSize, DEFAULT_MAX_PENDING_REQUESTS);
+    }
+
+    /**
+     * @param processor the processor doing the work
+     * @param executor runs the requests and stays owned by the caller
+     * @param tinyRequestSize requests with fewer input values than this are batched, 0 disables batching
+     * @param maxBatchSize the most tiny requests run by one task
+     * @param maxPendingRequests the most tiny requests waiting for a task
+     * @throws NullPointerException when processor or executor are null
+     * @throws IllegalArgumentException when tinyRequestSize is negative or maxBatchSize or maxPendingRequests
+     *                                  are not positive
+     */
+    public AsyncArrayProcessor(ArrayProcessor processor, Executor executor, int tinyRequestSize, int maxBatchSize,
+                               int maxPendingRequests) throws NullPointerException, IllegalArgumentException {
+        this(processor, executor, false, tinyRequestSize, maxBatchSize, maxPendingRequests);
+    }
+
+    private AsyncArrayProcessor(ArrayProcessor processor, Executor executor, boolean ownsExecutor,
+                                int tinyRequestSize, int maxBatchSize, int maxPendingRequests) {
+        if (processor == null || executor == null) {
+            throw new NullPointerException();
+        }
+        if (tinyRequestSize < 0 || maxBatchSize <= 0 || maxPendingRequests <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.processor = processor;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.tinyRequestSize = tinyRequestSize;
+        this.batcher = new RequestBatcher(executor, maxBatchSize, Runtime.getRuntime().availableProcessors(),
+                maxPendingRequests);
+        this.timeoutNanos = 0;
+    }
+
+    private AsyncArrayProcessor(AsyncArrayProcessor parent, long timeoutNanos) {
+        this.processor = parent.processor;
+        this.executor = parent.executor;
+        this.ownsExecutor = false;
+        this.tinyRequestSize = parent.tinyRequestSize;
+        this.batcher = parent.batcher;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * Return a facade sharing this one's executor and batches whose futures fail after timeout
+     * @throws IllegalArgumentException when timeout is not positive
+     */
+    public AsyncArrayProcessor withTimeout(long timeout, TimeUnit unit) throws NullPointerException, IllegalArgumentException {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return new AsyncArrayProcessor(this, unit.toNanos(timeout));
+    }
+
+    public ArrayProcessor getProcessor() {
+        return processor;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Shut the executor down when this facade created it, leaving queued requests to finish
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    public CompletableFuture<Boolean> noneMatch(int[] input) {
+        return submit(length(input), () -> processor.noneMatch(input));
+    }
+
+    public CompletableFuture<Boolean> someMatch(int[] input, IntPredicate predicate) {
+        return submit(length(input), () -> processor.someMatch(input, predicate));
+    }
+
+    public CompletableFuture<Boolean> allMatch(String[] input, ToIntFunction<String> function, IntPredicate predicate) {
+        return submit(input == null ? 0 : input.length, () -> processor.allMatch(input, function, predicate));
+    }
+
+    /**
+     * The size of a source is unknown up front, so it is never batched
+     */
+    public CompletableFuture<Boolean> allMatch(IntSource input, IntPredicate predicate) {
+        return submit(Long.MAX_VALUE, () -> processor.allMatch(input, predicate));
+    }
+
+    public CompletableFuture<int[]> copyValues(int[] input, int startInclusive, int endExclusive) {
+        return submit(length(input), () -> processor.copyValues(input, startInclusive, endExclusive));
+    }
+
+    public CompletableFuture<int[]> replace(int[] input) {
+        return submit(length(input), () -> processor.replace(input));
+    }
+
+    public CompletableFuture<Integer> findSecondMax(int[] input) {
+        return submit(length(input), () -> processor.findSecondMax(input));
+    }
+
+    public CompletableFuture<int[]> topK(int[] input, int k) {
+        return submit(length(input), () -> processor.topK(input, k));
+    }
+
+    public CompletableFuture<Integer> kthLargest(int[] input, int k) {
+        return submit(length(input), () -> processor.kthLargest(input, k));
+    }
+
+    public CompletableFuture<int[]> rearrange(int[] input) {
+        return submit(length(input), () -> processor.rearrange(input));
+    }
+
+    public CompletableFuture<Void> rearrange(int[] input, int[] output) {
+        return submit(length(input), () -> {
+            processor.rearrange(input, output);
+            return null;
+        });
+    }
+
+    public CompletableFuture<int[]> filter(int[] input) {
+        return submit(length(input), () -> processor.filter(input));
+    }
+
+    public CompletableFuture<Integer> filterInto(int[] input, int[] output) {
+        return submit(length(input), () -> processor.filterInto(input, output));
+    }
+
+    public CompletableFuture<int[]> insertValues(int[] input, int startInclusive, int[] values) {
+        return submit(length(input) + length(values), () -> processor.insertValues(input, startInclusive, values));
+    }
+
+    public CompletableFuture<int[]> mergeSortedArrays(int[] input, int[] input2) {
+        return submit(length(input) + length(input2), () -> processor.mergeSortedArrays(input, input2));
+    }
+
+    public CompletableFuture<int[]> mergeSortedArrays(int[]... inputs) {
+        return submit(cells(inputs), () -> processor.mergeSortedArrays(inputs));
+    }
+
+    public CompletableFuture<Void> validateForMatrixMultiplication(int[][] leftMatrix, int[][] rightMatrix) {
+        return submit(cells(leftMatrix) + cells(rightMatrix), () -> {
+            processor.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+            return null;
+        });
+    }
+
+    public CompletableFuture<int[][]> matrixMultiplication(int[][] leftMatrix, int[][] rightMatrix) {
+        return submit(cells(leftMatrix) + cells(rightMatrix), () -> processor.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    public CompletableFuture<Void> validateForMatrixMultiplication(IntMatrix leftMatrix, IntMatrix rightMatrix) {
+        return submit(cells(leftMatrix) + cells(rightMatrix), () -> {
+            processor.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+            return null;
+        });
+    }
+
+    public CompletableFuture<IntMatrix> matrixMultiplication(IntMatrix leftMatrix, IntMatrix rightMatrix) {
+        return submit(cells(leftMatrix) + cells(rightMatrix), () -> processor.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    public CompletableFuture<Void> validateForMatrixMultiplication(SparseIntMatrix leftMatrix, SparseIntMatrix rightMatrix) {
+        return submit(cells(leftMatrix) + cells(rightMatrix), () -> {
+            processor.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+            return null;
+        });
+    }
+
+    public CompletableFuture<SparseIntMatrix> matrixMultiplication(SparseIntMatrix leftMatrix, SparseIntMatrix rightMatrix) {
+        return submit(cells(leftMatrix) + cells(rightMatrix), () -> processor.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    public CompletableFuture<Void> validateForMatrixMultiplication(SparseIntMatrix leftMatrix, IntMatrix rightMatrix) {
+        return submit(cells(leftMatrix) + cells(rightMatrix), () -> {
+            processor.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+            return null;
+        });
+    }
+
+    public CompletableFuture<IntMatrix> matrixMultiplication(SparseIntMatrix leftMatrix, IntMatrix rightMatrix) {
+        return submit(cells(leftMatrix) + cells(rightMatrix), () -> processor.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    public CompletableFuture<Void> validateForMatrixMultiplication(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices,
+                                                                   IntMatrixBatch output) {
+        return submit(cells(leftMatrices) + cells(rightMatrices), () -> {
+            processor.validateForMatrixMultiplication(leftMatrices, rightMatrices, output);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> matrixMultiplication(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices,
+                                                        IntMatrixBatch output) {
+        return submit(cells(leftMatrices) + cells(rightMatrices), () -> {
+            processor.matrixMultiplication(leftMatrices, rightMatrices, output);
+            return null;
+        });
+    }
+
+    public CompletableFuture<int[]> distinct(int[] input) {
+        return submit(length(input), () -> processor.distinct(input));
+    }
+
+    public CompletableFuture<Boolean> noneMatch(IntSlice input) {
+        return submit(length(input), () -> processor.noneMatch(input));
+    }
+
+    public CompletableFuture<Boolean> someMatch(IntSlice input, IntPredicate predicate) {
+        return submit(length(input), () -> processor.someMatch(input, predicate));
+    }
+
+    public CompletableFuture<IntSlice> copyValues(IntSlice input, int startInclusive, int endExclusive) {
+        return submit(length(input), () -> processor.copyValues(input, startInclusive, endExclusive));
+    }
+
+    public CompletableFuture<int[]> replace(IntSlice input) {
+        return submit(length(input), () -> processor.replace(input));
+    }
+
+    public CompletableFuture<Integer> findSecondMax(IntSlice input) {
+        return submit(length(input), () -> processor.findSecondMax(input));
+    }
+
+    public CompletableFuture<int[]> rearrange(IntSlice input) {
+        return submit(length(input), () -> processor.rearrange(input));
+    }
+
+    public CompletableFuture<int[]> filter(IntSlice input) {
+        return submit(length(input), () -> processor.filter(input));
+    }
+
+    public CompletableFuture<int[]> insertValues(IntSlice input, int startInclusive, IntSlice values) {
+        return submit(length(input) + length(values), () -> processor.insertValues(input, startInclusive, values));
+    }
+
+    public CompletableFuture<int[]> mergeSortedArrays(IntSlice input, IntSlice input2) {
+        return submit(length(input) + length(input2), () -> processor.mergeSortedArrays(input, input2));
+    }
+
+    public CompletableFuture<int[]> distinct(IntSlice input) {
+        return submit(length(input), () -> processor.distinct(input));
+    }
+
+    private <T> CompletableFuture<T> submit(long size, Supplier<T> call) {
+        final Request<T> request = new Request<>(call);
+        if (timeoutNanos > 0) {
+            final ScheduledFuture<?> deadline = AsyncExecutors.deadlineScheduler().schedule(
+                    () -> request.result.completeExceptionally(new TimeoutException()), timeoutNanos, TimeUnit.NANOSECONDS);
+            request.result.whenComplete((value, failure) -> deadline.cancel(false));
+        }
+        try {
+            if (size < tinyRequestSize) {
+                batcher.submit(request);
+            } else {
+                executor.execute(request);
+            }
+        } catch (RejectedExecutionException e) {
+            request.result.completeExceptionally(e);
+        }
+        return request.result;
+    }
+
+    private static long length(int[] input) {
+        return input == null ? 0 : input.length;
+    }
+
+    private static long length(IntSlice input) {
+        return input == null ? 0 : input.getLength();
+    }
+
+    private static long cells(int[][] rows) {
+        long cells = 0;
+        if (rows != null) {
+            for (int[] row : rows) {
+                cells += length(row);
+            }
+        }
+        return cells;
+    }
+
+    private static long cells(IntMatrix matrix) {
+        return matrix == null ? 0 : (long) matrix.getRows() * matrix.getColumns();
+    }
+
+    private static long cells(SparseIntMatrix matrix) {
+        return matrix == null ? 0 : matrix.getNonZeros();
+    }
+
+    private static long cells(IntMatrixBatch batch) {
+        return batch == null ? 0 : batch.length();
+    }
+
+    private static final class Request<T> implements Runnable {
+
+        private final Supplier<T> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Request(Supplier<T> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(call.get());
+            } catch (Throwable failure) {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * Queue of at most maxPending tiny requests drained by at most maxDrains tasks at a time, each running up to
+     * maxBatchSize requests before handing the executor back. A drain re-checks the queue after it stops, so a
+     * request queued while every drain was finishing is never stranded. When the executor refuses a drain the
+     * queue is left to the drains already running, and failed only when there are none.
+     */
+    private static final class RequestBatcher {
+
+        private final Executor executor;
+        private final int maxBatchSize;
+        private final int maxDrains;
+        private final int maxPending;
+        private final ConcurrentLinkedQueue<Request<?>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicInteger drains = new AtomicInteger();
+
+        RequestBatcher(Executor executor, int maxBatchSize, int maxDrains, int maxPending) {
+            this.executor = executor;
+            this.maxBatchSize = maxBatchSize;
+            this.maxDrains = maxDrains;
+            this.maxPending = maxPending;
+        }
+
+        void submit(Request<?> request) throws RejectedExecutionException {
+            if (pendingCount.incrementAndGet() > maxPending) {
+                pendingCount.decrementAndGet();
+                throw new RejectedExecutionException("more than " + maxPending + " tiny requests pending");
+            }
+            pending.add(request);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            while (!pending.isEmpty()) {
+                final int running = drains.get();
+                if (running >= maxDrains) {
+                    return;
+                }
+                if (drains.compareAndSet(running, running + 1)) {
+                    try {
+                        executor.execute(this::drain);
+                    } catch (RejectedExecutionException e) {
+                        if (drains.decrementAndGet() == 0) {
+                            rejectPending(e);
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                for (int i = 0; i < maxBatchSize; ++i) {
+                    final Request<?> request = pending.poll();
+                    if (request == null) {
+                        break;
+                    }
+                    pendingCount.decrementAndGet();
+                    request.run();
+                }
+            } finally {
+                drains.decrementAndGet();
+                scheduleDrain();
+            }
+        }
+
+        private void rejectPending(RejectedExecutionException e) {
+            Request<?> request;
+            while ((request = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                request.result.completeExceptionally(e);
+            }
+        }
+    }
+}
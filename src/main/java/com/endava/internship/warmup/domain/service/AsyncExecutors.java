@@ -0,0 +1,102 @@
+package com.endava.internship.warmup.domain.service;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for {@link AsyncArrayProcessor}. Virtual threads are looked up by reflection so that this module keeps
+ * compiling and running on Java 8.
+ */
+public final class AsyncExecutors {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    private static final int VIRTUAL_THREADS_SINCE = 21;
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * Return a virtual thread per task executor on JDK 21 and later, otherwise a pool of one thread per processor
+     * queueing at most {@link #DEFAULT_QUEUE_CAPACITY} tasks
+     */
+    public static ExecutorService newDefaultExecutor() {
+        final ExecutorService virtualThreads = newVirtualThreadExecutor();
+        if (virtualThreads != null) {
+            return virtualThreads;
+        }
+        return newBoundedPool(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Return a virtual thread per task executor, or null when the running JDK has no virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        if (featureVersion() < VIRTUAL_THREADS_SINCE) {
+            return null;
+        }
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Return a pool of daemon threads that rejects tasks once queueCapacity tasks are waiting
+     * @throws IllegalArgumentException when threads or queueCapacity are not positive
+     */
+    public static ExecutorService newBoundedPool(int threads, int queueCapacity) throws IllegalArgumentException {
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads("array-processor-async-"));
+    }
+
+    /**
+     * Return the single daemon thread shared by every facade to expire deadlines
+     */
+    static ScheduledExecutorService deadlineScheduler() {
+        return DeadlineScheduler.INSTANCE;
+    }
+
+    static int featureVersion() {
+        final String version = System.getProperty("java.specification.version", "1.8");
+        final String feature = version.startsWith("1.") ? version.substring(2) : version;
+        try {
+            return Integer.parseInt(feature);
+        } catch (NumberFormatException e) {
+            return 8;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class DeadlineScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, daemonThreads("array-processor-deadline-"));
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+
+/**
+ * Multiplies packed batches of small matrices into a caller-provided batch. Square 2x2, 3x3 and 4x4 shapes run
+ * fully unrolled kernels that keep a whole left row in locals; square 8x8, 16x16 and 32x32 shapes run loops whose
+ * bounds are constants, which the JIT unrolls and vectorizes; other shapes run a loop unrolled four columns wide.
+ * Shapes must have been validated once for the batch; the output is overwritten, not accumulated into.
+ */
+public class BatchedMatrixMultiplier {
+
+    public void multiply(final IntMatrixBatch leftMatrices, final IntMatrixBatch rightMatrices, final IntMatrixBatch output) {
+        final int rows = leftMatrices.getRows();
+        final int inner = leftMatrices.getColumns();
+        final int columns = rightMatrices.getColumns();
+
+        if (rows == inner && inner == columns) {
+            switch (rows) {
+                case 2:
+                    multiply2x2(leftMatrices, rightMatrices, output);
+                    return;
+                case 3:
+                    multiply3x3(leftMatrices, rightMatrices, output);
+                    return;
+                case 4:
+                    multiply4x4(leftMatrices, rightMatrices, output);
+                    return;
+                case 8:
+                    multiply8x8(leftMatrices, rightMatrices, output);
+                    return;
+                case 16:
+                    multiply16x16(leftMatrices, rightMatrices, output);
+                    return;
+                case 32:
+                    multiply32x32(leftMatrices, rightMatrices, output);
+                    return;
+                default:
+                    break;
+            }
+        }
+        multiplyAny(leftMatrices, rightMatrices, output, rows, inner, columns);
+    }
+
+    private static void multiply2x2(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output) {
+        final int[] a = leftMatrices.getData();
+        final int[] b = rightMatrices.getData();
+        final int[] c = output.getData();
+        for (int m = 0, l = leftMatrices.getOffset(), r = rightMatrices.getOffset(), o = output.getOffset();
+             m < output.getCount(); ++m, l += 4, r += 4, o += 4) {
+            final int b00 = b[r], b01 = b[r + 1], b10 = b[r + 2], b11 = b[r + 3];
+            final int a00 = a[l], a01 = a[l + 1], a10 = a[l + 2], a11 = a[l + 3];
+            c[o] = a00 * b00 + a01 * b10;
+            c[o + 1] = a00 * b01 + a01 * b11;
+            c[o + 2] = a10 * b00 + a11 * b10;
+            c[o + 3] = a10 * b01 + a11 * b11;
+        }
+    }
+
+    private static void multiply3x3(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output) {
+        final int[] a = leftMatrices.getData();
+        final int[] b = rightMatrices.getData();
+        final int[] c = output.getData();
+        for (int m = 0, l = leftMatrices.getOffset(), r = rightMatrices.getOffset(), o = output.getOffset();
+             m < output.getCount(); ++m, l += 9, r += 9, o += 9) {
+            final int b00 = b[r], b01 = b[r + 1], b02 = b[r + 2];
+            final int b10 = b[r + 3], b11 = b[r + 4], b12 = b[r + 5];
+            final int b20 = b[r + 6], b21 = b[r + 7], b22 = b[r + 8];
+            for (int i = 0; i < 9; i += 3) {
+                final int a0 = a[l + i], a1 = a[l + i + 1], a2 = a[l + i + 2];
+                c[o + i] = a0 * b00 + a1 * b10 + a2 * b20;
+                c[o + i + 1] = a0 * b01 + a1 * b11 + a2 * b21;
+                c[o + i + 2] = a0 * b02 + a1 * b12 + a2 * b22;
+            }
+        }
+    }
+
+    private static void multiply4x4(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output) {
+        final int[] a = leftMatrices.getData();
+        final int[] b = rightMatrices.getData();
+        final int[] c = output.getData();
+        for (int m = 0, l = leftMatrices.getOffset(), r = rightMatrices.getOffset(), o = output.getOffset();
+             m < output.getCount(); ++m, l += 16, r += 16, o += 16) {
+            final int b00 = b[r], b01 = b[r + 1], b02 = b[r + 2], b03 = b[r + 3];
+            final int b10 = b[r + 4], b11 = b[r + 5], b12 = b[r + 6], b13 = b[r + 7];
+            final int b20 = b[r + 8], b21 = b[r + 9], b22 = b[r + 10], b23 = b[r + 11];
+            final int b30 = b[r + 12], b31 = b[r + 13], b32 = b[r + 14], b33 = b[r + 15];
+            for (int i = 0; i < 16; i += 4) {
+                final int a0 = a[l + i], a1 = a[l + i + 1], a2 = a[l + i + 2], a3 = a[l + i + 3];
+                c[o + i] = a0 * b00 + a1 * b10 + a2 * b20 + a3 * b30;
+                c[o + i + 1] = a0 * b01 + a1 * b11 + a2 * b21 + a3 * b31;
+                c[o + i + 2] = a0 * b02 + a1 * b12 + a2 * b22 + a3 * b32;
+                c[o + i + 3] = a0 * b03 + a1 * b13 + a2 * b23 + a3 * b33;
+            }
+        }
+    }
+
+    /**
+     * This and the next two kernels are deliberate per-size copies, so n and every trip count stay constant
+     */
+    private static void multiply8x8(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output) {
+        final int n = 8;
+        final int[] a = leftMatrices.getData();
+        final int[] b = rightMatrices.getData();
+        final int[] c = output.getData();
+        for (int m = 0, l = leftMatrices.getOffset(), r = rightMatrices.getOffset(), o = output.getOffset();
+             m < output.getCount(); ++m, l += n * n, r += n * n, o += n * n) {
+            for (int i = 0; i < n; ++i) {
+                final int resultRow = o + i * n;
+                final int leftRow = l + i * n;
+                for (int j = 0; j < n; ++j) {
+                    c[resultRow + j] = 0;
+                }
+                for (int k = 0; k < n; ++k) {
+                    final int factor = a[leftRow + k];
+                    final int rightRow = r + k * n;
+                    for (int j = 0; j < n; ++j) {
+                        c[resultRow + j] += factor * b[rightRow + j];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void multiply16x16(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output) {
+        final int n = 16;
+        final int[] a = leftMatrices.getData();
+        final int[] b = rightMatrices.getData();
+        final int[] c = output.getData();
+        for (int m = 0, l = leftMatrices.getOffset(), r = rightMatrices.getOffset(), o = output.getOffset();
+             m < output.getCount(); ++m, l += n * n, r += n * n, o += n * n) {
+            for (int i = 0; i < n; ++i) {
+                final int resultRow = o + i * n;
+                final int leftRow = l + i * n;
+                for (int j = 0; j < n; ++j) {
+                    c[resultRow + j] = 0;
+                }
+                for (int k = 0; k < n; ++k) {
+                    final int factor = a[leftRow + k];
+                    final int rightRow = r + k * n;
+                    for (int j = 0; j < n; ++j) {
+                        c[resultRow + j] += factor * b[rightRow + j];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void multiply32x32(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output) {
+        final int n = 32;
+        final int[] a = leftMatrices.getData();
+        final int[] b = rightMatrices.getData();
+        final int[] c = output.getData();
+        for (int m = 0, l = leftMatrices.getOffset(), r = rightMatrices.getOffset(), o = output.getOffset();
+             m < output.getCount(); ++m, l += n * n, r += n * n, o += n * n) {
+            for (int i = 0; i < n; ++i) {
+                final int resultRow = o + i * n;
+                final int leftRow = l + i * n;
+                for (int j = 0; j < n; ++j) {
+                    c[resultRow + j] = 0;
+                }
+                for (int k = 0; k < n; ++k) {
+                    final int factor = a[leftRow + k];
+                    final int rightRow = r + k * n;
+                    for (int j = 0; j < n; ++j) {
+                        c[resultRow + j] += factor * b[rightRow + j];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * i-k-j order over each matrix: row i of the result accumulates row k of the right matrix, scaled by [i][k]
+     */
+    private static void multiplyAny(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output,
+                                    int rows, int inner, int columns) {
+        final int[] a = leftMatrices.getData();
+        final int[] b = rightMatrices.getData();
+        final int[] c = output.getData();
+        final int unrolled = columns & ~3;
+
+        for (int m = 0; m < output.getCount(); ++m) {
+            final int l = leftMatrices.start(m);
+            final int r = rightMatrices.start(m);
+            final int o = output.start(m);
+            for (int i = 0; i < rows; ++i) {
+                final int resultRow = o + i * columns;
+                for (int j = 0; j < columns; ++j) {
+                    c[resultRow + j] = 0;
+                }
+                for (int k = 0; k < inner; ++k) {
+                    final int factor = a[l + i * inner + k];
+                    final int rightRow = r + k * columns;
+                    int j = 0;
+                    for (; j < unrolled; j += 4) {
+                        c[resultRow + j] += factor * b[rightRow + j];
+                        c[resultRow + j + 1] += factor * b[rightRow + j + 1];
+                        c[resultRow + j + 2] += factor * b[rightRow + j + 2];
+                        c[resultRow + j + 3] += factor * b[rightRow + j + 3];
+                    }
+                    for (; j < columns; ++j) {
+                        c[resultRow + j] += factor * b[rightRow + j];
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+
+/**
+ * Cache-blocked matrix multiplication kernel using the i-k-j loop order.
+ * The operands are expected to be validated by the caller.
+ */
+public class BlockedMatrixMultiplier {
+
+    public static final int DEFAULT_ROW_TILE = 64;
+    public static final int DEFAULT_INNER_TILE = 128;
+    public static final int DEFAULT_COLUMN_TILE = 512;
+    public static final int DEFAULT_NAIVE_THRESHOLD = 64;
+
+    private final int rowTile;
+    private final int innerTile;
+    private final int columnTile;
+    private final int naiveThreshold;
+
+    public BlockedMatrixMultiplier() {
+        this(DEFAULT_ROW_TILE, DEFAULT_INNER_TILE, DEFAULT_COLUMN_TILE, DEFAULT_NAIVE_THRESHOLD);
+    }
+
+    /**
+     * @param rowTile number of result rows processed per tile
+     * @param innerTile number of shared (left column / right row) indexes processed per tile
+     * @param columnTile number of result columns processed per tile
+     * @param naiveThreshold matrices whose every dimension is below this value use the simple loop
+     * @throws IllegalArgumentException when a tile size is not positive or the threshold is negative
+     */
+    public BlockedMatrixMultiplier(int rowTile, int innerTile, int columnTile, int naiveThreshold) throws IllegalArgumentException {
+        if (rowTile <= 0 || innerTile <= 0 || columnTile <= 0 || naiveThreshold < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.rowTile = rowTile;
+        this.innerTile = innerTile;
+        this.columnTile = columnTile;
+        this.naiveThreshold = naiveThreshold;
+    }
+
+    /**
+     * Multiply two validated matrices
+     * @param leftMatrix the left matrix represented by array indexes [row][column]
+     * @param rightMatrix the right matrix represented by array indexes [row][column]
+     * @return new matrix with leftMatrix.length rows and rightMatrix[0].length columns
+     */
+    public int[][] multiply(final int[][] leftMatrix, final int[][] rightMatrix) {
+        int[][] multiplicationMatrix = new int[leftMatrix.length][rightMatrix[0].length];
+        multiplyRows(leftMatrix, rightMatrix, multiplicationMatrix, 0, leftMatrix.length);
+        return multiplicationMatrix;
+    }
+
+    /**
+     * Accumulate the rows [rowFrom, rowTo) of leftMatrix * rightMatrix into result
+     * @param result zero-initialised (or partially accumulated) matrix of the product dimensions
+     */
+    public void multiplyRows(final int[][] leftMatrix, final int[][] rightMatrix, final int[][] result, int rowFrom, int rowTo) {
+        final int inner = rightMatrix.length;
+        final int columns = result.length == 0 ? 0 : result[0].length;
+
+        if (isTiny(rowTo - rowFrom, inner, columns)) {
+            multiplySimple(leftMatrix, rightMatrix, result, rowFrom, rowTo, 0, inner, 0, columns);
+            return;
+        }
+
+        for (int ii = rowFrom; ii < rowTo; ii += rowTile) {
+            int iEnd = Math.min(ii + rowTile, rowTo);
+            for (int kk = 0; kk < inner; kk += innerTile) {
+                int kEnd = Math.min(kk + innerTile, inner);
+                for (int jj = 0; jj < columns; jj += columnTile) {
+                    int jEnd = Math.min(jj + columnTile, columns);
+                    multiplySimple(leftMatrix, rightMatrix, result, ii, iEnd, kk, kEnd, jj, jEnd);
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiply two validated contiguous matrices
+     * @return new matrix with leftMatrix rows and rightMatrix columns
+     */
+    public IntMatrix multiply(final IntMatrix leftMatrix, final IntMatrix rightMatrix) {
+        IntMatrix multiplicationMatrix = IntMatrix.zeros(leftMatrix.getRows(), rightMatrix.getColumns());
+        multiplyRows(leftMatrix, rightMatrix, multiplicationMatrix, 0, leftMatrix.getRows());
+        return multiplicationMatrix;
+    }
+
+    /**
+     * Accumulate the rows [rowFrom, rowTo) of leftMatrix * rightMatrix into result
+     * @param result zero-initialised (or partially accumulated) matrix of the product dimensions
+     */
+    public void multiplyRows(final IntMatrix leftMatrix, final IntMatrix rightMatrix, final IntMatrix result, int rowFrom, int rowTo) {
+        final int inner = rightMatrix.getRows();
+        final int columns = result.getColumns();
+
+        if (isTiny(rowTo - rowFrom, inner, columns)) {
+            multiplySimple(leftMatrix, rightMatrix, result, rowFrom, rowTo, 0, inner, 0, columns);
+            return;
+        }
+
+        for (int ii = rowFrom; ii < rowTo; ii += rowTile) {
+            int iEnd = Math.min(ii + rowTile, rowTo);
+            for (int kk = 0; kk < inner; kk += innerTile) {
+                int kEnd = Math.min(kk + innerTile, inner);
+                for (int jj = 0; jj < columns; jj += columnTile) {
+                    int jEnd = Math.min(jj + columnTile, columns);
+                    multiplySimple(leftMatrix, rightMatrix, result, ii, iEnd, kk, kEnd, jj, jEnd);
+                }
+            }
+        }
+    }
+
+    private boolean isTiny(int rows, int inner, int columns) {
+        return rows < naiveThreshold && inner < naiveThreshold && columns < naiveThreshold;
+    }
+
+    private static void multiplySimple(final int[][] leftMatrix, final int[][] rightMatrix, final int[][] result,
+                                       int rowFrom, int rowTo, int innerFrom, int innerTo, int columnFrom, int columnTo) {
+        for (int i = rowFrom; i < rowTo; ++i) {
+            final int[] leftRow = leftMatrix[i];
+            final int[] resultRow = result[i];
+            for (int k = innerFrom; k < innerTo; ++k) {
+                final int value = leftRow[k];
+                final int[] rightRow = rightMatrix[k];
+                for (int j = columnFrom; j < columnTo; ++j) {
+                    resultRow[j] += value * rightRow[j];
+                }
+            }
+        }
+    }
+
+    private static void multiplySimple(final IntMatrix leftMatrix, final IntMatrix rightMatrix, final IntMatrix result,
+                                       int rowFrom, int rowTo, int innerFrom, int innerTo, int columnFrom, int columnTo) {
+        final int[] left = leftMatrix.getData();
+        final int[] right = rightMatrix.getData();
+        final int[] product = result.getData();
+        final int width = columnTo - columnFrom;
+
+        for (int i = rowFrom; i < rowTo; ++i) {
+            final int leftRow = leftMatrix.index(i, 0);
+            final int resultStart = result.index(i, columnFrom);
+            for (int k = innerFrom; k < innerTo; ++k) {
+                final int value = left[leftRow + k];
+                final int rightStart = rightMatrix.index(k, columnFrom);
+                for (int j = 0; j < width; ++j) {
+                    product[resultStart + j] += value * right[rightStart + j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.endava.internship.warmup.domain.service;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link IntChunkConsumer} decoupling a producer from a slower downstream consumer running on an executor.
+ * At most maxBufferedValues ints wait in the buffer; a producer offering more blocks until the downstream
+ * catches up, which is the backpressure. A chunk larger than the bound is accepted only into an empty buffer.
+ * Once the downstream asks for no more chunks or fails, or the executor refuses to run it, buffered chunks are
+ * dropped and accept returns false.
+ * No thread is held while the buffer is empty.
+ */
+public final class BoundedChunkBuffer implements IntChunkConsumer {
+
+    private static final int[] END = new int[0];
+
+    private final IntChunkConsumer downstream;
+    private final Executor executor;
+    private final long maxBufferedValues;
+    private final ArrayDeque<int[]> chunks = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition drained = lock.newCondition();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private long bufferedValues;
+    private boolean draining;
+    private boolean completed;
+    private boolean cancelled;
+
+    /**
+     * @param downstream consumer called from executor, one chunk at a time and in order
+     * @param executor runs the downstream consumer
+     * @param maxBufferedValues the number of ints that may wait before producers block
+     * @throws NullPointerException when downstream or executor is null
+     * @throws IllegalArgumentException when maxBufferedValues is not positive
+     */
+    public BoundedChunkBuffer(IntChunkConsumer downstream, Executor executor, long maxBufferedValues)
+            throws NullPointerException, IllegalArgumentException {
+        if (downstream == null || executor == null) {
+            throw new NullPointerException();
+        }
+        if (maxBufferedValues <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.downstream = downstream;
+        this.executor = executor;
+        this.maxBufferedValues = maxBufferedValues;
+    }
+
+    /**
+     * Queue chunk for the downstream, blocking while the buffer is full.
+     * An interrupted producer stops waiting, keeps its interrupt status and gets false, with chunk not queued.
+     *
+     * @throws IllegalStateException when the sequence was already completed
+     */
+    @Override
+    public boolean accept(int[] chunk) throws IllegalStateException {
+        lock.lock();
+        try {
+            if (completed) {
+                throw new IllegalStateException();
+            }
+            while (!cancelled && bufferedValues > 0 && bufferedValues + chunk.length > maxBufferedValues) {
+                try {
+                    drained.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            if (cancelled) {
+                return false;
+            }
+            if (chunk.length > 0) {
+                chunks.add(chunk);
+                bufferedValues += chunk.length;
+                return startDraining();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Let the downstream complete once the buffered chunks were consumed, unless it asked for no more chunks.
+     * Calling complete again has no effect.
+     */
+    @Override
+    public void complete() {
+        lock.lock();
+        try {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            if (cancelled) {
+                return;
+            }
+            chunks.add(END);
+            startDraining();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return a future completed after the downstream completed, or asked for no more chunks,
+     * or exceptionally with the failure of the downstream or the {@link RejectedExecutionException} of the executor
+     */
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    /**
+     * Return the number of ints waiting for the downstream
+     */
+    public long getBufferedValues() {
+        lock.lock();
+        try {
+            return bufferedValues;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hand the queue to a drain task unless one is running, return false when the executor refuses it
+     */
+    private boolean startDraining() {
+        if (!draining) {
+            draining = true;
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining = false;
+                cancel();
+                completion.completeExceptionally(e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void drain() {
+        while (true) {
+            final int[] chunk;
+            lock.lock();
+            try {
+                chunk = chunks.poll();
+                if (chunk == null) {
+                    draining = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                if (chunk == END) {
+                    downstream.complete();
+                    completion.complete(null);
+                } else if (!downstream.accept(chunk)) {
+                    cancel();
+                    completion.complete(null);
+                } else {
+                    release(chunk.length);
+                }
+            } catch (RuntimeException | Error e) {
+                cancel();
+                completion.completeExceptionally(e);
+                if (e instanceof Error) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void release(int values) {
+        lock.lock();
+        try {
+            bufferedValues -= values;
+            drained.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cancel() {
+        lock.lock();
+        try {
+            cancelled = true;
+            chunks.clear();
+            bufferedValues = 0;
+            drained.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.util.IntCursor;
+import com.endava.internship.warmup.domain.util.IntHashSet;
+import com.endava.internship.warmup.domain.util.IntLoserTree;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exact {@link StreamingDistinct} with a bounded memory budget. Seen values are kept in an {@link IntHashSet}
+ * until it holds maxValuesInMemory values; then they are sorted and spilled to a run file. Runs are merged by tier:
+ * spilled runs start in tier 0, and once maxRuns + 1 runs share a tier they are merged into one run of the next
+ * tier, so each value is rewritten once per tier and the number of runs grows with the logarithm of the spilled
+ * values. Each chunk is first reduced with {@link ArrayProcessor#distinct(int[])},
+ * so a sequence that never exceeds the budget never touches the disk. Every run keeps the first value of each block
+ * of 4096 values in memory, so a lookup reads only the blocks that can hold one of the chunk's new values.
+ */
+public class ExactStreamingDistinct implements StreamingDistinct {
+
+    public static final int DEFAULT_MAX_RUNS = 8;
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    /**
+     * A run keeps the first value of every block of this many values in memory
+     */
+    private static final int INDEX_STRIDE = 4096;
+
+    private final ArrayProcessor processor;
+    private final int maxValuesInMemory;
+    private final int maxRuns;
+    private final Path spillDirectory;
+    private final IntHashSet inMemory;
+    private final List<Run> runs = new ArrayList<>();
+    private long spilledCount;
+
+    public ExactStreamingDistinct(ArrayProcessor processor, int maxValuesInMemory, Path spillDirectory) {
+        this(processor, maxValuesInMemory, DEFAULT_MAX_RUNS, spillDirectory);
+    }
+
+    /**
+     * @param processor supplies the in-memory distinct used on every chunk
+     * @param maxValuesInMemory number of seen values kept on the heap before spilling
+     * @param maxRuns number of run files tolerated in one tier before they are merged into one
+     * @param spillDirectory existing directory for the run files
+     * @throws NullPointerException when processor or spillDirectory are null
+     * @throws IllegalArgumentException when maxValuesInMemory or maxRuns are not positive
+     */
+    public ExactStreamingDistinct(ArrayProcessor processor, int maxValuesInMemory, int maxRuns, Path spillDirectory)
+            throws NullPointerException, IllegalArgumentException {
+        if (processor == null || spillDirectory == null) {
+            throw new NullPointerException();
+        }
+        if (maxValuesInMemory <= 0 || maxRuns <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.processor = processor;
+        this.maxValuesInMemory = maxValuesInMemory;
+        this.maxRuns = maxRuns;
+        this.spillDirectory = spillDirectory;
+        this.inMemory = new IntHashSet(maxValuesInMemory);
+    }
+
+    @Override
+    public int[] accept(final int[] chunk) {
+        final int[] candidates = processor.distinct(chunk);
+        int count = 0;
+
+        for (int value : candidates) {
+            if (!inMemory.contains(value)) {
+                candidates[count++] = value;
+            }
+        }
+
+        final boolean[] spilled = findSpilled(candidates, count);
+        final int[] newValues = new int[count];
+        int k = 0;
+
+        for (int i = 0; i < count; ++i) {
+            if (!spilled[i]) {
+                newValues[k++] = candidates[i];
+                inMemory.add(candidates[i]);
+                if (inMemory.size() >= maxValuesInMemory) {
+                    spill();
+                }
+            }
+        }
+        return k == count ? newValues : Arrays.copyOf(newValues, k);
+    }
+
+    @Override
+    public long cardinality() {
+        return inMemory.size() + spilledCount;
+    }
+
+    /**
+     * Delete every run file, even when some of them fail to be deleted
+     * @throws UncheckedIOException with the first failure, later ones suppressed
+     */
+    @Override
+    public void close() throws UncheckedIOException {
+        final IOException failure = delete(runs);
+        runs.clear();
+        inMemory.clear();
+        spilledCount = 0;
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    /**
+     * Mark which of the first count candidates are already stored in a run. Each run's sparse index names the blocks
+     * that can hold a candidate, and only those blocks are read.
+     */
+    private boolean[] findSpilled(int[] candidates, int count) {
+        final boolean[] spilled = new boolean[count];
+        if (runs.isEmpty() || count == 0) {
+            return spilled;
+        }
+
+        final int[] sorted = Arrays.copyOf(candidates, count);
+        Arrays.sort(sorted);
+        final IntHashSet found = new IntHashSet();
+        final ByteBuffer buffer = ByteBuffer.allocate(INDEX_STRIDE * Integer.BYTES);
+
+        for (Run run : runs) {
+            if (sorted[0] > run.max || sorted[count - 1] < run.min) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(run.path, StandardOpenOption.READ)) {
+                int c = 0;
+                while (c < count) {
+                    final int block = run.blockOf(sorted[c]);
+                    if (block < 0) {
+                        ++c;
+                        continue;
+                    }
+                    final IntBuffer values = readBlock(channel, run, block, buffer);
+                    final int blockMax = values.get(values.limit() - 1);
+                    for (; c < count && sorted[c] <= blockMax; ++c) {
+                        if (binarySearch(values, sorted[c])) {
+                            found.add(sorted[c]);
+                        }
+                    }
+                    // candidates above this block but below the next one's first value are in no block
+                    while (c < count && run.blockOf(sorted[c]) == block) {
+                        ++c;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        for (int i = 0; i < count; ++i) {
+            spilled[i] = found.contains(candidates[i]);
+        }
+        return spilled;
+    }
+
+    private IntBuffer readBlock(FileChannel channel, Run run, int block, ByteBuffer buffer) throws IOException {
+        final long first = (long) block * INDEX_STRIDE;
+        final int length = (int) Math.min(INDEX_STRIDE, run.count - first);
+        buffer.clear().limit(length * Integer.BYTES);
+        long position = first * Integer.BYTES;
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            position += read;
+        }
+        buffer.flip();
+        return buffer.asIntBuffer();
+    }
+
+    private static boolean binarySearch(IntBuffer values, int key) {
+        int low = 0;
+        int high = values.limit() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int value = values.get(middle);
+            if (value < key) {
+                low = middle + 1;
+            } else if (value > key) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void spill() {
+        int[] values = inMemory.toArray();
+        Arrays.sort(values);
+        runs.add(writeRun(new SortedSource(values), 0));
+        spilledCount += values.length;
+        inMemory.clear();
+
+        // tiers never increase along the list, so the newest maxRuns + 1 runs share a tier when both ends do
+        while (runs.size() > maxRuns
+                && runs.get(runs.size() - maxRuns - 1).tier == runs.get(runs.size() - 1).tier) {
+            merge(runs.size() - maxRuns - 1);
+        }
+    }
+
+    /**
+     * Merge the runs from index from to the end, which hold disjoint values, into a single run of the next tier
+     */
+    private void merge(int from) {
+        final List<Run> merged = new ArrayList<>(runs.subList(from, runs.size()));
+        final List<DataInputStream> inputs = new ArrayList<>();
+        try {
+            final IntCursor[] cursors = new IntCursor[merged.size()];
+            for (int i = 0; i < cursors.length; ++i) {
+                final DataInputStream in = open(merged.get(i));
+                inputs.add(in);
+                cursors[i] = new RunCursor(in, merged.get(i).count);
+            }
+            final Run run = writeRun(new MergingSource(cursors), merged.get(0).tier + 1);
+            runs.subList(from, runs.size()).clear();
+            runs.add(run);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            for (DataInputStream in : inputs) {
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                    // reading is done or failed, either way the input is no longer needed
+                }
+            }
+        }
+        final IOException failure = delete(merged);
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    /**
+     * Delete the files of runs, returning the first failure with the later ones suppressed, or null
+     */
+    private static IOException delete(List<Run> runs) {
+        IOException failure = null;
+        for (Run run : runs) {
+            try {
+                Files.deleteIfExists(run.path);
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        return failure;
+    }
+
+    private Run writeRun(RunSource source, int tier) {
+        Path path = null;
+        try {
+            path = Files.createTempFile(spillDirectory, "distinct-", ".run");
+            long count = 0;
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            int[] blockFirsts = new int[16];
+            int blocks = 0;
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE))) {
+                while (source.hasNext()) {
+                    int value = source.next();
+                    out.writeInt(value);
+                    if (count % INDEX_STRIDE == 0) {
+                        if (blocks == blockFirsts.length) {
+                            blockFirsts = Arrays.copyOf(blockFirsts, blocks * 2);
+                        }
+                        blockFirsts[blocks++] = value;
+                    }
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                    ++count;
+                }
+            }
+            return new Run(path, tier, count, min, max, Arrays.copyOf(blockFirsts, blocks));
+        } catch (IOException e) {
+            throw new UncheckedIOException(deleteAfterFailure(path, e));
+        } catch (UncheckedIOException e) {
+            deleteAfterFailure(path, e.getCause());
+            throw e;
+        }
+    }
+
+    /**
+     * Delete the partly written run at path, if any, adding a failure to do so to failure
+     */
+    private static IOException deleteAfterFailure(Path path, IOException failure) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException suppressed) {
+                failure.addSuppressed(suppressed);
+            }
+        }
+        return failure;
+    }
+
+    private static DataInputStream open(Run run) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path), IO_BUFFER_SIZE));
+    }
+
+    private static final class Run {
+
+        private final Path path;
+        private final int tier;
+        private final long count;
+        private final int min;
+        private final int max;
+        private final int[] blockFirsts;
+
+        Run(Path path, int tier, long count, int min, int max, int[] blockFirsts) {
+            this.path = path;
+            this.tier = tier;
+            this.count = count;
+            this.min = min;
+            this.max = max;
+            this.blockFirsts = blockFirsts;
+        }
+
+        /**
+         * Return the only block that can hold value, or -1 when value is below the first one
+         */
+        int blockOf(int value) {
+            final int position = Arrays.binarySearch(blockFirsts, value);
+            return position >= 0 ? position : -position - 2;
+        }
+    }
+
+    private interface RunSource {
+        boolean hasNext();
+
+        int next();
+    }
+
+    private static final class SortedSource implements RunSource {
+
+        private final int[] values;
+        private int position;
+
+        SortedSource(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < values.length;
+        }
+
+        @Override
+        public int next() {
+            return values[position++];
+        }
+    }
+
+    private static final class MergingSource implements RunSource {
+
+        private final IntLoserTree tree;
+
+        MergingSource(IntCursor[] cursors) {
+            this.tree = new IntLoserTree(cursors);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return tree.hasNext();
+        }
+
+        @Override
+        public int next() {
+            return tree.next();
+        }
+    }
+
+    /**
+     * Cursor over the count values of a run file; advance throws UncheckedIOException when the file cannot be read
+     */
+    private static final class RunCursor implements IntCursor {
+
+        private final DataInputStream in;
+        private long remaining;
+        private int head;
+
+        RunCursor(DataInputStream in, long count) throws IOException {
+            this.in = in;
+            this.remaining = count;
+            if (remaining > 0) {
+                head = in.readInt();
+            }
+        }
+
+        @Override
+        public boolean isExhausted() {
+            return remaining == 0;
+        }
+
+        @Override
+        public int head() {
+            return head;
+        }
+
+        @Override
+        public void advance() {
+            if (--remaining > 0) {
+                try {
+                    head = in.readInt();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
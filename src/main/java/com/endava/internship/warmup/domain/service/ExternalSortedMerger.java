@@ -0,0 +1,236 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.util.IntCursor;
+import com.endava.internship.warmup.domain.util.IntLoserTree;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Out-of-core form of {@link ArrayProcessor#mergeSortedArrays(int[]...)} over files of raw little-endian ints.
+ * Inputs are memory-mapped one window at a time and the output is written through a fixed direct buffer,
+ * so the heap usage does not depend on the file sizes.
+ */
+public class ExternalSortedMerger {
+
+    public static final int DEFAULT_WINDOW_BYTES = 1 << 26;
+    public static final int DEFAULT_OUTPUT_BUFFER_BYTES = 1 << 20;
+
+    private final int windowBytes;
+    private final int outputBufferBytes;
+
+    public ExternalSortedMerger() {
+        this(DEFAULT_WINDOW_BYTES, DEFAULT_OUTPUT_BUFFER_BYTES);
+    }
+
+    /**
+     * @param windowBytes size of the region mapped at once from each input
+     * @param outputBufferBytes size of the direct buffer collecting the output
+     * @throws IllegalArgumentException when a size is not a positive multiple of 4
+     */
+    public ExternalSortedMerger(int windowBytes, int outputBufferBytes) throws IllegalArgumentException {
+        if (windowBytes <= 0 || windowBytes % Integer.BYTES != 0 || outputBufferBytes <= 0 || outputBufferBytes % Integer.BYTES != 0) {
+            throw new IllegalArgumentException();
+        }
+        this.windowBytes = windowBytes;
+        this.outputBufferBytes = outputBufferBytes;
+    }
+
+    /**
+     * Merge sorted int files into output, replacing it. The ints are written to a temporary file next to output that
+     * is moved into place only once the merge succeeds, so a failed merge leaves output as it was.
+     *
+     * @param inputs non-null files of ascending little-endian ints
+     * @param output the file to write the merged ints to
+     * @return the number of ints written
+     * @throws IllegalArgumentException naming the file and byte offset when an input is not sorted ascending,
+     *         the file when its length is not a multiple of 4, or when output is one of the inputs
+     * @throws IOException when a file cannot be read or written
+     */
+    public long merge(List<Path> inputs, Path output) throws IllegalArgumentException, IOException {
+        if (Files.exists(output)) {
+            for (Path input : inputs) {
+                if (Files.exists(input) && Files.isSameFile(input, output)) {
+                    throw new IllegalArgumentException(output + " is also an input");
+                }
+            }
+        }
+
+        final MappedIntCursor[] cursors = new MappedIntCursor[inputs.size()];
+        Path temporary = null;
+        Throwable failure = null;
+
+        try {
+            for (int s = 0; s < cursors.length; ++s) {
+                cursors[s] = new MappedIntCursor(inputs.get(s), windowBytes);
+            }
+            final Path directory = output.toAbsolutePath().getParent();
+            temporary = Files.createTempFile(directory, output.getFileName().toString(), ".tmp");
+            long written = write(new IntLoserTree(cursors), temporary);
+            move(temporary, output);
+            temporary = null;
+            return written;
+        } catch (UncheckedIOException e) {
+            failure = e.getCause();
+            throw e.getCause();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            IOException closeFailure = null;
+            for (MappedIntCursor cursor : cursors) {
+                if (cursor != null) {
+                    try {
+                        cursor.close();
+                    } catch (IOException e) {
+                        if (failure != null) {
+                            failure.addSuppressed(e);
+                        } else if (closeFailure == null) {
+                            closeFailure = e;
+                        } else {
+                            closeFailure.addSuppressed(e);
+                        }
+                    }
+                }
+            }
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException e) {
+                    if (failure != null) {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (closeFailure != null) {
+                throw closeFailure;
+            }
+        }
+    }
+
+    private static void move(Path temporary, Path output) throws IOException {
+        try {
+            Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private long write(IntLoserTree tree, Path output) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(outputBufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+        long written = 0;
+
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (tree.hasNext()) {
+                if (!buffer.hasRemaining()) {
+                    drain(buffer, channel);
+                }
+                buffer.putInt(tree.next());
+                ++written;
+            }
+            drain(buffer, channel);
+        }
+        return written;
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Cursor over a mapped int file that maps the next window when the current one is consumed
+     * and checks every value against its predecessor.
+     */
+    private static final class MappedIntCursor implements IntCursor, Closeable {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final long length;
+        private final int windowBytes;
+        private IntBuffer window;
+        private long position;
+        private int head;
+
+        MappedIntCursor(Path path, int windowBytes) throws IOException {
+            this.path = path;
+            this.windowBytes = windowBytes;
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                long bytes = channel.size();
+                if (bytes % Integer.BYTES != 0) {
+                    throw new IllegalArgumentException(path + " length " + bytes + " is not a multiple of " + Integer.BYTES);
+                }
+                this.length = bytes / Integer.BYTES;
+                if (length > 0) {
+                    head = read();
+                }
+            } catch (IOException | RuntimeException e) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean isExhausted() {
+            return position == length;
+        }
+
+        @Override
+        public int head() {
+            return head;
+        }
+
+        @Override
+        public void advance() {
+            if (++position == length) {
+                return;
+            }
+            int previous = head;
+            head = read();
+            if (head < previous) {
+                throw new IllegalArgumentException(path + " is not sorted ascending at byte offset " + position * Integer.BYTES);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+
+        private int read() {
+            if (window == null || !window.hasRemaining()) {
+                long start = position * Integer.BYTES;
+                long size = Math.min(windowBytes, length * Integer.BYTES - start);
+                try {
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, start, size)
+                            .order(ByteOrder.LITTLE_ENDIAN)
+                            .asIntBuffer();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return window.get();
+        }
+    }
+}
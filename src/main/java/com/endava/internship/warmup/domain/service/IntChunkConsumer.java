@@ -0,0 +1,22 @@
+package com.endava.internship.warmup.domain.service;
+
+/**
+ * Push-based receiver of an unbounded int sequence delivered in chunks.
+ * Chunks are handed over: the producer must not modify a chunk after passing it.
+ */
+public interface IntChunkConsumer {
+
+    /**
+     * Consume the next chunk of the sequence
+     *
+     * @param chunk non-null array of ints
+     * @return false when the consumer needs no further chunks, e.g. once a match is decided
+     */
+    boolean accept(int[] chunk);
+
+    /**
+     * Signal that the sequence ended. No chunk may follow.
+     */
+    default void complete() {
+    }
+}
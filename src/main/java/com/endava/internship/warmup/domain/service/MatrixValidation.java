@@ -0,0 +1,53 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+
+/**
+ * Dimension checks shared by the default matrix methods of {@link ArrayProcessor}
+ */
+final class MatrixValidation {
+
+    private MatrixValidation() {
+    }
+
+    /**
+     * @throws IllegalArgumentException when any dimension is zero or leftColumns differs from rightRows
+     */
+    static void validateDimensions(int leftRows, int leftColumns, int rightRows, int rightColumns)
+            throws IllegalArgumentException {
+        if (leftRows == 0 || leftColumns == 0 || rightColumns == 0) {
+            throw new IllegalArgumentException();
+        }
+        if (leftColumns != rightRows) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * @throws NullPointerException when any of the batches are null
+     * @throws IllegalArgumentException when the counts differ, any dimension is zero, leftMatrices columns differ from
+     * rightMatrices rows, output has the wrong shape or output overlaps an input
+     */
+    static void validateBatches(IntMatrixBatch leftMatrices, IntMatrixBatch rightMatrices, IntMatrixBatch output)
+            throws NullPointerException, IllegalArgumentException {
+        if (leftMatrices == null || rightMatrices == null || output == null) {
+            throw new NullPointerException();
+        }
+        validateDimensions(leftMatrices.getRows(), leftMatrices.getColumns(), rightMatrices.getRows(), rightMatrices.getColumns());
+        if (leftMatrices.getCount() != rightMatrices.getCount() || leftMatrices.getCount() != output.getCount()) {
+            throw new IllegalArgumentException();
+        }
+        if (output.getRows() != leftMatrices.getRows() || output.getColumns() != rightMatrices.getColumns()) {
+            throw new IllegalArgumentException();
+        }
+        if (overlaps(output, leftMatrices) || overlaps(output, rightMatrices)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private static boolean overlaps(IntMatrixBatch first, IntMatrixBatch second) {
+        return first.getData() == second.getData()
+                && first.getOffset() < second.getOffset() + second.length()
+                && second.getOffset() < first.getOffset() + first.length();
+    }
+}
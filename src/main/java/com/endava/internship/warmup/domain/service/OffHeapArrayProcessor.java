@@ -0,0 +1,241 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.util.IntBufferArena;
+
+import java.nio.IntBuffer;
+
+/**
+ * The {@link ArrayProcessor} operations that dominate native I/O pipelines, over {@link IntBuffer}s.
+ * Inputs are read from their [position, limit) with absolute gets and are never modified; results and scratch
+ * space are direct buffers from an {@link IntBufferArena}, so nothing is staged on the heap.
+ * A result has position 0 and limit equal to its length. With a default arena it stays valid until it is
+ * unreachable, even after the arena is closed, and its memory is freed by the garbage collector rather than
+ * promptly on close. Callers that need large results released deterministically should pass an
+ * {@link IntBufferArena#unsafeEagerRelease()} arena, which frees them on close, and must not touch the results
+ * after closing it.
+ */
+public class OffHeapArrayProcessor {
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    /**
+     * Replace even index values with their doubles and odd indexed elements with their negative,
+     * like {@link ArrayProcessor#replace(int[])}
+     *
+     * @param input non-null buffer, indexes count from its position
+     * @param arena allocates the result
+     */
+    public IntBuffer replace(IntBuffer input, IntBufferArena arena) {
+        final int from = input.position();
+        final int length = input.remaining();
+        final IntBuffer output = arena.allocate(length);
+
+        for (int i = 0; i < length; ++i) {
+            final int value = input.get(from + i);
+            output.put(i, i % 2 == 0 ? 2 * value : -value);
+        }
+        return output;
+    }
+
+    /**
+     * Keep the values not smaller than the threshold of {@link ArrayProcessorWithForLoops#filter(int[])}
+     *
+     * @param input non-null buffer
+     * @param arena allocates the result
+     */
+    public IntBuffer filter(IntBuffer input, IntBufferArena arena) {
+        final int from = input.position();
+        final int to = input.limit();
+        final int threshold = ArrayProcessorWithForLoops.filterThreshold(to - from);
+        int count = 0;
+
+        for (int i = from; i < to; ++i) {
+            if (input.get(i) >= threshold) {
+                ++count;
+            }
+        }
+
+        final IntBuffer output = arena.allocate(count);
+        int k = 0;
+        for (int i = from; i < to; ++i) {
+            final int value = input.get(i);
+            if (value >= threshold) {
+                output.put(k++, value);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Return the first occurrence of every value, in encounter order. The hash table and the staging copy live in
+     * an arena of their own that is closed before returning.
+     *
+     * @param input non-null buffer
+     * @param arena allocates the result
+     */
+    public IntBuffer distinct(IntBuffer input, IntBufferArena arena) {
+        final int from = input.position();
+        final int to = input.limit();
+
+        try (IntBufferArena scratch = IntBufferArena.unsafeEagerRelease()) {
+            final OffHeapIntHashSet seen = new OffHeapIntHashSet(to - from, scratch);
+            final IntBuffer staged = scratch.allocate(to - from);
+            int k = 0;
+            for (int i = from; i < to; ++i) {
+                final int value = input.get(i);
+                if (seen.add(value)) {
+                    staged.put(k++, value);
+                }
+            }
+
+            final IntBuffer output = arena.allocate(k);
+            staged.limit(k);
+            output.put(staged);
+            output.clear();
+            return output;
+        }
+    }
+
+    /**
+     * Merge two ascending buffers into one ascending buffer
+     *
+     * @param input non-null ascending buffer
+     * @param input2 non-null ascending buffer
+     * @param arena allocates the result
+     * @throws IllegalArgumentException when an input is not sorted ascending or the result exceeds
+     *                                  {@link IntBufferArena#MAX_LENGTH}
+     */
+    public IntBuffer mergeSortedArrays(IntBuffer input, IntBuffer input2, IntBufferArena arena) throws IllegalArgumentException {
+        if (!isSorted(input) || !isSorted(input2)) {
+            throw new IllegalArgumentException();
+        }
+        final long length = (long) input.remaining() + input2.remaining();
+        if (length > IntBufferArena.MAX_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        final IntBuffer output = arena.allocate((int) length);
+
+        int i = input.position(), j = input2.position(), k = 0;
+        final int to = input.limit(), to2 = input2.limit();
+        while (i < to && j < to2) {
+            final int left = input.get(i);
+            final int right = input2.get(j);
+            if (left <= right) {
+                output.put(k++, left);
+                ++i;
+            } else {
+                output.put(k++, right);
+                ++j;
+            }
+        }
+        while (i < to) {
+            output.put(k++, input.get(i++));
+        }
+        while (j < to2) {
+            output.put(k++, input2.get(j++));
+        }
+        return output;
+    }
+
+    /**
+     * Multiply two row-major matrices, with the validation rules of
+     * {@link ArrayProcessor#validateForMatrixMultiplication(int[][], int[][])}
+     *
+     * @param leftMatrix row-major buffer holding exactly leftRows * leftColumns values
+     * @param rightMatrix row-major buffer holding exactly leftColumns * rightColumns values
+     * @param arena allocates the row-major leftRows x rightColumns result
+     * @throws NullPointerException when a matrix is null
+     * @throws IllegalArgumentException when a dimension is not positive, a buffer does not hold exactly its matrix
+     *                                  or the result exceeds {@link IntBufferArena#MAX_LENGTH}
+     */
+    public IntBuffer matrixMultiplication(IntBuffer leftMatrix, int leftRows, int leftColumns,
+                                          IntBuffer rightMatrix, int rightColumns, IntBufferArena arena)
+            throws NullPointerException, IllegalArgumentException {
+        if (leftMatrix == null || rightMatrix == null) {
+            throw new NullPointerException();
+        }
+        if (leftRows <= 0 || leftColumns <= 0 || rightColumns <= 0) {
+            throw new IllegalArgumentException();
+        }
+        if ((long) leftRows * leftColumns != leftMatrix.remaining()
+                || (long) leftColumns * rightColumns != rightMatrix.remaining()
+                || (long) leftRows * rightColumns > IntBufferArena.MAX_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+
+        final IntBuffer result = arena.allocate(leftRows * rightColumns);
+        final int left = leftMatrix.position();
+        final int right = rightMatrix.position();
+        for (int i = 0; i < leftRows; ++i) {
+            final int resultRow = i * rightColumns;
+            for (int k = 0; k < leftColumns; ++k) {
+                final int factor = leftMatrix.get(left + i * leftColumns + k);
+                if (factor == 0) {
+                    continue;
+                }
+                final int rightRow = right + k * rightColumns;
+                for (int j = 0; j < rightColumns; ++j) {
+                    result.put(resultRow + j, result.get(resultRow + j) + factor * rightMatrix.get(rightRow + j));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSorted(IntBuffer input) {
+        for (int i = input.position() + 1; i < input.limit(); ++i) {
+            if (input.get(i - 1) > input.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Insert-only {@link com.endava.internship.warmup.domain.util.IntHashSet} over arena memory, sized up front
+     * for a known number of values. The table is split into segments because one direct buffer holds fewer
+     * slots than a table for {@link IntBufferArena#MAX_LENGTH} values needs.
+     */
+    private static final class OffHeapIntHashSet {
+
+        private static final int SEGMENT_BITS = 27;
+        private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+
+        private final IntBuffer[] segments;
+        private final int mask;
+        private final int shift;
+        private boolean containsZero;
+
+        OffHeapIntHashSet(int expectedSize, IntBufferArena arena) {
+            final int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+            this.mask = capacity - 1;
+            this.shift = Integer.numberOfLeadingZeros(mask);
+            this.segments = new IntBuffer[(capacity + SEGMENT_MASK) >>> SEGMENT_BITS];
+            for (int s = 0; s < segments.length; ++s) {
+                segments[s] = arena.allocate(Math.min(capacity - (s << SEGMENT_BITS), 1 << SEGMENT_BITS));
+            }
+        }
+
+        boolean add(int value) {
+            if (value == 0) {
+                final boolean added = !containsZero;
+                containsZero = true;
+                return added;
+            }
+            int slot = (value * GOLDEN_RATIO) >>> shift;
+            int current;
+            while ((current = get(slot)) != 0) {
+                if (current == value) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            segments[slot >>> SEGMENT_BITS].put(slot & SEGMENT_MASK, value);
+            return true;
+        }
+
+        private int get(int slot) {
+            return segments[slot >>> SEGMENT_BITS].get(slot & SEGMENT_MASK);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.endava.internship.warmup.domain.service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+
+/**
+ * Short-circuiting parallel search over index ranges. Tasks publish the lowest index that decided the search
+ * (a match, or a thrown exception) through a shared atomic, and stop scanning once they pass it. Because only
+ * the lowest such index counts, the outcome, including which exception is thrown, is the same as a sequential
+ * scan. The tested predicate must be safe to call from several threads.
+ */
+public class ParallelMatcher {
+
+    private static final int CHECK_INTERVAL = 256;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * @param pool the pool running the search tasks
+     * @param sequentialThreshold range length below which a task is not split any further
+     * @throws NullPointerException when pool is null
+     * @throws IllegalArgumentException when sequentialThreshold is not positive
+     */
+    public ParallelMatcher(ForkJoinPool pool, int sequentialThreshold) throws NullPointerException, IllegalArgumentException {
+        if (pool == null) {
+            throw new NullPointerException();
+        }
+        if (sequentialThreshold <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Return true if matchesAt holds for any index in [0, length)
+     */
+    public boolean anyMatch(int length, IntPredicate matchesAt) {
+        final Search search = new Search(length, matchesAt);
+        pool.invoke(new SearchTask(search, 0, length));
+
+        int stop = search.firstStop.get();
+        Failure failure = search.failure.get();
+        if (failure != null && failure.index == stop) {
+            throw failure.cause;
+        }
+        return stop < length;
+    }
+
+    private static final class Search {
+
+        private final IntPredicate matchesAt;
+        private final AtomicInteger firstStop;
+        private final AtomicReference<Failure> failure = new AtomicReference<>();
+
+        Search(int length, IntPredicate matchesAt) {
+            this.matchesAt = matchesAt;
+            this.firstStop = new AtomicInteger(length);
+        }
+
+        void stopAt(int index) {
+            int current = firstStop.get();
+            while (index < current && !firstStop.compareAndSet(current, index)) {
+                current = firstStop.get();
+            }
+        }
+
+        void failAt(int index, RuntimeException cause) {
+            Failure candidate = new Failure(index, cause);
+            Failure current = failure.get();
+            while ((current == null || index < current.index) && !failure.compareAndSet(current, candidate)) {
+                current = failure.get();
+            }
+            stopAt(index);
+        }
+    }
+
+    private static final class Failure {
+
+        private final int index;
+        private final RuntimeException cause;
+
+        Failure(int index, RuntimeException cause) {
+            this.index = index;
+            this.cause = cause;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class SearchTask extends RecursiveAction {
+
+        private final Search search;
+        private final int from;
+        private final int to;
+
+        SearchTask(Search search, int from, int to) {
+            this.search = search;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (from >= search.firstStop.get()) {
+                return;
+            }
+            if (to - from > sequentialThreshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SearchTask(search, from, middle), new SearchTask(search, middle, to));
+                return;
+            }
+
+            for (int blockFrom = from; blockFrom < to; blockFrom += CHECK_INTERVAL) {
+                int stop = search.firstStop.get();
+                if (blockFrom >= stop) {
+                    return;
+                }
+                int blockTo = Math.min(to, Math.min(blockFrom + CHECK_INTERVAL, stop));
+                for (int i = blockFrom; i < blockTo; ++i) {
+                    try {
+                        if (search.matchesAt.test(i)) {
+                            search.stopAt(i);
+                            return;
+                        }
+                    } catch (RuntimeException e) {
+                        search.failAt(i, e);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
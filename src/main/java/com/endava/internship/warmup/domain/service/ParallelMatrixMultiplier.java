@@ -0,0 +1,116 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Matrix multiplication that splits the result matrix into row bands computed as {@link RecursiveAction}s.
+ * Each band is multiplied sequentially by a {@link BlockedMatrixMultiplier}. The operands are expected to be
+ * validated by the caller.
+ */
+public class ParallelMatrixMultiplier {
+
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 1 << 18;
+
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+    private final BlockedMatrixMultiplier kernel;
+
+    public ParallelMatrixMultiplier() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelMatrixMultiplier(ForkJoinPool pool) {
+        this(pool, DEFAULT_SEQUENTIAL_CUTOFF, new BlockedMatrixMultiplier());
+    }
+
+    /**
+     * @param pool the pool running the row band tasks
+     * @param sequentialCutoff number of multiply-adds below which a band is not split any further
+     * @param kernel the multiplier used for a single band
+     * @throws NullPointerException when pool or kernel are null
+     * @throws IllegalArgumentException when sequentialCutoff is not positive
+     */
+    public ParallelMatrixMultiplier(ForkJoinPool pool, int sequentialCutoff, BlockedMatrixMultiplier kernel)
+            throws NullPointerException, IllegalArgumentException {
+        if (pool == null || kernel == null) {
+            throw new NullPointerException();
+        }
+        if (sequentialCutoff <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+        this.kernel = kernel;
+    }
+
+    /**
+     * Multiply two validated matrices
+     * @param leftMatrix the left matrix represented by array indexes [row][column]
+     * @param rightMatrix the right matrix represented by array indexes [row][column]
+     * @return new matrix with leftMatrix.length rows and rightMatrix[0].length columns
+     */
+    public int[][] multiply(final int[][] leftMatrix, final int[][] rightMatrix) {
+        final int[][] multiplicationMatrix = new int[leftMatrix.length][rightMatrix[0].length];
+        long workPerRow = (long) rightMatrix.length * rightMatrix[0].length;
+
+        run((rowFrom, rowTo) -> kernel.multiplyRows(leftMatrix, rightMatrix, multiplicationMatrix, rowFrom, rowTo),
+            leftMatrix.length, workPerRow);
+        return multiplicationMatrix;
+    }
+
+    /**
+     * Multiply two validated contiguous matrices
+     * @return new matrix with leftMatrix rows and rightMatrix columns
+     */
+    public IntMatrix multiply(final IntMatrix leftMatrix, final IntMatrix rightMatrix) {
+        final IntMatrix multiplicationMatrix = IntMatrix.zeros(leftMatrix.getRows(), rightMatrix.getColumns());
+        long workPerRow = (long) rightMatrix.getRows() * rightMatrix.getColumns();
+
+        run((rowFrom, rowTo) -> kernel.multiplyRows(leftMatrix, rightMatrix, multiplicationMatrix, rowFrom, rowTo),
+            leftMatrix.getRows(), workPerRow);
+        return multiplicationMatrix;
+    }
+
+    private void run(RowBand band, int rows, long workPerRow) {
+        if (workPerRow * rows <= sequentialCutoff) {
+            band.multiplyRows(0, rows);
+        } else {
+            pool.invoke(new RowBandTask(band, 0, rows, workPerRow));
+        }
+    }
+
+    private interface RowBand {
+        void multiplyRows(int rowFrom, int rowTo);
+    }
+
+    @SuppressWarnings("serial")
+    private final class RowBandTask extends RecursiveAction {
+
+        private final RowBand band;
+        private final int rowFrom;
+        private final int rowTo;
+        private final long workPerRow;
+
+        RowBandTask(RowBand band, int rowFrom, int rowTo, long workPerRow) {
+            this.band = band;
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+            this.workPerRow = workPerRow;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = rowTo - rowFrom;
+            if (rows <= 1 || workPerRow * rows <= sequentialCutoff) {
+                band.multiplyRows(rowFrom, rowTo);
+                return;
+            }
+            int middle = rowFrom + rows / 2;
+            invokeAll(new RowBandTask(band, rowFrom, middle, workPerRow),
+                      new RowBandTask(band, middle, rowTo, workPerRow));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.endava.internship.warmup.domain.service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+
+/**
+ * Parallel filtering and rearranging in two passes over fixed chunks: the first counts the matching values of
+ * every chunk, the prefix sums of those counts give each chunk its output position, and the second pass
+ * scatters all chunks concurrently. Input and output must be different arrays.
+ */
+public class ParallelPartitioner {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * @param pool the pool running the chunk tasks
+     * @param sequentialThreshold the smallest chunk length
+     * @throws NullPointerException when pool is null
+     * @throws IllegalArgumentException when sequentialThreshold is not positive
+     */
+    public ParallelPartitioner(ForkJoinPool pool, int sequentialThreshold) throws NullPointerException, IllegalArgumentException {
+        if (pool == null) {
+            throw new NullPointerException();
+        }
+        if (sequentialThreshold <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * @return new array of the input values matching keep, in input order
+     */
+    public int[] filter(final int[] input, final IntPredicate keep) {
+        final Chunks chunks = new Chunks(input.length);
+        final int[] offsets = countPerChunk(input, chunks, keep);
+        final int[] newValues = new int[offsets[chunks.count]];
+        scatterKept(input, newValues, chunks, offsets, keep);
+        return newValues;
+    }
+
+    /**
+     * Write the input values matching keep to the beginning of output, in input order
+     * @return the number of values written
+     */
+    public int filterInto(final int[] input, final int[] output, final IntPredicate keep) {
+        final Chunks chunks = new Chunks(input.length);
+        final int[] offsets = countPerChunk(input, chunks, keep);
+        scatterKept(input, output, chunks, offsets, keep);
+        return offsets[chunks.count];
+    }
+
+    /**
+     * Write the negative input values in reverse order followed by the other values in reverse order
+     */
+    public void rearrange(final int[] input, final int[] output) {
+        final Chunks chunks = new Chunks(input.length);
+        final int[] negatives = countPerChunk(input, chunks, n -> n < 0);
+        final int totalNegatives = negatives[chunks.count];
+
+        // the output is reversed, so each part of chunk c starts after the matching values of the chunks behind it
+        run(chunks.count, c -> {
+            int from = chunks.from(c);
+            int to = chunks.to(c);
+            int negativesBehind = totalNegatives - negatives[c + 1];
+            int i = negativesBehind;
+            int j = totalNegatives + (input.length - to) - negativesBehind;
+            for (int k = to - 1; k >= from; --k) {
+                if (input[k] < 0) {
+                    output[i++] = input[k];
+                } else {
+                    output[j++] = input[k];
+                }
+            }
+        });
+    }
+
+    private int[] countPerChunk(final int[] input, final Chunks chunks, final IntPredicate match) {
+        final int[] offsets = new int[chunks.count + 1];
+        run(chunks.count, c -> {
+            int count = 0;
+            for (int k = chunks.from(c); k < chunks.to(c); ++k) {
+                if (match.test(input[k])) {
+                    ++count;
+                }
+            }
+            offsets[c + 1] = count;
+        });
+        for (int c = 0; c < chunks.count; ++c) {
+            offsets[c + 1] += offsets[c];
+        }
+        return offsets;
+    }
+
+    private void scatterKept(final int[] input, final int[] output, final Chunks chunks, final int[] offsets, final IntPredicate keep) {
+        run(chunks.count, c -> {
+            int k = offsets[c];
+            for (int i = chunks.from(c); i < chunks.to(c); ++i) {
+                if (keep.test(input[i])) {
+                    output[k++] = input[i];
+                }
+            }
+        });
+    }
+
+    private void run(int chunkCount, ChunkBody body) {
+        pool.invoke(new ChunkTask(body, 0, chunkCount));
+    }
+
+    private final class Chunks {
+
+        private final int length;
+        private final int size;
+        private final int count;
+
+        Chunks(int length) {
+            int target = pool.getParallelism() * CHUNKS_PER_THREAD;
+            this.length = length;
+            this.size = Math.max(sequentialThreshold, (int) ((length + (long) target - 1) / target));
+            this.count = Math.max(1, (int) ((length + (long) size - 1) / size));
+        }
+
+        int from(int chunk) {
+            return chunk * size;
+        }
+
+        int to(int chunk) {
+            return (int) Math.min(length, (long) (chunk + 1) * size);
+        }
+    }
+
+    private interface ChunkBody {
+        void process(int chunk);
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ChunkTask extends RecursiveAction {
+
+        private final ChunkBody body;
+        private final int from;
+        private final int to;
+
+        ChunkTask(ChunkBody body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.process(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(body, from, middle), new ChunkTask(body, middle, to));
+        }
+    }
+}
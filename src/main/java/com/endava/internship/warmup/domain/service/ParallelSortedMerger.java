@@ -0,0 +1,110 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.util.IntMerge;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Two-way merge that splits the output into slices merged independently as {@link RecursiveAction}s.
+ * The start of each slice in both inputs is found by binary searching its co-rank. Both inputs are checked
+ * for sortedness in parallel beforehand, since co-ranks are only meaningful for sorted inputs.
+ */
+public class ParallelSortedMerger {
+
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    /**
+     * @param pool the pool running the slice tasks
+     * @param sequentialThreshold output length below which a slice is not split any further
+     * @throws NullPointerException when pool is null
+     * @throws IllegalArgumentException when sequentialThreshold is not positive
+     */
+    public ParallelSortedMerger(ForkJoinPool pool, int sequentialThreshold) throws NullPointerException, IllegalArgumentException {
+        if (pool == null) {
+            throw new NullPointerException();
+        }
+        if (sequentialThreshold <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Merge two sorted arrays
+     * @return new array containing all elements sorted from input and input2
+     * @throws IllegalArgumentException if either input or input2 are not sorted ascending
+     */
+    public int[] merge(final int[] input, final int[] input2) throws IllegalArgumentException {
+        if (!pool.invoke(new SortedCheckTask(input, 0, input.length)) || !pool.invoke(new SortedCheckTask(input2, 0, input2.length))) {
+            throw new IllegalArgumentException();
+        }
+        int[] newValues = new int[input.length + input2.length];
+        pool.invoke(new SliceTask(input, input2, newValues, 0, newValues.length));
+        return newValues;
+    }
+
+    @SuppressWarnings("serial")
+    private final class SliceTask extends RecursiveAction {
+
+        private final int[] input;
+        private final int[] input2;
+        private final int[] out;
+        private final int outFrom;
+        private final int outTo;
+
+        SliceTask(int[] input, int[] input2, int[] out, int outFrom, int outTo) {
+            this.input = input;
+            this.input2 = input2;
+            this.out = out;
+            this.outFrom = outFrom;
+            this.outTo = outTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (outTo - outFrom > sequentialThreshold) {
+                int middle = (outFrom + outTo) >>> 1;
+                invokeAll(new SliceTask(input, input2, out, outFrom, middle),
+                          new SliceTask(input, input2, out, middle, outTo));
+                return;
+            }
+
+            int i = IntMerge.coRank(outFrom, input, input2);
+            int iEnd = IntMerge.coRank(outTo, input, input2);
+            int j = outFrom - i;
+            int jEnd = outTo - iEnd;
+
+            IntMerge.merge(input, i, iEnd, input2, j, jEnd, out, outFrom);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class SortedCheckTask extends RecursiveTask<Boolean> {
+
+        private final int[] values;
+        private final int from;
+        private final int to;
+
+        SortedCheckTask(int[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (to - from > sequentialThreshold) {
+                int middle = (from + to) >>> 1;
+                SortedCheckTask right = new SortedCheckTask(values, middle, to);
+                right.fork();
+                return new SortedCheckTask(values, from, middle).compute() & right.join();
+            }
+            // include the pair across the left boundary so neighbouring ranges overlap by one element
+            return IntMerge.isSorted(values, Math.max(0, from - 1), to);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Strassen's recursive matrix multiplication for roughly square operands. Operands are zero padded to a square size that halves evenly
+ * down to the crossover, below which the {@link BlockedMatrixMultiplier} kernel takes over.
+ * All temporaries are allocated once per call, one set per recursion level.
+ * The identities only use addition, subtraction and multiplication, so the result wraps exactly like the naive loop.
+ * Skinny shapes, or any dimension below the crossover, go straight to the kernel because padding them to a square
+ * would cost far more than the recursion saves.
+ * The operands are expected to be validated by the caller.
+ */
+public class StrassenMatrixMultiplier {
+
+    public static final int DEFAULT_CROSSOVER = 128;
+
+    private final int crossover;
+    private final BlockedMatrixMultiplier kernel;
+
+    public StrassenMatrixMultiplier() {
+        this(DEFAULT_CROSSOVER, new BlockedMatrixMultiplier());
+    }
+
+    /**
+     * @param crossover square size at or below which the recursion stops
+     * @param kernel the multiplier used below the crossover
+     * @throws NullPointerException when kernel is null
+     * @throws IllegalArgumentException when crossover is not positive
+     */
+    public StrassenMatrixMultiplier(int crossover, BlockedMatrixMultiplier kernel) throws NullPointerException, IllegalArgumentException {
+        if (kernel == null) {
+            throw new NullPointerException();
+        }
+        if (crossover <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.crossover = crossover;
+        this.kernel = kernel;
+    }
+
+    /**
+     * Multiply two validated contiguous matrices, recursing only when every dimension reaches the crossover and
+     * the largest is at most twice the smallest
+     * @return new matrix with leftMatrix rows and rightMatrix columns
+     */
+    public IntMatrix multiply(final IntMatrix leftMatrix, final IntMatrix rightMatrix) {
+        final int rows = leftMatrix.getRows();
+        final int inner = leftMatrix.getColumns();
+        final int columns = rightMatrix.getColumns();
+        final int smallest = Math.min(rows, Math.min(inner, columns));
+        int size = Math.max(rows, Math.max(inner, columns));
+
+        if (size <= crossover || smallest < crossover || size > 2L * smallest) {
+            return kernel.multiply(leftMatrix, rightMatrix);
+        }
+
+        int levels = 0;
+        while (size > crossover) {
+            size = (size + 1) / 2;
+            ++levels;
+        }
+        final int paddedSize = size << levels;
+
+        IntMatrix[] scratch = new IntMatrix[levels * 3];
+        for (int level = 0, half = paddedSize / 2; level < levels; ++level, half /= 2) {
+            scratch[3 * level] = IntMatrix.zeros(half, half);
+            scratch[3 * level + 1] = IntMatrix.zeros(half, half);
+            scratch[3 * level + 2] = IntMatrix.zeros(half, half);
+        }
+
+        IntMatrix product = IntMatrix.zeros(paddedSize, paddedSize);
+        multiplyInto(pad(leftMatrix, paddedSize), pad(rightMatrix, paddedSize), product, scratch, 0);
+
+        if (rows == paddedSize && columns == paddedSize) {
+            return product;
+        }
+        IntMatrix multiplicationMatrix = IntMatrix.zeros(rows, columns);
+        copy(product, multiplicationMatrix);
+        return multiplicationMatrix;
+    }
+
+    /**
+     * Overwrite c with a * b, all three being n x n with n = crossover * 2^k
+     */
+    private void multiplyInto(IntMatrix a, IntMatrix b, IntMatrix c, IntMatrix[] scratch, int level) {
+        final int n = a.getRows();
+        if (n <= crossover) {
+            fill(c, 0);
+            kernel.multiplyRows(a, b, c, 0, n);
+            return;
+        }
+        final int h = n / 2;
+        IntMatrix a11 = a.subMatrix(0, 0, h, h), a12 = a.subMatrix(0, h, h, h);
+        IntMatrix a21 = a.subMatrix(h, 0, h, h), a22 = a.subMatrix(h, h, h, h);
+        IntMatrix b11 = b.subMatrix(0, 0, h, h), b12 = b.subMatrix(0, h, h, h);
+        IntMatrix b21 = b.subMatrix(h, 0, h, h), b22 = b.subMatrix(h, h, h, h);
+        IntMatrix c11 = c.subMatrix(0, 0, h, h), c12 = c.subMatrix(0, h, h, h);
+        IntMatrix c21 = c.subMatrix(h, 0, h, h), c22 = c.subMatrix(h, h, h, h);
+        IntMatrix t1 = scratch[3 * level], t2 = scratch[3 * level + 1], p = scratch[3 * level + 2];
+        final int next = level + 1;
+
+        // M1 = (A11 + A22)(B11 + B22)
+        combine(a11, a22, 1, t1);
+        combine(b11, b22, 1, t2);
+        multiplyInto(t1, t2, p, scratch, next);
+        combine(p, p, 0, c11);
+        combine(p, p, 0, c22);
+
+        // M2 = (A21 + A22) B11
+        combine(a21, a22, 1, t1);
+        multiplyInto(t1, b11, p, scratch, next);
+        combine(p, p, 0, c21);
+        combine(c22, p, -1, c22);
+
+        // M3 = A11 (B12 - B22)
+        combine(b12, b22, -1, t2);
+        multiplyInto(a11, t2, p, scratch, next);
+        combine(p, p, 0, c12);
+        combine(c22, p, 1, c22);
+
+        // M4 = A22 (B21 - B11)
+        combine(b21, b11, -1, t2);
+        multiplyInto(a22, t2, p, scratch, next);
+        combine(c11, p, 1, c11);
+        combine(c21, p, 1, c21);
+
+        // M5 = (A11 + A12) B22
+        combine(a11, a12, 1, t1);
+        multiplyInto(t1, b22, p, scratch, next);
+        combine(c11, p, -1, c11);
+        combine(c12, p, 1, c12);
+
+        // M6 = (A21 - A11)(B11 + B12)
+        combine(a21, a11, -1, t1);
+        combine(b11, b12, 1, t2);
+        multiplyInto(t1, t2, p, scratch, next);
+        combine(c22, p, 1, c22);
+
+        // M7 = (A12 - A22)(B21 + B22)
+        combine(a12, a22, -1, t1);
+        combine(b21, b22, 1, t2);
+        multiplyInto(t1, t2, p, scratch, next);
+        combine(c11, p, 1, c11);
+    }
+
+    /**
+     * out = x + sign * y, where sign 0 copies x
+     */
+    private static void combine(IntMatrix x, IntMatrix y, int sign, IntMatrix out) {
+        final int[] xs = x.getData();
+        final int[] ys = y.getData();
+        final int[] os = out.getData();
+        final int n = out.getColumns();
+
+        for (int i = 0; i < out.getRows(); ++i) {
+            int xi = x.index(i, 0), yi = y.index(i, 0), oi = out.index(i, 0);
+            for (int j = 0; j < n; ++j) {
+                os[oi + j] = xs[xi + j] + sign * ys[yi + j];
+            }
+        }
+    }
+
+    private static void fill(IntMatrix matrix, int value) {
+        final int[] data = matrix.getData();
+        for (int i = 0; i < matrix.getRows(); ++i) {
+            int start = matrix.index(i, 0);
+            Arrays.fill(data, start, start + matrix.getColumns(), value);
+        }
+    }
+
+    private static IntMatrix pad(IntMatrix matrix, int size) {
+        if (matrix.getRows() == size && matrix.getColumns() == size) {
+            return matrix;
+        }
+        IntMatrix padded = IntMatrix.zeros(size, size);
+        copy(matrix, padded);
+        return padded;
+    }
+
+    /**
+     * Copy the overlapping top-left block of source into target
+     */
+    private static void copy(IntMatrix source, IntMatrix target) {
+        int rows = Math.min(source.getRows(), target.getRows());
+        int columns = Math.min(source.getColumns(), target.getColumns());
+        for (int i = 0; i < rows; ++i) {
+            System.arraycopy(source.getData(), source.index(i, 0), target.getData(), target.index(i, 0), columns);
+        }
+    }
+}
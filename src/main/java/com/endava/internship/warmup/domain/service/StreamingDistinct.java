@@ -0,0 +1,26 @@
+package com.endava.internship.warmup.domain.service;
+
+/**
+ * Incremental form of {@link ArrayProcessor#distinct(int[])} for sequences that arrive in chunks.
+ */
+public interface StreamingDistinct extends AutoCloseable {
+
+    /**
+     * Consume the next chunk of the sequence
+     *
+     * @param chunk non-null immutable array of ints
+     * @return the values of chunk not seen in any previous chunk (nor earlier in this one), in encounter order
+     */
+    int[] accept(int[] chunk);
+
+    /**
+     * Return the number of distinct values consumed so far (an estimate for approximate implementations)
+     */
+    long cardinality();
+
+    /**
+     * Release any resources, such as spill files, held by this operator
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,61 @@
+package com.endava.internship.warmup.domain.service;
+
+/**
+ * {@link IntChunkConsumer} passing on the values a {@link StreamingDistinct} has not seen before, in encounter order.
+ * Completing the sequence, or the downstream asking for no more chunks or failing, closes the distinct operator.
+ */
+public final class StreamingDistinctConsumer implements IntChunkConsumer {
+
+    private final StreamingDistinct distinct;
+    private final IntChunkConsumer downstream;
+    private boolean closed;
+
+    /**
+     * @param distinct e.g. {@link ExactStreamingDistinct} to bound memory
+     * @param downstream receives the chunks of new values, empty chunks are not passed on
+     * @throws NullPointerException when distinct or downstream is null
+     */
+    public StreamingDistinctConsumer(StreamingDistinct distinct, IntChunkConsumer downstream) throws NullPointerException {
+        if (distinct == null || downstream == null) {
+            throw new NullPointerException();
+        }
+        this.distinct = distinct;
+        this.downstream = downstream;
+    }
+
+    @Override
+    public boolean accept(int[] chunk) {
+        if (closed) {
+            return false;
+        }
+        boolean more = false;
+        try {
+            final int[] newValues = distinct.accept(chunk);
+            more = newValues.length == 0 || downstream.accept(newValues);
+        } finally {
+            if (!more) {
+                close();
+            }
+        }
+        return more;
+    }
+
+    @Override
+    public void complete() {
+        try {
+            downstream.complete();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Close the distinct operator unless it was already closed
+     */
+    private void close() {
+        if (!closed) {
+            closed = true;
+            distinct.close();
+        }
+    }
+}
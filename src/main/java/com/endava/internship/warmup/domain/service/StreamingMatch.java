@@ -0,0 +1,76 @@
+package com.endava.internship.warmup.domain.service;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Incremental form of {@link ArrayProcessor#someMatch(int[], IntPredicate)} and {@link ArrayProcessor#noneMatch(int[])}
+ * that asks for no more chunks once a matching value was seen.
+ */
+public final class StreamingMatch implements IntChunkConsumer {
+
+    private final ArrayProcessor processor;
+    private final IntPredicate predicate;
+    private final boolean none;
+    private volatile boolean matched;
+    private volatile boolean completed;
+
+    private StreamingMatch(ArrayProcessor processor, IntPredicate predicate, boolean none) {
+        if (processor == null) {
+            throw new NullPointerException();
+        }
+        this.processor = processor;
+        this.predicate = predicate;
+        this.none = none;
+    }
+
+    /**
+     * Track whether some value matches predicate
+     *
+     * @throws NullPointerException when processor or predicate is null
+     */
+    public static StreamingMatch someMatch(ArrayProcessor processor, IntPredicate predicate) throws NullPointerException {
+        if (predicate == null) {
+            throw new NullPointerException();
+        }
+        return new StreamingMatch(processor, predicate, false);
+    }
+
+    /**
+     * Track whether no value divides by 10
+     *
+     * @throws NullPointerException when processor is null
+     */
+    public static StreamingMatch noneMatch(ArrayProcessor processor) throws NullPointerException {
+        return new StreamingMatch(processor, null, true);
+    }
+
+    @Override
+    public boolean accept(int[] chunk) {
+        if (matched) {
+            return false;
+        }
+        if (none ? !processor.noneMatch(chunk) : processor.someMatch(chunk, predicate)) {
+            matched = true;
+        }
+        return !matched;
+    }
+
+    @Override
+    public void complete() {
+        completed = true;
+    }
+
+    /**
+     * Return true when the result can no longer change: a value matched or the sequence completed
+     */
+    public boolean isDecided() {
+        return matched || completed;
+    }
+
+    /**
+     * Return the result over the chunks consumed so far: someMatch, or noneMatch for {@link #noneMatch(ArrayProcessor)}
+     */
+    public boolean getResult() {
+        return none != matched;
+    }
+}
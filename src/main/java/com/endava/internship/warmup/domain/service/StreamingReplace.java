@@ -0,0 +1,46 @@
+package com.endava.internship.warmup.domain.service;
+
+/**
+ * Incremental form of {@link ArrayProcessor#replace(int[])}: index parity is counted over the whole sequence,
+ * not per chunk, so the concatenated output equals replace of the concatenated input.
+ */
+public final class StreamingReplace implements IntChunkConsumer {
+
+    private final IntChunkConsumer downstream;
+    private volatile long consumed;
+
+    /**
+     * @param downstream receives the replaced chunks
+     * @throws NullPointerException when downstream is null
+     */
+    public StreamingReplace(IntChunkConsumer downstream) throws NullPointerException {
+        if (downstream == null) {
+            throw new NullPointerException();
+        }
+        this.downstream = downstream;
+    }
+
+    @Override
+    public boolean accept(int[] chunk) {
+        final int[] replaced = new int[chunk.length];
+        final int parity = (int) (consumed & 1);
+
+        for (int i = 0; i < chunk.length; ++i) {
+            replaced[i] = ((i + parity) & 1) == 0 ? 2 * chunk[i] : -chunk[i];
+        }
+        consumed += chunk.length;
+        return downstream.accept(replaced);
+    }
+
+    @Override
+    public void complete() {
+        downstream.complete();
+    }
+
+    /**
+     * Return the number of values consumed so far
+     */
+    public long getConsumed() {
+        return consumed;
+    }
+}
@@ -0,0 +1,32 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.util.IntSecondMax;
+
+/**
+ * Running form of {@link ArrayProcessor#findSecondMax(int[])} over the chunks consumed so far.
+ */
+public final class StreamingSecondMax implements IntChunkConsumer {
+
+    private final IntSecondMax secondMax = new IntSecondMax();
+
+    @Override
+    public synchronized boolean accept(int[] chunk) {
+        for (int num : chunk) {
+            secondMax.accept(num);
+        }
+        return true;
+    }
+
+    public synchronized boolean hasSecondMax() {
+        return secondMax.hasSecondMax();
+    }
+
+    /**
+     * Return the second largest distinct value consumed so far
+     *
+     * @throws IllegalArgumentException while fewer than two distinct values were consumed
+     */
+    public synchronized int getSecondMax() throws IllegalArgumentException {
+        return secondMax.get();
+    }
+}
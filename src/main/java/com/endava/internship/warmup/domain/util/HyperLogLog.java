@@ -0,0 +1,73 @@
+package com.endava.internship.warmup.domain.util;
+
+/**
+ * HyperLogLog cardinality sketch for ints. Uses 2^precision one-byte registers and has a relative
+ * standard error of about 1.04 / sqrt(2^precision).
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 14;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * @param precision number of hash bits selecting a register, between 4 and 18
+     * @throws IllegalArgumentException when precision is out of range
+     */
+    public HyperLogLog(int precision) throws IllegalArgumentException {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException();
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public void add(int value) {
+        long hash = IntHashing.hash64(value);
+        int register = (int) (hash >>> (64 - precision));
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[register]) {
+            registers[register] = (byte) rank;
+        }
+    }
+
+    /**
+     * @return estimated number of distinct values added so far
+     */
+    public long estimate() {
+        final int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+
+        for (byte rank : registers) {
+            sum += 1.0 / (1L << rank);
+            if (rank == 0) {
+                ++zeros;
+            }
+        }
+
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private static double alpha(int m) {
+        switch (m) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
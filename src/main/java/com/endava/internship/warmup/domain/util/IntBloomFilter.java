@@ -0,0 +1,71 @@
+package com.endava.internship.warmup.domain.util;
+
+/**
+ * Bloom filter for ints, sized from the expected number of insertions and the tolerated false positive rate.
+ * Never reports a false negative.
+ */
+public final class IntBloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions number of values the false positive rate is computed for
+     * @param falsePositiveRate probability, strictly between 0 and 1, of reporting an absent value as present
+     * @throws IllegalArgumentException when the parameters are out of range
+     */
+    public IntBloomFilter(long expectedInsertions, double falsePositiveRate) throws IllegalArgumentException {
+        if (expectedInsertions <= 0 || !(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException();
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long words = Math.max(1, (optimalBits + 63) >>> 6);
+        if (words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException();
+        }
+        this.bits = new long[(int) words];
+        this.bitCount = words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    /**
+     * Record value in the filter
+     * @return true if the value was definitely absent before
+     */
+    public boolean put(int value) {
+        long hash = IntHashing.hash64(value);
+        int low = (int) hash;
+        int high = (int) (hash >>> 32);
+        boolean changed = false;
+
+        for (int i = 1; i <= hashCount; ++i) {
+            long index = ((low + (long) i * high) & Long.MAX_VALUE) % bitCount;
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return false if value was definitely never put, true if it probably was
+     */
+    public boolean mightContain(int value) {
+        long hash = IntHashing.hash64(value);
+        int low = (int) hash;
+        int high = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; ++i) {
+            long index = ((low + (long) i * high) & Long.MAX_VALUE) % bitCount;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
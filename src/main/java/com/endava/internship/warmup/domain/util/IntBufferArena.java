@@ -0,0 +1,141 @@
+package com.endava.internship.warmup.domain.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Owner of native-order direct {@link IntBuffer}s. Closing an arena forgets its buffers and rejects further
+ * allocations; the memory of a buffer is freed by the garbage collector once the buffer is unreachable, so a
+ * buffer that is still referenced stays readable after close.
+ * An arena from {@link #unsafeEagerRelease()} frees the memory at close instead, its buffers must not be touched
+ * after close. An arena is not thread-safe, the buffers it hands out can be read from any thread.
+ */
+public final class IntBufferArena implements AutoCloseable {
+
+    /** Largest number of ints in one buffer, a direct ByteBuffer holds at most Integer.MAX_VALUE bytes */
+    public static final int MAX_LENGTH = Integer.MAX_VALUE / Integer.BYTES;
+
+    private static final Releaser RELEASER = releaser();
+
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private final boolean eagerRelease;
+    private long allocatedBytes;
+    private boolean open = true;
+
+    public IntBufferArena() {
+        this(false);
+    }
+
+    private IntBufferArena(boolean eagerRelease) {
+        this.eagerRelease = eagerRelease;
+    }
+
+    /**
+     * Return an arena that frees the memory of its buffers as soon as it is closed.
+     * Reading or writing one of its buffers after close touches freed memory and may crash the JVM,
+     * use it only when no buffer escapes the scope of the arena.
+     */
+    public static IntBufferArena unsafeEagerRelease() {
+        return new IntBufferArena(true);
+    }
+
+    /**
+     * Return a zeroed buffer with position 0 and limit length
+     *
+     * @throws IllegalArgumentException when length is outside of [0, MAX_LENGTH]
+     * @throws IllegalStateException when the arena is closed
+     */
+    public IntBuffer allocate(int length) throws IllegalArgumentException, IllegalStateException {
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        if (!open) {
+            throw new IllegalStateException();
+        }
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(length * Integer.BYTES).order(ByteOrder.nativeOrder());
+        buffers.add(bytes);
+        allocatedBytes += bytes.capacity();
+        return bytes.asIntBuffer();
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Return the bytes of the buffers allocated since the arena was opened, 0 once it is closed
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Forget every buffer of the arena and reject further allocations. An eager arena frees the memory right away,
+     * otherwise each buffer stays valid until unreachable and nothing is released promptly.
+     * Calling close again has no effect.
+     */
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        if (eagerRelease) {
+            for (ByteBuffer buffer : buffers) {
+                RELEASER.release(buffer);
+            }
+        }
+        buffers.clear();
+        allocatedBytes = 0;
+    }
+
+    @FunctionalInterface
+    private interface Releaser {
+        void release(ByteBuffer buffer);
+    }
+
+    /**
+     * Find the JDK internal that frees a direct buffer right away: Unsafe.invokeCleaner since Java 9,
+     * the buffer's cleaner before. When neither is reachable the memory is left to the garbage collector.
+     */
+    private static Releaser releaser() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+            return buffer -> invoke(invokeCleaner, unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 8
+        }
+        try {
+            final Method cleaner = ByteBuffer.allocateDirect(1).getClass().getMethod("cleaner");
+            cleaner.setAccessible(true);
+            final Method clean = cleaner.getReturnType().getMethod("clean");
+            clean.setAccessible(true);
+            return buffer -> {
+                final Object bufferCleaner = invoke(cleaner, buffer);
+                if (bufferCleaner != null) {
+                    invoke(clean, bufferCleaner);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return buffer -> {
+            };
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... arguments) {
+        try {
+            return method.invoke(target, arguments);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
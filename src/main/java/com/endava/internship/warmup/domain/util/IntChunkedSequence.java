@@ -0,0 +1,219 @@
+package com.endava.internship.warmup.domain.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link IntSequence} stored as a list of bounded chunks, a flat rope. An insert copies at most one chunk and,
+ * when it overflows, splits it into balanced chunks and merges them into neighbours they fit into, so every chunk
+ * but the last stays at least half full in steady state. A prefix-size index finds a chunk by binary search, so
+ * inserts at random positions cost O(chunk size + size / chunk size) and reads O(log(size / chunk size)).
+ */
+public final class IntChunkedSequence implements IntSequence {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final int chunkSize;
+    private final List<Chunk> chunks = new ArrayList<>();
+    /**
+     * ends[c] is the number of values in chunks 0..c
+     */
+    private int[] ends = new int[8];
+    private int size;
+
+    public IntChunkedSequence() {
+        this(new int[0], DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param initial non-null values the sequence starts with; the array is copied
+     * @param chunkSize the largest number of values kept in one chunk
+     * @throws IllegalArgumentException when chunkSize is smaller than 2
+     */
+    public IntChunkedSequence(int[] initial, int chunkSize) throws IllegalArgumentException {
+        if (chunkSize < 2) {
+            throw new IllegalArgumentException();
+        }
+        this.chunkSize = chunkSize;
+        appendChunks(initial, 0, initial.length);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the number of chunks, which shows the fill factor: with every chunk but the last at least half full it
+     * is at most 2 * size / chunkSize + 1
+     */
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    @Override
+    public int get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        final int c = locate(index);
+        return chunks.get(c).values[index - start(c)];
+    }
+
+    @Override
+    public void insertValues(int startInclusive, int[] values) throws IllegalArgumentException {
+        if (startInclusive < 0 || startInclusive >= size) {
+            throw new IllegalArgumentException();
+        }
+
+        final int c = locate(startInclusive);
+        final int index = startInclusive - start(c);
+        final Chunk chunk = chunks.get(c);
+        size += values.length;
+
+        if (chunk.length + values.length <= chunkSize) {
+            chunk.ensureCapacity(chunk.length + values.length, chunkSize);
+            System.arraycopy(chunk.values, index, chunk.values, index + values.length, chunk.length - index);
+            System.arraycopy(values, 0, chunk.values, index, values.length);
+            chunk.length += values.length;
+            reindex(c);
+            return;
+        }
+
+        // lay the chunk and the values out in as few chunks as hold them, all of about the same length
+        final int total = chunk.length + values.length;
+        final int[] combined = new int[total];
+        System.arraycopy(chunk.values, 0, combined, 0, index);
+        System.arraycopy(values, 0, combined, index, values.length);
+        System.arraycopy(chunk.values, index, combined, index + values.length, chunk.length - index);
+
+        final int pieces = (total + chunkSize - 1) / chunkSize;
+        final List<Chunk> replacement = new ArrayList<>(pieces);
+        for (int p = 0, from = 0; p < pieces; ++p) {
+            final int to = (int) ((long) total * (p + 1) / pieces);
+            replacement.add(Chunk.of(combined, from, to));
+            from = to;
+        }
+        chunks.remove(c);
+        chunks.addAll(c, replacement);
+
+        final int last = c + pieces - 1;
+        if (last + 1 < chunks.size()) {
+            merge(last);
+        }
+        reindex(c > 0 && merge(c - 1) ? c - 1 : c);
+    }
+
+    @Override
+    public void append(int[] values) {
+        int from = 0;
+        if (!chunks.isEmpty()) {
+            final int c = chunks.size() - 1;
+            final Chunk last = chunks.get(c);
+            from = Math.min(values.length, chunkSize - last.length);
+            last.ensureCapacity(last.length + from, chunkSize);
+            System.arraycopy(values, 0, last.values, last.length, from);
+            last.length += from;
+            size += from;
+            reindex(c);
+        }
+        appendChunks(values, from, values.length);
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] values = new int[size];
+        int k = 0;
+        for (Chunk chunk : chunks) {
+            System.arraycopy(chunk.values, 0, values, k, chunk.length);
+            k += chunk.length;
+        }
+        return values;
+    }
+
+    private void appendChunks(int[] values, int from, int to) {
+        final int first = chunks.size();
+        for (; from < to; from += chunkSize) {
+            final Chunk chunk = Chunk.of(values, from, Math.min(to, from + chunkSize));
+            chunks.add(chunk);
+            size += chunk.length;
+        }
+        reindex(first);
+    }
+
+    /**
+     * Merge chunk c and chunk c + 1 when their values fit into one chunk
+     */
+    private boolean merge(int c) {
+        final Chunk left = chunks.get(c);
+        final Chunk right = chunks.get(c + 1);
+        if (left.length + right.length > chunkSize) {
+            return false;
+        }
+        left.ensureCapacity(left.length + right.length, chunkSize);
+        System.arraycopy(right.values, 0, left.values, left.length, right.length);
+        left.length += right.length;
+        chunks.remove(c + 1);
+        return true;
+    }
+
+    /**
+     * Return the chunk holding index, which must be in [0, size)
+     */
+    private int locate(int index) {
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (ends[middle] <= index) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int start(int c) {
+        return c == 0 ? 0 : ends[c - 1];
+    }
+
+    /**
+     * Recompute the prefix sizes from chunk c on
+     */
+    private void reindex(int c) {
+        if (ends.length < chunks.size()) {
+            ends = Arrays.copyOf(ends, Math.max(chunks.size(), ends.length * 2));
+        }
+        int end = start(c);
+        for (int i = c; i < chunks.size(); ++i) {
+            end += chunks.get(i).length;
+            ends[i] = end;
+        }
+    }
+
+    private static final class Chunk {
+
+        private int[] values;
+        private int length;
+
+        private Chunk(int[] values) {
+            this.values = values;
+            this.length = values.length;
+        }
+
+        /**
+         * Return a chunk holding exactly values[from, to)
+         */
+        static Chunk of(int[] values, int from, int to) {
+            return new Chunk(Arrays.copyOfRange(values, from, to));
+        }
+
+        void ensureCapacity(int needed, int chunkSize) {
+            if (needed > values.length) {
+                values = Arrays.copyOf(values, Math.min(chunkSize, Math.max(needed, values.length + (values.length >> 1))));
+            }
+        }
+    }
+}
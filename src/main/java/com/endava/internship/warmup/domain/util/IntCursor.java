@@ -0,0 +1,22 @@
+package com.endava.internship.warmup.domain.util;
+
+/**
+ * Forward-only position over a sequence of ints.
+ */
+public interface IntCursor {
+
+    /**
+     * Return true when there is no current value left
+     */
+    boolean isExhausted();
+
+    /**
+     * Return the current value; only valid while the cursor is not exhausted
+     */
+    int head();
+
+    /**
+     * Move to the next value
+     */
+    void advance();
+}
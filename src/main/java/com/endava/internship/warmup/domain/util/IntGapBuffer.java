@@ -0,0 +1,104 @@
+package com.endava.internship.warmup.domain.util;
+
+import java.util.Arrays;
+
+/**
+ * {@link IntSequence} keeping a gap of free cells at the position of the last edit. Inserting next to the
+ * previous insert only fills the gap; moving the gap costs the distance it travels. The storage doubles when
+ * the gap runs out, so a run of localized inserts costs amortized O(inserted values).
+ */
+public final class IntGapBuffer implements IntSequence {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] buffer;
+    private int gapStart;
+    private int gapEnd;
+
+    public IntGapBuffer() {
+        this(new int[0]);
+    }
+
+    /**
+     * @param initial non-null values the sequence starts with; the array is copied
+     */
+    public IntGapBuffer(int[] initial) {
+        buffer = new int[Math.max(DEFAULT_CAPACITY, initial.length * 2)];
+        System.arraycopy(initial, 0, buffer, 0, initial.length);
+        gapStart = initial.length;
+        gapEnd = buffer.length;
+    }
+
+    @Override
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public int get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return index < gapStart ? buffer[index] : buffer[index + gapEnd - gapStart];
+    }
+
+    @Override
+    public void insertValues(int startInclusive, int[] values) throws IllegalArgumentException {
+        if (startInclusive < 0 || startInclusive >= size()) {
+            throw new IllegalArgumentException();
+        }
+        insertAt(startInclusive, values);
+    }
+
+    @Override
+    public void append(int[] values) {
+        insertAt(size(), values);
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] values = new int[size()];
+        System.arraycopy(buffer, 0, values, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, values, gapStart, buffer.length - gapEnd);
+        return values;
+    }
+
+    private void insertAt(int index, int[] values) {
+        if (gapEnd - gapStart < values.length) {
+            grow(values.length);
+        }
+        moveGap(index);
+        System.arraycopy(values, 0, buffer, gapStart, values.length);
+        gapStart += values.length;
+    }
+
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    private void grow(int required) {
+        int size = size();
+        long capacity = Math.max(2L * buffer.length, (long) size + required + DEFAULT_CAPACITY);
+        if (capacity > Integer.MAX_VALUE - 8) {
+            capacity = (long) size + required;
+            if (capacity > Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError();
+            }
+        }
+        int[] grown = Arrays.copyOf(buffer, (int) capacity);
+        int tail = buffer.length - gapEnd;
+        System.arraycopy(buffer, gapEnd, grown, grown.length - tail, tail);
+        buffer = grown;
+        gapEnd = grown.length - tail;
+    }
+}
@@ -0,0 +1,239 @@
+package com.endava.internship.warmup.domain.util;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive ints using open addressing with linear probing over a power-of-two table.
+ * No objects are allocated per element; the table doubles once it is more than half full.
+ * The value 0 marks a free slot, so membership of 0 itself is tracked by a separate flag.
+ * A table that would grow past 2^27 slots is replaced by a bitmap over every int, allocated in 512 KB pages as
+ * values reach them, so the set never needs more than the 512 MB of a full bitmap and never refuses a value.
+ */
+public final class IntHashSet {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 27;
+    private static final int PAGE_SHIFT = 22;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private final int maximumCapacity;
+    private int[] table;
+    private long[][] pages;
+    private int mask;
+    private int shift;
+    private int size;
+    private int resizeThreshold;
+    private boolean containsZero;
+
+    public IntHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * @param expectedSize number of values the set can hold without resizing, capped at 2^26; larger sets switch
+     * to the bitmap when they outgrow the capped table
+     * @throws IllegalArgumentException when expectedSize is negative
+     */
+    public IntHashSet(int expectedSize) throws IllegalArgumentException {
+        this(expectedSize, MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * @param maximumCapacity power-of-two table size past which the set switches to the bitmap
+     */
+    IntHashSet(int expectedSize, int maximumCapacity) throws IllegalArgumentException {
+        if (expectedSize < 0 || maximumCapacity < 2 || Integer.bitCount(maximumCapacity) != 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maximumCapacity = maximumCapacity;
+        allocate(capacityFor(expectedSize, maximumCapacity));
+    }
+
+    /**
+     * Add value to the set
+     * @return true if the value was not present before
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            ++size;
+            return true;
+        }
+        if (pages != null) {
+            return setBit(value);
+        }
+
+        int slot = slot(value);
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size - (containsZero ? 1 : 0) == resizeThreshold) {
+            if (table.length == maximumCapacity) {
+                switchToBitmap();
+                return setBit(value);
+            }
+            resize();
+            slot = slot(value);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        table[slot] = value;
+        ++size;
+        return true;
+    }
+
+    public boolean contains(int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        if (pages != null) {
+            final long[] page = pages[value >>> PAGE_SHIFT];
+            return page != null && (page[word(value)] & (1L << value)) != 0;
+        }
+
+        int slot = slot(value);
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all values, keeping the current table or bitmap pages for reuse
+     */
+    public void clear() {
+        if (pages != null) {
+            for (long[] page : pages) {
+                if (page != null) {
+                    Arrays.fill(page, 0L);
+                }
+            }
+        } else {
+            Arrays.fill(table, 0);
+        }
+        size = 0;
+        containsZero = false;
+    }
+
+    /**
+     * @return the values in unspecified order
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        int k = 0;
+        if (containsZero) {
+            values[k++] = 0;
+        }
+        if (pages != null) {
+            for (int p = 0; p < pages.length; ++p) {
+                final long[] page = pages[p];
+                if (page == null) {
+                    continue;
+                }
+                for (int w = 0; w < page.length; ++w) {
+                    for (long bits = page[w]; bits != 0; bits &= bits - 1) {
+                        final int value = (p << PAGE_SHIFT) | (w << 6) | Long.numberOfTrailingZeros(bits);
+                        if (value != 0) {
+                            values[k++] = value;
+                        }
+                    }
+                }
+            }
+            return values;
+        }
+        for (int value : table) {
+            if (value != 0) {
+                values[k++] = value;
+            }
+        }
+        return values;
+    }
+
+    private int slot(int value) {
+        return (value * GOLDEN_RATIO) >>> shift;
+    }
+
+    private boolean setBit(int value) {
+        final int index = value >>> PAGE_SHIFT;
+        long[] page = pages[index];
+        if (page == null) {
+            page = new long[1 << (PAGE_SHIFT - 6)];
+            pages[index] = page;
+        }
+        final int word = word(value);
+        final long bit = 1L << value;
+        if ((page[word] & bit) != 0) {
+            return false;
+        }
+        page[word] |= bit;
+        ++size;
+        return true;
+    }
+
+    private static int word(int value) {
+        return (value >>> 6) & ((1 << (PAGE_SHIFT - 6)) - 1);
+    }
+
+    /**
+     * Move every table value into the bitmap and drop the table
+     */
+    private void switchToBitmap() {
+        final int[] oldTable = table;
+        table = null;
+        pages = new long[1 << (Integer.SIZE - PAGE_SHIFT)][];
+        size = containsZero ? 1 : 0;
+        for (int value : oldTable) {
+            if (value != 0) {
+                setBit(value);
+            }
+        }
+    }
+
+    private void resize() {
+        int[] oldTable = table;
+        allocate(oldTable.length << 1);
+
+        for (int value : oldTable) {
+            if (value != 0) {
+                int slot = slot(value);
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new int[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(mask);
+        resizeThreshold = capacity >>> 1;
+    }
+
+    private static int capacityFor(int expectedSize, int maximumCapacity) {
+        long minimum = Math.max(2L, 2L * expectedSize);
+        if (minimum >= maximumCapacity) {
+            return maximumCapacity;
+        }
+        return Integer.highestOneBit((int) minimum - 1) << 1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.endava.internship.warmup.domain.util;
+
+/**
+ * Hash functions shared by the probabilistic int structures.
+ */
+final class IntHashing {
+
+    private IntHashing() {
+    }
+
+    /**
+     * Spread value over 64 bits with the MurmurHash3 finalizer
+     */
+    static long hash64(int value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
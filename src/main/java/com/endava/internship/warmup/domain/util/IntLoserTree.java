@@ -0,0 +1,81 @@
+package com.endava.internship.warmup.domain.util;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Tournament (loser) tree merging ascending {@link IntCursor}s with log2(k) comparisons per value.
+ * When heads are equal the cursor with the lower index wins, so the merge is stable.
+ */
+public final class IntLoserTree {
+
+    private final IntCursor[] cursors;
+    // tree[1..k-1] hold the loser of each match and tree[0] the overall winner; cursor s is leaf k + s
+    private final int[] tree;
+
+    public IntLoserTree(IntCursor[] cursors) {
+        final int k = cursors.length;
+        this.cursors = cursors;
+        this.tree = new int[Math.max(1, k)];
+        if (k == 0) {
+            return;
+        }
+
+        final int[] winners = new int[2 * k];
+        for (int s = 0; s < k; ++s) {
+            winners[k + s] = s;
+        }
+        for (int node = k - 1; node >= 1; --node) {
+            int a = winners[2 * node];
+            int b = winners[2 * node + 1];
+            if (beats(a, b)) {
+                winners[node] = a;
+                tree[node] = b;
+            } else {
+                winners[node] = b;
+                tree[node] = a;
+            }
+        }
+        tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    public boolean hasNext() {
+        return cursors.length > 0 && !cursors[tree[0]].isExhausted();
+    }
+
+    /**
+     * Return the smallest head and advance its cursor
+     * @throws NoSuchElementException when every cursor is exhausted
+     */
+    public int next() throws NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int winner = tree[0];
+        int value = cursors[winner].head();
+        cursors[winner].advance();
+
+        for (int node = (winner + cursors.length) >>> 1; node >= 1; node >>>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+        return value;
+    }
+
+    /**
+     * Return true if the head of cursor a comes before the head of cursor b; exhausted cursors never win
+     */
+    private boolean beats(int a, int b) {
+        boolean aDone = cursors[a].isExhausted();
+        boolean bDone = cursors[b].isExhausted();
+        if (aDone || bDone) {
+            return !aDone;
+        }
+        int aHead = cursors[a].head();
+        int bHead = cursors[b].head();
+        return aHead < bHead || (aHead == bHead && a < b);
+    }
+}
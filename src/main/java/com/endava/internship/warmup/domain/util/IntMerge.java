@@ -0,0 +1,100 @@
+package com.endava.internship.warmup.domain.util;
+
+/**
+ * Merging of ascending int sequences. When values are equal, the earlier input wins, so every merge is stable.
+ */
+public final class IntMerge {
+
+    private IntMerge() {
+    }
+
+    /**
+     * @return true if values[from, to) is sorted ascending
+     */
+    public static boolean isSorted(int[] values, int from, int to) {
+        for (int i = from + 1; i < to; ++i) {
+            if (values[i] < values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merge left[leftFrom, leftTo) and right[rightFrom, rightTo) into out starting at outFrom
+     */
+    public static void merge(int[] left, int leftFrom, int leftTo,
+                             int[] right, int rightFrom, int rightTo,
+                             int[] out, int outFrom) {
+        int i = leftFrom, j = rightFrom, k = outFrom;
+
+        while (i < leftTo && j < rightTo) {
+            out[k++] = left[i] <= right[j] ? left[i++] : right[j++];
+        }
+        System.arraycopy(left, i, out, k, leftTo - i);
+        System.arraycopy(right, j, out, k + leftTo - i, rightTo - j);
+    }
+
+    /**
+     * Return how many elements of left come among the first outIndex elements of merge(left, right)
+     */
+    public static int coRank(int outIndex, int[] left, int[] right) {
+        int low = Math.max(0, outIndex - right.length);
+        int high = Math.min(outIndex, left.length);
+
+        while (low < high) {
+            int i = (low + high) >>> 1;
+            int j = outIndex - i;
+            if (j > 0 && i < left.length && right[j - 1] >= left[i]) {
+                low = i + 1;
+            } else {
+                high = i;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Merge any number of sorted inputs in one pass using an {@link IntLoserTree}
+     * @param inputs non-null ascending arrays
+     * @param totalLength sum of the input lengths
+     */
+    public static int[] mergeAll(int[][] inputs, int totalLength) {
+        final IntCursor[] cursors = new IntCursor[inputs.length];
+        for (int s = 0; s < inputs.length; ++s) {
+            cursors[s] = new ArrayCursor(inputs[s]);
+        }
+        final IntLoserTree tree = new IntLoserTree(cursors);
+        final int[] out = new int[totalLength];
+
+        for (int k = 0; k < totalLength; ++k) {
+            out[k] = tree.next();
+        }
+        return out;
+    }
+
+    private static final class ArrayCursor implements IntCursor {
+
+        private final int[] values;
+        private int position;
+
+        ArrayCursor(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean isExhausted() {
+            return position == values.length;
+        }
+
+        @Override
+        public int head() {
+            return values[position];
+        }
+
+        @Override
+        public void advance() {
+            ++position;
+        }
+    }
+}
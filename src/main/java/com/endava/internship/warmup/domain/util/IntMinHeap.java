@@ -0,0 +1,111 @@
+package com.endava.internship.warmup.domain.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min-heap of primitive ints with a fixed capacity.
+ */
+public final class IntMinHeap {
+
+    private final int[] heap;
+    private int size;
+
+    /**
+     * @throws IllegalArgumentException when capacity is negative
+     */
+    public IntMinHeap(int capacity) throws IllegalArgumentException {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.heap = new int[capacity];
+    }
+
+    /**
+     * @throws IllegalStateException when the heap is full
+     */
+    public void add(int value) throws IllegalStateException {
+        if (size == heap.length) {
+            throw new IllegalStateException();
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    /**
+     * Keep the capacity largest values offered: add while not full, otherwise replace the minimum if value is larger
+     */
+    public void offer(int value) {
+        if (size < heap.length) {
+            add(value);
+        } else if (size > 0 && value > heap[0]) {
+            siftDown(value);
+        }
+    }
+
+    /**
+     * @throws NoSuchElementException when the heap is empty
+     */
+    public int min() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Remove and return the minimum
+     * @throws NoSuchElementException when the heap is empty
+     */
+    public int poll() throws NoSuchElementException {
+        int min = min();
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(last);
+        }
+        return min;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the values in heap order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(heap, size);
+    }
+
+    /**
+     * Place value at the root and restore the heap order, dropping the previous root
+     */
+    private void siftDown(int value) {
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                ++child;
+            }
+            if (value <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+}
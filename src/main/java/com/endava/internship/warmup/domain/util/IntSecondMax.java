@@ -0,0 +1,43 @@
+package com.endava.internship.warmup.domain.util;
+
+/**
+ * Single-pass accumulator of the second largest distinct int among the values offered so far.
+ */
+public final class IntSecondMax {
+
+    private boolean hasMax;
+    private int max;
+    private boolean hasSecondMax;
+    private int secondMax = Integer.MIN_VALUE;
+
+    public void accept(int value) {
+        if (!hasMax) {
+            max = value;
+            hasMax = true;
+        } else if (value > max) {
+            secondMax = max;
+            max = value;
+            hasSecondMax = true;
+        } else if (value < max && (!hasSecondMax || value > secondMax)) {
+            secondMax = value;
+            hasSecondMax = true;
+        }
+    }
+
+    /**
+     * Return whether at least two distinct values were offered
+     */
+    public boolean hasSecondMax() {
+        return hasSecondMax;
+    }
+
+    /**
+     * @throws IllegalArgumentException while fewer than two distinct values were offered
+     */
+    public int get() throws IllegalArgumentException {
+        if (!hasSecondMax) {
+            throw new IllegalArgumentException();
+        }
+        return secondMax;
+    }
+}
@@ -0,0 +1,89 @@
+package com.endava.internship.warmup.domain.util;
+
+import java.util.Arrays;
+
+/**
+ * Order statistics over int arrays.
+ */
+public final class IntSelection {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private IntSelection() {
+    }
+
+    /**
+     * Rearrange values[from, to) so that values[index] holds the value it would hold if the range were sorted,
+     * with no larger value before it and no smaller value after it.
+     * Runs quickselect with median-of-three pivots and falls back to sorting when the recursion gets too deep,
+     * so the worst case stays O(n log n).
+     *
+     * @throws IllegalArgumentException when index is outside of [from, to)
+     */
+    public static void select(int[] values, int from, int to, int index) throws IllegalArgumentException {
+        if (from < 0 || to > values.length || index < from || index >= to) {
+            throw new IllegalArgumentException();
+        }
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                Arrays.sort(values, from, to);
+                return;
+            }
+            int pivot = medianOfThree(values, from, from + ((to - from) >>> 1), to - 1);
+
+            // three-way partition: [from, lt) < pivot, [lt, gt] == pivot, (gt, to) > pivot
+            int lt = from;
+            int gt = to - 1;
+            int i = from;
+            while (i <= gt) {
+                int value = values[i];
+                if (value < pivot) {
+                    swap(values, lt++, i++);
+                } else if (value > pivot) {
+                    swap(values, i, gt--);
+                } else {
+                    ++i;
+                }
+            }
+
+            if (index < lt) {
+                to = lt;
+            } else if (index > gt) {
+                from = gt + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(values, from, to);
+    }
+
+    private static int medianOfThree(int[] values, int a, int b, int c) {
+        int x = values[a];
+        int y = values[b];
+        int z = values[c];
+        if (x < y) {
+            return y < z ? y : Math.max(x, z);
+        }
+        return x < z ? x : Math.max(y, z);
+    }
+
+    private static void insertionSort(int[] values, int from, int to) {
+        for (int i = from + 1; i < to; ++i) {
+            int value = values[i];
+            int j = i - 1;
+            while (j >= from && values[j] > value) {
+                values[j + 1] = values[j];
+                --j;
+            }
+            values[j + 1] = value;
+        }
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int tmp = values[i];
+        values[i] = values[j];
+        values[j] = tmp;
+    }
+}
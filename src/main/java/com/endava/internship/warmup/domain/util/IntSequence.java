@@ -0,0 +1,34 @@
+package com.endava.internship.warmup.domain.util;
+
+/**
+ * Mutable sequence of primitive ints built for many successive inserts into the same logical array.
+ */
+public interface IntSequence {
+
+    int size();
+
+    /**
+     * @throws IndexOutOfBoundsException when index is outside of [0, size)
+     */
+    int get(int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Insert values at a specific index, with the bounds of
+     * {@link com.endava.internship.warmup.domain.service.ArrayProcessor#insertValues(int[], int, int[])}
+     *
+     * @param startInclusive the index at which the first element from values should be inserted
+     * @param values non-null values to be inserted from startInclusive index
+     * @throws IllegalArgumentException when startInclusive is outside of [0, size)
+     */
+    void insertValues(int startInclusive, int[] values) throws IllegalArgumentException;
+
+    /**
+     * Add values after the last element
+     */
+    void append(int[] values);
+
+    /**
+     * Copy the sequence into a new array
+     */
+    int[] toArray();
+}
@@ -0,0 +1,192 @@
+package com.endava.internship.warmup.domain.cache;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.service.ArrayProcessorWithForLoops;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CachingArrayProcessorTest {
+
+    private final ArrayProcessorWithForLoops reference = new ArrayProcessorWithForLoops();
+    private CachingArrayProcessor testProcessor;
+
+    @BeforeEach
+    void setUp() {
+        testProcessor = new CachingArrayProcessor(reference);
+    }
+
+    @Test
+    void distinct_whenSameContentInNewArray_returnCachedResult() {
+        final int[] first = testProcessor.distinct(new int[]{1, 2, 2, 3});
+        final int[] second = testProcessor.distinct(new int[]{1, 2, 2, 3});
+
+        assertThat(second).containsExactly(1, 2, 3).isNotSameAs(first);
+        assertThat(testProcessor.stats().getHits()).isEqualTo(1);
+        assertThat(testProcessor.stats().getMisses()).isEqualTo(1);
+        assertThat(testProcessor.stats().getEntries()).isEqualTo(1);
+    }
+
+    @Test
+    void matrixMultiplication_whenResultOrInputModified_cacheIsUnaffected() {
+        final int[][] leftMatrix = {{1, 2}, {3, 4}};
+        final int[][] rightMatrix = {{5, 6}, {7, 8}};
+        final int[][] expected = reference.matrixMultiplication(leftMatrix, rightMatrix);
+
+        testProcessor.matrixMultiplication(leftMatrix, rightMatrix)[0][0] = -1;
+        testProcessor.matrixMultiplication(leftMatrix, rightMatrix)[1][1] = -1;
+        assertThat(testProcessor.matrixMultiplication(leftMatrix, rightMatrix)).isEqualTo(expected);
+
+        leftMatrix[0][0] = 10;
+        assertThat(testProcessor.matrixMultiplication(leftMatrix, rightMatrix))
+            .isEqualTo(reference.matrixMultiplication(leftMatrix, rightMatrix));
+        assertThat(testProcessor.stats().getMisses()).isEqualTo(2);
+        assertThat(testProcessor.stats().getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void matrixMultiplication_whenIntMatrixView_hitsPackedEntry() {
+        final IntMatrix packed = IntMatrix.of(new int[][]{{1, 2}, {3, 4}});
+        final IntMatrix view = IntMatrix.of(new int[][]{{0, 0, 0}, {0, 1, 2}, {0, 3, 4}}).subMatrix(1, 1, 2, 2);
+
+        final IntMatrix expected = testProcessor.matrixMultiplication(packed, packed);
+
+        assertThat(testProcessor.matrixMultiplication(view, view)).isEqualTo(expected);
+        assertThat(testProcessor.stats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void mergeSortedArrays_whenArgumentsDiffer_doNotShareEntries() {
+        assertAll(
+            () -> assertThat(testProcessor.mergeSortedArrays(new int[]{1}, new int[]{2, 3})).containsExactly(1, 2, 3),
+            () -> assertThat(testProcessor.mergeSortedArrays(new int[]{1, 2}, new int[]{3})).containsExactly(1, 2, 3),
+            () -> assertThat(testProcessor.mergeSortedArrays(new int[]{1}, new int[]{2}, new int[]{3})).containsExactly(1, 2, 3),
+            () -> assertThat(testProcessor.stats().getHits()).isZero()
+        );
+    }
+
+    @Test
+    void mergeSortedArrays_whenDelegateThrows_nothingIsCached() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> testProcessor.mergeSortedArrays(new int[]{2, 1}, new int[]{3}));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> testProcessor.matrixMultiplication(null, new int[][]{{1}}));
+
+        assertThat(testProcessor.stats().getEntries()).isZero();
+    }
+
+    @Test
+    void distinct_whenOverBudget_evictLeastRecentlyUsed() {
+        final CachingArrayProcessor processor = new CachingArrayProcessor(reference, 1_200, 1);
+        final int[] first = new int[100];
+        final int[] second = new int[100];
+        second[0] = 1;
+        final int[] third = new int[100];
+        third[0] = 2;
+
+        processor.distinct(first);
+        processor.distinct(second);
+        processor.distinct(first);
+        processor.distinct(third);
+        processor.distinct(first);
+
+        final CacheStats stats = processor.stats();
+        assertThat(stats.getEvictions()).isEqualTo(1);
+        assertThat(stats.getHits()).isEqualTo(2);
+        assertThat(stats.getWeightBytes()).isLessThanOrEqualTo(1_200);
+        processor.distinct(second);
+        assertThat(processor.stats().getMisses()).isEqualTo(4);
+    }
+
+    @Test
+    void distinct_whenEntryExceedsSegmentShare_cacheItWithinTotalBudget() {
+        final CachingArrayProcessor processor = new CachingArrayProcessor(reference, 4_000, 4);
+        final int[] input = IntStream.range(0, 200).toArray();
+
+        processor.distinct(input);
+        processor.distinct(input);
+
+        final CacheStats stats = processor.stats();
+        assertAll(
+                () -> assertThat(stats.getHits()).isEqualTo(1),
+                () -> assertThat(stats.getEntries()).isEqualTo(1),
+                () -> assertThat(stats.getRejections()).isZero(),
+                () -> assertThat(stats.getWeightBytes()).isGreaterThan(1_000).isLessThanOrEqualTo(4_000)
+        );
+    }
+
+    @Test
+    void distinct_whenEntryExceedsBudget_countRejection() {
+        final CachingArrayProcessor processor = new CachingArrayProcessor(reference, 1_000, 1);
+        final int[] input = IntStream.range(0, 200).toArray();
+
+        processor.distinct(input);
+        processor.distinct(input);
+
+        final CacheStats stats = processor.stats();
+        assertAll(
+                () -> assertThat(stats.getMisses()).isEqualTo(2),
+                () -> assertThat(stats.getRejections()).isEqualTo(2),
+                () -> assertThat(stats.getEntries()).isZero()
+        );
+    }
+
+    @Test
+    void distinct_whenManySegmentsFill_keepTotalWithinBudget() {
+        final CachingArrayProcessor processor = new CachingArrayProcessor(reference, 10_000, 8);
+        for (int i = 0; i < 200; ++i) {
+            processor.distinct(new int[]{i, i, i + 1});
+        }
+
+        final CacheStats stats = processor.stats();
+        assertAll(
+                () -> assertThat(stats.getWeightBytes()).isLessThanOrEqualTo(10_000),
+                () -> assertThat(stats.getEvictions()).isEqualTo(200 - stats.getEntries())
+        );
+    }
+
+    @Test
+    void distinct_whenCalledConcurrently_returnCorrectResults() throws Exception {
+        final CachingArrayProcessor processor = new CachingArrayProcessor(reference, 1 << 16, 4);
+        final Random random = new Random(24);
+        final int[][] inputs = new int[32][];
+        for (int i = 0; i < inputs.length; ++i) {
+            inputs[i] = random.ints(random.nextInt(200), 0, 50).toArray();
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; ++t) {
+                final int seed = t;
+                results.add(executor.submit(() -> {
+                    final Random picker = new Random(seed);
+                    for (int i = 0; i < 2_000; ++i) {
+                        final int[] input = inputs[picker.nextInt(inputs.length)];
+                        if (!Arrays.equals(processor.distinct(input), reference.distinct(input))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(processor.stats().getHits() + processor.stats().getMisses()).isEqualTo(8_000);
+    }
+}
@@ -0,0 +1,105 @@
+package com.endava.internship.warmup.domain.metrics;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.model.IntSlice;
+import com.endava.internship.warmup.domain.model.IntSource;
+import com.endava.internship.warmup.domain.service.ArrayProcessor;
+import com.endava.internship.warmup.domain.service.ArrayProcessorWithForLoops;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class InstrumentedArrayProcessorTest {
+
+    private final ArrayProcessor plain = new ArrayProcessorWithForLoops();
+    private final InstrumentedArrayProcessor processor = new InstrumentedArrayProcessor(plain);
+
+    @Test
+    void methods_whenInstrumented_returnDelegateResults() {
+        final int[] input = {5, -3, 10, 7, -8, 7, 2};
+        final int[] sorted = {-8, -3, 2, 5, 7, 7, 10};
+
+        assertAll(
+                () -> assertThat(processor.noneMatch(input)).isEqualTo(plain.noneMatch(input)),
+                () -> assertThat(processor.replace(input)).isEqualTo(plain.replace(input)),
+                () -> assertThat(processor.findSecondMax(input)).isEqualTo(plain.findSecondMax(input)),
+                () -> assertThat(processor.rearrange(input)).isEqualTo(plain.rearrange(input)),
+                () -> assertThat(processor.distinct(input)).isEqualTo(plain.distinct(input)),
+                () -> assertThat(processor.mergeSortedArrays(sorted, sorted))
+                        .isEqualTo(plain.mergeSortedArrays(sorted, sorted)),
+                () -> assertThat(processor.filter(IntSlice.of(input, 1, 6)))
+                        .isEqualTo(plain.filter(IntSlice.of(input, 1, 6))),
+                () -> assertThat(processor.matrixMultiplication(IntMatrix.of(new int[][]{{1, 2}}), IntMatrix.of(new int[][]{{3}, {4}})))
+                        .isEqualTo(IntMatrix.of(new int[][]{{11}}))
+        );
+    }
+
+    @Test
+    void snapshot_whenCalled_recordsCallsSizesAndFailures() {
+        processor.replace(new int[10]);
+        processor.replace(new int[1000]);
+        assertThatThrownBy(() -> processor.findSecondMax(new int[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        processor.matrixMultiplication(new int[][]{{1, 2, 3}}, new int[][]{{1}, {2}, {3}});
+        assertThat(processor.allMatch(IntSource.of("1,2,3,-4,5", ','), value -> value > 0)).isFalse();
+
+        final OperationSnapshot replace = processor.snapshot(ArrayOperation.REPLACE);
+        final OperationSnapshot secondMax = processor.snapshot(ArrayOperation.FIND_SECOND_MAX);
+        assertAll(
+                () -> assertThat(replace.getCalls()).isEqualTo(2),
+                () -> assertThat(replace.getFailures()).isZero(),
+                () -> assertThat(replace.getInputSizes().getMin()).isEqualTo(10),
+                () -> assertThat(replace.getInputSizes().getMax()).isEqualTo(1000),
+                () -> assertThat(replace.getLatencyNanos().getCount()).isEqualTo(2),
+                () -> assertThat(secondMax.getCalls()).isEqualTo(1),
+                () -> assertThat(secondMax.getFailures()).isEqualTo(1),
+                () -> assertThat(processor.snapshot(ArrayOperation.MATRIX_MULTIPLICATION).getInputSizes().getMax())
+                        .isEqualTo(6),
+                () -> assertThat(processor.snapshot(ArrayOperation.ALL_MATCH_SOURCE).getInputSizes().getMax())
+                        .isEqualTo(4),
+                () -> assertThat(processor.snapshot(ArrayOperation.DISTINCT).getCalls()).isZero()
+        );
+        if (processor.isMeasuringAllocations()) {
+            assertThat(replace.getAllocatedBytes().getMax()).isGreaterThanOrEqualTo(4000);
+        }
+    }
+
+    @Test
+    void report_whenCalled_passesEveryOperation() {
+        final AtomicReference<Map<ArrayOperation, OperationSnapshot>> reported = new AtomicReference<>();
+        processor.distinct(new int[]{1, 1, 2});
+
+        processor.report(reported::set);
+
+        assertThat(reported.get()).containsOnlyKeys(ArrayOperation.values());
+        assertThat(reported.get().get(ArrayOperation.DISTINCT).getCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void register_whenRegistered_exposesAttributesUntilClosed() throws Exception {
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        processor.filter(new int[]{1, 2, 3});
+
+        final ObjectName name;
+        try (ArrayProcessorMBeans beans = ArrayProcessorMBeans.register(server, "orders", processor)) {
+            assertThat(beans.getNames()).hasSize(ArrayOperation.values().length);
+            name = ArrayProcessorMBeans.objectName("orders", ArrayOperation.FILTER);
+
+            assertThat(server.getAttribute(name, "Calls")).isEqualTo(1L);
+            assertThat(server.getAttribute(name, "MaxInputSize")).isEqualTo(3L);
+            assertThatThrownBy(() -> ArrayProcessorMBeans.register(server, "orders", processor))
+                    .isInstanceOf(javax.management.InstanceAlreadyExistsException.class);
+            assertThat(server.isRegistered(name)).isTrue();
+        }
+
+        assertThat(server.isRegistered(name)).isFalse();
+    }
+}
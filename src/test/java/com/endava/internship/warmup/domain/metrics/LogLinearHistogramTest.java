@@ -0,0 +1,70 @@
+package com.endava.internship.warmup.domain.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LogLinearHistogramTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 31, 63, 64, 65, 1000, 123_456_789, Long.MAX_VALUE})
+    void bucketIndex_whenValueRecorded_bucketBoundsContainIt(long value) {
+        final int index = LogLinearHistogram.bucketIndex(value);
+
+        assertThat(index).isBetween(0, LogLinearHistogram.BUCKETS - 1);
+        assertThat(LogLinearHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+        if (index > 0) {
+            assertThat(LogLinearHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+        }
+    }
+
+    @Test
+    void getValueAtPercentile_whenUniformValues_withinBucketPrecision() {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        IntStream.rangeClosed(1, 100_000).forEach(histogram::record);
+
+        final HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertAll(
+                () -> assertThat(snapshot.getCount()).isEqualTo(100_000),
+                () -> assertThat(snapshot.getMin()).isEqualTo(1),
+                () -> assertThat(snapshot.getMax()).isEqualTo(100_000),
+                () -> assertThat(snapshot.getMean()).isEqualTo(50_000.5),
+                () -> assertThat(snapshot.getValueAtPercentile(50)).isBetween(50_000L, 51_600L),
+                () -> assertThat(snapshot.getValueAtPercentile(99)).isBetween(99_000L, 100_000L),
+                () -> assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(100_000),
+                () -> assertThat(snapshot.getValueAtPercentile(0)).isEqualTo(1),
+                () -> assertThatThrownBy(() -> snapshot.getValueAtPercentile(101))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void record_whenConcurrent_countsEveryValue() {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+
+        IntStream.range(0, 200_000).parallel().forEach(i -> histogram.record(new Random(i).nextInt(1_000_000)));
+
+        assertThat(histogram.snapshot().getCount()).isEqualTo(200_000);
+    }
+
+    @Test
+    void snapshot_whenEmpty_returnZeros() {
+        final HistogramSnapshot snapshot = new LogLinearHistogram().snapshot();
+
+        assertAll(
+                () -> assertThat(snapshot.getCount()).isZero(),
+                () -> assertThat(snapshot.getMin()).isZero(),
+                () -> assertThat(snapshot.getMax()).isZero(),
+                () -> assertThat(snapshot.getMean()).isZero(),
+                () -> assertThat(snapshot.getValueAtPercentile(99)).isZero()
+        );
+    }
+}
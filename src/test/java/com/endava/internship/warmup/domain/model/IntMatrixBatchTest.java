@@ -0,0 +1,40 @@
+package com.endava.internship.warmup.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntMatrixBatchTest {
+
+    @Test
+    void wrap_whenOffset_viewsPackedMatrices() {
+        final int[] data = {-1, 1, 2, 3, 4, 5, 6, 7, 8};
+        final IntMatrixBatch batch = IntMatrixBatch.wrap(data, 1, 2, 2, 2);
+
+        assertThat(batch.length()).isEqualTo(8);
+        assertThat(batch.start(1)).isEqualTo(5);
+        assertThat(batch.get(0).toArray()).isEqualTo(new int[][]{{1, 2}, {3, 4}});
+        assertThat(batch.get(1).toArray()).isEqualTo(new int[][]{{5, 6}, {7, 8}});
+    }
+
+    @Test
+    void get_sharesStorage() {
+        final IntMatrixBatch batch = IntMatrixBatch.zeros(3, 2, 2);
+
+        batch.getData()[batch.start(2) + 3] = 9;
+
+        assertThat(batch.get(2).get(1, 1)).isEqualTo(9);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> batch.get(3));
+    }
+
+    @Test
+    void wrap_whenInvalid_throwException() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> IntMatrixBatch.wrap(null, 1, 1, 1));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntMatrixBatch.wrap(new int[7], 2, 2, 2));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntMatrixBatch.wrap(new int[8], 1, 2, 2, 2));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntMatrixBatch.zeros(-1, 2, 2));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntMatrixBatch.zeros(1 << 21, 1 << 21, 1 << 21));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntMatrixBatch.wrap(new int[8], 1 << 21, 1 << 21, 1 << 21));
+    }
+}
@@ -0,0 +1,47 @@
+package com.endava.internship.warmup.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntMatrixTest {
+
+    @Test
+    void of_whenRectangular_packsRowMajor() {
+        final IntMatrix matrix = IntMatrix.of(new int[][]{{1, 2, 3}, {4, 5, 6}});
+
+        assertThat(matrix.getRows()).isEqualTo(2);
+        assertThat(matrix.getColumns()).isEqualTo(3);
+        assertThat(matrix.getData()).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(matrix.toArray()).isEqualTo(new int[][]{{1, 2, 3}, {4, 5, 6}});
+    }
+
+    @Test
+    void of_whenInvalidRows_throwException() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> IntMatrix.of(new int[][]{{1}, null}));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntMatrix.of(new int[][]{{1, 2}, {3}}));
+    }
+
+    @Test
+    void wrap_sharesStorage() {
+        final int[] data = {1, 2, 3, 4};
+        final IntMatrix matrix = IntMatrix.wrap(data, 2, 2);
+
+        data[3] = 40;
+
+        assertThat(matrix.get(1, 1)).isEqualTo(40);
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntMatrix.wrap(data, 3, 2));
+    }
+
+    @Test
+    void subMatrix_viewsBlockWithoutCopying() {
+        final IntMatrix matrix = IntMatrix.of(new int[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 9}});
+        final IntMatrix block = matrix.subMatrix(1, 1, 2, 2);
+
+        block.set(0, 0, 50);
+
+        assertThat(block).isEqualTo(IntMatrix.of(new int[][]{{50, 6}, {8, 9}}));
+        assertThat(matrix.get(1, 1)).isEqualTo(50);
+    }
+}
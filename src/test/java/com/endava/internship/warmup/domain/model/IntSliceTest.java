@@ -0,0 +1,33 @@
+package com.endava.internship.warmup.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class IntSliceTest {
+
+    @Test
+    void subSlice_sharesArrayAndOffsetsFromParent() {
+        final int[] array = {214, 331, 1243, 214, 991232, 120};
+        final IntSlice slice = IntSlice.of(array, 1, 5).subSlice(1, 3);
+
+        assertThat(slice.getArray()).isSameAs(array);
+        assertThat(slice.getOffset()).isEqualTo(2);
+        assertThat(slice.toArray()).containsExactly(1243, 214);
+        assertThat(slice).isEqualTo(IntSlice.of(new int[]{1243, 214}));
+    }
+
+    @Test
+    void of_whenOutOfBounds_throwException() {
+        final int[] array = {1, 2, 3};
+
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntSlice.of(array, 2, 1)),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntSlice.of(array, -1, 2)),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> IntSlice.of(array, 0, 4)),
+            () -> assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> IntSlice.of(array, 1, 2).get(1))
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.endava.internship.warmup.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntSourceTest {
+
+    @Test
+    void of_whenDelimitedText_parseLikeIntegerParseInt() {
+        final IntSource source = IntSource.of("0|-7|+15|2147483647|-2147483648|", '|');
+
+        assertThat(readAll(source, 5)).containsExactly(0, -7, 15, Integer.MAX_VALUE, Integer.MIN_VALUE);
+        assertThat(source.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(source::nextInt);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2147483648", "-2147483649", "", "-", "+", "1x", "9999999999"})
+    void nextInt_whenTokenInvalid_throwNumberFormatException(String token) {
+        final IntSource source = IntSource.of("1," + token + ",2", ',');
+
+        assertThat(source.nextInt()).isEqualTo(1);
+        assertThatExceptionOfType(NumberFormatException.class).isThrownBy(source::nextInt);
+    }
+
+    @Test
+    void of_whenEmpty_hasNoValues() {
+        assertThat(IntSource.of("", ',').hasNext()).isFalse();
+    }
+
+    private static int[] readAll(IntSource source, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; ++i) {
+            values[i] = source.nextInt();
+        }
+        return values;
+    }
+}
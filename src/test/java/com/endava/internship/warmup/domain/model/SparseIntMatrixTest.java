@@ -0,0 +1,70 @@
+package com.endava.internship.warmup.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SparseIntMatrixTest {
+
+    private static final int[][] DENSE = {
+            {0, 5, 0, 0},
+            {0, 0, 0, 0},
+            {-1, 0, 0, 7}
+    };
+
+    @Test
+    void of_whenDense_storesOnlyNonZerosByRow() {
+        final SparseIntMatrix matrix = SparseIntMatrix.of(DENSE);
+
+        assertAll(
+                () -> assertThat(matrix.getRows()).isEqualTo(3),
+                () -> assertThat(matrix.getColumns()).isEqualTo(4),
+                () -> assertThat(matrix.getNonZeros()).isEqualTo(3),
+                () -> assertThat(matrix.getRowPointers()).containsExactly(0, 1, 1, 3),
+                () -> assertThat(matrix.getColumnIndices()).containsExactly(1, 0, 3),
+                () -> assertThat(matrix.getValues()).containsExactly(5, -1, 7),
+                () -> assertThat(matrix.get(2, 3)).isEqualTo(7),
+                () -> assertThat(matrix.get(1, 3)).isZero(),
+                () -> assertThat(matrix.toArray()).isEqualTo(DENSE),
+                () -> assertThat(matrix.toIntMatrix()).isEqualTo(IntMatrix.of(DENSE)),
+                () -> assertThat(SparseIntMatrix.of(IntMatrix.of(DENSE))).isEqualTo(matrix),
+                () -> assertThat(SparseIntMatrix.of(IntMatrix.of(new int[][]{{9, 9}, {0, 5}, {-1, 0}, {0, 7}}).subMatrix(1, 0, 2, 2)).toArray())
+                        .isEqualTo(new int[][]{{0, 5}, {-1, 0}})
+        );
+    }
+
+    @Test
+    void wrap_whenArraysInvalid_throwException() {
+        assertAll(
+                () -> assertThat(SparseIntMatrix.wrap(3, 4, new int[]{0, 1, 1, 3}, new int[]{1, 0, 3}, new int[]{5, -1, 7}))
+                        .isEqualTo(SparseIntMatrix.of(DENSE)),
+                () -> assertThatThrownBy(() -> SparseIntMatrix.wrap(1, 4, new int[]{0, 2}, new int[]{3, 1}, new int[]{1, 2}))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> SparseIntMatrix.wrap(1, 4, new int[]{0, 1}, new int[]{4}, new int[]{1}))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> SparseIntMatrix.wrap(1, 4, new int[]{0, 1}, new int[]{0}, new int[]{0}))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> SparseIntMatrix.wrap(1, 4, null, new int[0], new int[0]))
+                        .isInstanceOf(NullPointerException.class),
+                () -> assertThatThrownBy(() -> SparseIntMatrix.of(new int[][]{{1}, {1, 2}}))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    void wrap_whenArraysModifiedLater_matrixIsUnchanged() {
+        final int[] columnIndices = {1, 0, 3};
+        final int[] values = {5, -1, 7};
+        final SparseIntMatrix matrix = SparseIntMatrix.wrap(3, 4, new int[]{0, 1, 1, 3}, columnIndices, values);
+
+        values[0] = 0;
+        columnIndices[2] = 0;
+        matrix.getValues()[1] = 0;
+        matrix.getColumnIndices()[1] = 3;
+
+        assertThat(matrix).isEqualTo(SparseIntMatrix.of(DENSE));
+        assertThat(matrix.get(2, 3)).isEqualTo(7);
+    }
+}
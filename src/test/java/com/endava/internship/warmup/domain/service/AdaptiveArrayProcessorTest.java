@@ -0,0 +1,118 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class AdaptiveArrayProcessorTest {
+
+    private ForkJoinPool pool;
+    private AdaptiveArrayProcessor testProcessor;
+    private ArrayProcessor referenceProcessor;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        testProcessor = new AdaptiveArrayProcessor(new AdaptiveThresholds(4, 1_000, 1_000, 100_000, 40), pool);
+        referenceProcessor = new ArrayProcessorWithForLoops();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 65, 999, 1_000, 20_000})
+    void arrayOperations_whenRoutedBySize_matchForLoops(int length) {
+        final Random random = new Random(length);
+        final int[] input = random.ints(length, -length - 20, length + 20).toArray();
+        final int[] sorted = input.clone();
+        Arrays.sort(sorted);
+        final int[] duplicates = random.ints(length, 0, 5).toArray();
+
+        assertAll(
+                () -> assertThat(testProcessor.noneMatch(input)).isEqualTo(referenceProcessor.noneMatch(input)),
+                () -> assertThat(testProcessor.someMatch(input, value -> value == 7))
+                        .isEqualTo(referenceProcessor.someMatch(input, value -> value == 7)),
+                () -> assertThat(testProcessor.rearrange(input)).isEqualTo(referenceProcessor.rearrange(input)),
+                () -> assertThat(testProcessor.filter(input)).isEqualTo(referenceProcessor.filter(input)),
+                () -> assertThat(testProcessor.mergeSortedArrays(sorted, sorted))
+                        .isEqualTo(referenceProcessor.mergeSortedArrays(sorted, sorted)),
+                () -> assertThat(testProcessor.distinct(input)).isEqualTo(referenceProcessor.distinct(input)),
+                () -> assertThat(testProcessor.distinct(sorted)).isEqualTo(referenceProcessor.distinct(sorted)),
+                () -> assertThat(testProcessor.distinct(duplicates)).isEqualTo(referenceProcessor.distinct(duplicates))
+        );
+    }
+
+    @Test
+    void distinct_whenSampleLooksSortedButInputIsNot_matchForLoops() {
+        final int[] input = new int[6_400];
+        Arrays.setAll(input, i -> i / 3);
+        input[1_001] = -5;
+
+        assertThat(testProcessor.distinct(input)).isEqualTo(referenceProcessor.distinct(input));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2, 3, 4, NAIVE", "20, 20, 20, BLOCKED", "40, 40, 60, STRASSEN", "40, 40, 100, PARALLEL", "10, 200, 40, BLOCKED"})
+    void matrixMultiplication_whenRoutedByShape_matchForLoops(int rows, int inner, int columns,
+                                                              AdaptiveArrayProcessor.MatrixRoute route) {
+        final Random random = new Random(rows * 31L + inner * 17L + columns);
+        final int[][] leftMatrix = new int[rows][];
+        final int[][] rightMatrix = new int[inner][];
+        Arrays.setAll(leftMatrix, i -> random.ints(inner).toArray());
+        Arrays.setAll(rightMatrix, i -> random.ints(columns).toArray());
+        final int[][] expected = referenceProcessor.matrixMultiplication(leftMatrix, rightMatrix);
+
+        assertThat(testProcessor.route(rows, inner, columns)).isEqualTo(route);
+        assertThat(testProcessor.matrixMultiplication(leftMatrix, rightMatrix)).isEqualTo(expected);
+        assertThat(testProcessor.matrixMultiplication(IntMatrix.of(leftMatrix), IntMatrix.of(rightMatrix)).toArray())
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void withOverrides_whenPropertiesSet_replaceOnlyThoseValues() {
+        final Properties properties = new Properties();
+        properties.setProperty("adaptive.parallelThreshold", "123");
+        properties.setProperty("adaptive.parallelism", " 1 ");
+
+        final AdaptiveThresholds thresholds = AdaptiveThresholds.defaults().withOverrides(properties, "adaptive.");
+
+        assertAll(
+                () -> assertThat(thresholds.getParallelThreshold()).isEqualTo(123),
+                () -> assertThat(thresholds.getParallelism()).isEqualTo(1),
+                () -> assertThat(thresholds.getStrassenThreshold()).isEqualTo(AdaptiveThresholds.DEFAULT_STRASSEN_THRESHOLD),
+                () -> assertThat(new AdaptiveArrayProcessor(thresholds).route(1_000, 1_000, 1_000))
+                        .isNotEqualTo(AdaptiveArrayProcessor.MatrixRoute.PARALLEL)
+        );
+        properties.setProperty("adaptive.strassenThreshold", "0");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> AdaptiveThresholds.defaults().withOverrides(properties, "adaptive."));
+        properties.setProperty("adaptive.strassenThreshold", "1");
+        properties.setProperty("adaptive.parallelThreshold", "4294967297");
+        assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> AdaptiveThresholds.defaults().withOverrides(properties, "adaptive."));
+    }
+
+    @Test
+    void calibrate_whenRun_returnsUsableThresholds() {
+        final AdaptiveThresholds thresholds = AdaptiveThresholds.calibrate();
+
+        assertThat(thresholds.getParallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+        assertThat(new AdaptiveArrayProcessor(thresholds).filter(new int[]{1, 2, 3})).isEqualTo(new int[]{1, 2, 3});
+    }
+}
@@ -0,0 +1,74 @@
+package com.endava.internship.warmup.domain.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ArrayPipelineTest {
+
+    private ArrayProcessor referenceProcessor;
+
+    @BeforeEach
+    void setUp() {
+        referenceProcessor = new ArrayProcessorWithForLoops();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 12, 100, 3_000})
+    void toArray_whenChained_matchesCallingMethodsOneByOne(int length) {
+        final int[] input = new Random(length).ints(length, -length - 20, length + 20).toArray();
+        final int[] original = input.clone();
+        final ArrayProcessor p = referenceProcessor;
+
+        assertAll(
+                () -> assertThat(ArrayPipeline.of(input).toArray()).isEqualTo(input),
+                () -> assertThat(ArrayPipeline.of(input).replace().distinct().toArray())
+                        .isEqualTo(p.distinct(p.replace(input))),
+                () -> assertThat(ArrayPipeline.of(input).replace().filter().distinct().toArray())
+                        .isEqualTo(p.distinct(p.filter(p.replace(input)))),
+                () -> assertThat(ArrayPipeline.of(input).distinct().replace().filter().filter().toArray())
+                        .isEqualTo(p.filter(p.filter(p.replace(p.distinct(input))))),
+                () -> assertThat(ArrayPipeline.of(input).rearrange().replace().rearrange().distinct().toArray())
+                        .isEqualTo(p.distinct(p.rearrange(p.replace(p.rearrange(input))))),
+                () -> assertThat(ArrayPipeline.of(input).filter().rearrange().replace().toArray())
+                        .isEqualTo(p.replace(p.rearrange(p.filter(input))))
+        );
+        assertThat(input).isEqualTo(original);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 12, 100, 3_000})
+    void terminals_whenChained_matchCallingMethodsOneByOne(int length) {
+        final int[] input = new Random(length).ints(length, -length - 20, length + 20).toArray();
+        final int[] expected = referenceProcessor.distinct(referenceProcessor.filter(referenceProcessor.replace(input)));
+        final ArrayPipeline pipeline = ArrayPipeline.of(input).replace().filter().distinct();
+
+        assertAll(
+                () -> assertThat(pipeline.noneMatch()).isEqualTo(referenceProcessor.noneMatch(expected)),
+                () -> assertThat(pipeline.someMatch(value -> value < -length))
+                        .isEqualTo(referenceProcessor.someMatch(expected, value -> value < -length)),
+                () -> assertThat(pipeline.someMatch(value -> value == Integer.MIN_VALUE)).isFalse()
+        );
+        if (expected.length >= 2) {
+            assertThat(pipeline.findSecondMax()).isEqualTo(referenceProcessor.findSecondMax(expected));
+        }
+    }
+
+    @Test
+    void findSecondMax_whenOneDistinctValueLeft_throwException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ArrayPipeline.of(new int[]{3, 3, 3}).distinct().findSecondMax());
+    }
+
+    @Test
+    void of_whenInputNull_throwException() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> ArrayPipeline.of(null));
+    }
+}
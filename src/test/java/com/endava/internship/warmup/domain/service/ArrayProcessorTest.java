@@ -0,0 +1,191 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+import com.endava.internship.warmup.domain.model.IntSlice;
+import com.endava.internship.warmup.domain.model.IntSource;
+import com.endava.internship.warmup.domain.model.SparseIntMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ArrayProcessorTest {
+
+    private final ArrayProcessor reference = new ArrayProcessorWithForLoops();
+    private final ArrayProcessor testProcessor = new ArraysOnly(reference);
+
+    @Test
+    void sliceDefaults_whenOffsetSlice_matchForLoops() {
+        final int[] values = new Random(14).ints(200, -50, 50).toArray();
+        final int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final IntSlice slice = IntSlice.of(values, 3, 180);
+        final IntSlice sortedSlice = IntSlice.of(sorted, 10, 100);
+
+        assertAll(
+                () -> assertThat(testProcessor.noneMatch(slice)).isEqualTo(reference.noneMatch(slice)),
+                () -> assertThat(testProcessor.someMatch(slice, value -> value == 7)).isEqualTo(reference.someMatch(slice, value -> value == 7)),
+                () -> assertThat(testProcessor.copyValues(slice, 5, 20)).isEqualTo(reference.copyValues(slice, 5, 20)),
+                () -> assertThat(testProcessor.replace(slice)).isEqualTo(reference.replace(slice)),
+                () -> assertThat(testProcessor.findSecondMax(slice)).isEqualTo(reference.findSecondMax(slice)),
+                () -> assertThat(testProcessor.rearrange(slice)).isEqualTo(reference.rearrange(slice)),
+                () -> assertThat(testProcessor.filter(slice)).isEqualTo(reference.filter(slice)),
+                () -> assertThat(testProcessor.insertValues(slice, 4, sortedSlice)).isEqualTo(reference.insertValues(slice, 4, sortedSlice)),
+                () -> assertThat(testProcessor.mergeSortedArrays(sortedSlice, sortedSlice)).isEqualTo(reference.mergeSortedArrays(sortedSlice, sortedSlice)),
+                () -> assertThat(testProcessor.distinct(slice)).isEqualTo(reference.distinct(slice))
+        );
+    }
+
+    @Test
+    void matrixDefaults_matchForLoops() {
+        final IntMatrix left = IntMatrix.of(new int[][]{{1, 0, 2}, {0, 3, 0}});
+        final IntMatrix right = IntMatrix.of(new int[][]{{4, 0}, {0, 5}, {6, 0}});
+        final SparseIntMatrix sparseLeft = SparseIntMatrix.of(left);
+        final SparseIntMatrix sparseRight = SparseIntMatrix.of(right);
+        final IntMatrixBatch leftMatrices = IntMatrixBatch.wrap(new int[]{1, 2, 3, 4, 5, 6, 7, 8}, 2, 2, 2);
+        final IntMatrixBatch rightMatrices = IntMatrixBatch.wrap(new int[]{8, 7, 6, 5, 4, 3, 2, 1}, 2, 2, 2);
+        final IntMatrixBatch output = IntMatrixBatch.zeros(2, 2, 2);
+        final IntMatrixBatch expected = IntMatrixBatch.zeros(2, 2, 2);
+
+        testProcessor.matrixMultiplication(leftMatrices, rightMatrices, output);
+        reference.matrixMultiplication(leftMatrices, rightMatrices, expected);
+
+        assertAll(
+                () -> assertThat(testProcessor.matrixMultiplication(left, right)).isEqualTo(reference.matrixMultiplication(left, right)),
+                () -> assertThat(testProcessor.matrixMultiplication(sparseLeft, sparseRight)).isEqualTo(reference.matrixMultiplication(sparseLeft, sparseRight)),
+                () -> assertThat(testProcessor.matrixMultiplication(sparseLeft, right)).isEqualTo(reference.matrixMultiplication(sparseLeft, right)),
+                () -> assertThat(output.getData()).isEqualTo(expected.getData())
+        );
+    }
+
+    @Test
+    void matrixDefaults_whenInvalid_throwException() {
+        final IntMatrix square = IntMatrix.zeros(2, 2);
+        final IntMatrixBatch batch = IntMatrixBatch.zeros(2, 2, 2);
+
+        assertAll(
+                () -> assertThatExceptionOfType(NullPointerException.class)
+                        .isThrownBy(() -> testProcessor.matrixMultiplication(square, (IntMatrix) null)),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> testProcessor.matrixMultiplication(square, IntMatrix.zeros(3, 2))),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> testProcessor.matrixMultiplication(SparseIntMatrix.of(square), IntMatrix.zeros(3, 2))),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> testProcessor.matrixMultiplication(batch, IntMatrixBatch.zeros(2, 2, 2), batch))
+        );
+    }
+
+    /**
+     * Implements only the methods without a default, by delegation
+     */
+    private static final class ArraysOnly implements ArrayProcessor {
+
+        private final ArrayProcessor delegate;
+
+        ArraysOnly(ArrayProcessor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean noneMatch(int[] input) {
+            return delegate.noneMatch(input);
+        }
+
+        @Override
+        public boolean someMatch(int[] input, IntPredicate predicate) {
+            return delegate.someMatch(input, predicate);
+        }
+
+        @Override
+        public boolean allMatch(String[] input, ToIntFunction<String> function, IntPredicate predicate) {
+            return delegate.allMatch(input, function, predicate);
+        }
+
+        @Override
+        public boolean allMatch(IntSource input, IntPredicate predicate) {
+            return delegate.allMatch(input, predicate);
+        }
+
+        @Override
+        public int[] copyValues(int[] input, int startInclusive, int endExclusive) {
+            return delegate.copyValues(input, startInclusive, endExclusive);
+        }
+
+        @Override
+        public int[] replace(int[] input) {
+            return delegate.replace(input);
+        }
+
+        @Override
+        public int findSecondMax(int[] input) {
+            return delegate.findSecondMax(input);
+        }
+
+        @Override
+        public int[] topK(int[] input, int k) {
+            return delegate.topK(input, k);
+        }
+
+        @Override
+        public int kthLargest(int[] input, int k) {
+            return delegate.kthLargest(input, k);
+        }
+
+        @Override
+        public int[] rearrange(int[] input) {
+            return delegate.rearrange(input);
+        }
+
+        @Override
+        public void rearrange(int[] input, int[] output) {
+            delegate.rearrange(input, output);
+        }
+
+        @Override
+        public int[] filter(int[] input) {
+            return delegate.filter(input);
+        }
+
+        @Override
+        public int filterInto(int[] input, int[] output) {
+            return delegate.filterInto(input, output);
+        }
+
+        @Override
+        public int[] insertValues(int[] input, int startInclusive, int[] values) {
+            return delegate.insertValues(input, startInclusive, values);
+        }
+
+        @Override
+        public int[] mergeSortedArrays(int[] input, int[] input2) {
+            return delegate.mergeSortedArrays(input, input2);
+        }
+
+        @Override
+        public int[] mergeSortedArrays(int[]... inputs) {
+            return delegate.mergeSortedArrays(inputs);
+        }
+
+        @Override
+        public void validateForMatrixMultiplication(int[][] leftMatrix, int[][] rightMatrix) {
+            delegate.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        }
+
+        @Override
+        public int[][] matrixMultiplication(int[][] leftMatrix, int[][] rightMatrix) {
+            return delegate.matrixMultiplication(leftMatrix, rightMatrix);
+        }
+
+        @Override
+        public int[] distinct(int[] input) {
+            return delegate.distinct(input);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static com.endava.internship.warmup.domain.service.MatrixFixtures.randomMatrix;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ArrayProcessorWithBlockedMatricesTest {
+
+    private ArrayProcessor referenceProcessor;
+
+    @BeforeEach
+    void setUp() {
+        referenceProcessor = new ArrayProcessorWithForLoops();
+    }
+
+    @Test
+    void matrixMultiplication() {
+        int[][] leftMatrix = {
+            {1, 2, 3},
+            {4, 5, 6}
+        };
+        int[][] rightMatrix = {
+            {7, 8},
+            {9, 10},
+            {11, 12}
+        };
+        int[][] expectedMatrix = {
+            {58, 64},
+            {139, 154}
+        };
+
+        assertThat(new ArrayProcessorWithBlockedMatrices().matrixMultiplication(leftMatrix, rightMatrix)).isEqualTo(expectedMatrix);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1, 1", "7, 13, 5", "70, 65, 90", "130, 3, 129"})
+    void matrixMultiplication_whenTiled_matchesForLoops(int rows, int inner, int columns) {
+        final ArrayProcessor tiledProcessor = new ArrayProcessorWithBlockedMatrices(new BlockedMatrixMultiplier(8, 5, 16, 4));
+        final Random random = new Random(rows * 31L + inner * 17L + columns);
+        final int[][] leftMatrix = randomMatrix(random, rows, inner);
+        final int[][] rightMatrix = randomMatrix(random, inner, columns);
+
+        assertThat(tiledProcessor.matrixMultiplication(leftMatrix, rightMatrix))
+            .isEqualTo(referenceProcessor.matrixMultiplication(leftMatrix, rightMatrix));
+        assertThat(tiledProcessor.matrixMultiplication(IntMatrix.of(leftMatrix), IntMatrix.of(rightMatrix)).toArray())
+            .isEqualTo(referenceProcessor.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Test
+    void matrixMultiplication_whenDimensionsMismatch_throwException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new ArrayProcessorWithBlockedMatrices().matrixMultiplication(new int[2][3], new int[2][3]));
+    }
+
+    @Test
+    void blockedMatrixMultiplier_whenTileIsNotPositive_throwException() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new BlockedMatrixMultiplier(0, 1, 1, 0));
+    }
+}
@@ -1,12 +1,24 @@
 package com.endava.internship.warmup.domain.service;
 
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+import com.endava.internship.warmup.domain.model.IntSlice;
+import com.endava.internship.warmup.domain.model.IntSource;
+import com.endava.internship.warmup.domain.model.SparseIntMatrix;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
 import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -69,6 +81,20 @@ class ArrayProcessorWithForLoopsTest {
         assertThat(actual).isFalse();
     }
 
+    @Test
+    void allMatch_whenIntSource_parseWithoutStrings() {
+        final IntPredicate numberIsEven = (nr) -> nr % 2 == 0;
+        final ByteBuffer buffer = ByteBuffer.wrap("214\n991232\n120\n".getBytes(StandardCharsets.US_ASCII));
+
+        assertAll(
+            () -> assertThat(testProcessor.allMatch(IntSource.of(buffer, '\n'), numberIsEven)).isTrue(),
+            () -> assertThat(testProcessor.allMatch(IntSource.of("214,331,oops", ','), numberIsEven)).isFalse(),
+            () -> assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> testProcessor.allMatch(IntSource.of("214,oops,331", ','), numberIsEven))
+        );
+        assertThat(buffer.position()).isZero();
+    }
+
     @Test
     void copyValues_whenCopyElementsWithNormalIndexes_returnArrayWithValuesWithinBounds() {
         final int[] testStringNumbers = {214, 331, 1243, 214, 991232, 120};
@@ -97,6 +123,41 @@ class ArrayProcessorWithForLoopsTest {
         assertThat(testProcessor.findSecondMax(secMaxArray)).isEqualTo(62);
     }
 
+    @Test
+    void findSecondMax_whenMaxIsFirstOrNegative_returnSecondDistinctValue() {
+        assertAll(
+            () -> assertThat(testProcessor.findSecondMax(new int[]{63, 63, 6, 62})).isEqualTo(62),
+            () -> assertThat(testProcessor.findSecondMax(new int[]{-5, Integer.MIN_VALUE, -5})).isEqualTo(Integer.MIN_VALUE)
+        );
+    }
+
+    @Test
+    void findSecondMax_whenFewerThanTwoDistinctValues_throwException() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> testProcessor.findSecondMax(new int[]{4, 4, 4}));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 5, 128, 129, 1000, 5000})
+    void topK_and_kthLargest_matchSortedOrder(int k) {
+        final int[] input = new Random(k).ints(5000, -100, 100).toArray();
+        final int[] sortedDescending = IntStream.of(input).boxed().sorted(Comparator.reverseOrder()).mapToInt(Integer::intValue).toArray();
+
+        assertThat(testProcessor.topK(input, k)).containsExactly(Arrays.copyOf(sortedDescending, k));
+        if (k > 0) {
+            assertThat(testProcessor.kthLargest(input, k)).isEqualTo(sortedDescending[k - 1]);
+        }
+    }
+
+    @Test
+    void topK_whenKOutOfBounds_throwException() {
+        final int[] input = {3, 1, 2};
+
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> testProcessor.topK(input, 4)),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> testProcessor.kthLargest(input, 0))
+        );
+    }
+
     @Test
     void rearrange() {
         final int[] initialArray = {3, -5, 4, -7, 2, 9};
@@ -113,6 +174,33 @@ class ArrayProcessorWithForLoopsTest {
         assertThat(testProcessor.filter(input)).containsExactly(expectedArray);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 7, 64, 1001})
+    void rearrange_whenIntoBufferOrInPlace_matchesRearrange(int length) {
+        final int[] input = new Random(length).ints(length, -20, 20).toArray();
+        final int[] expected = testProcessor.rearrange(input);
+        final int[] output = new int[length + 3];
+
+        testProcessor.rearrange(input, output);
+        testProcessor.rearrange(input, input);
+
+        assertThat(Arrays.copyOf(output, length)).containsExactly(expected);
+        assertThat(input).containsExactly(expected);
+    }
+
+    @Test
+    void filterInto_whenInPlace_returnKeptCount() {
+        final int[] input = {3, -5, 4, -7, 2, 9};
+
+        assertThat(testProcessor.filterInto(input, input)).isEqualTo(4);
+        assertThat(Arrays.copyOf(input, 4)).containsExactly(3, 4, 2, 9);
+    }
+
+    @Test
+    void filterInto_whenOutputTooShort_throwException() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> testProcessor.filterInto(new int[3], new int[2]));
+    }
+
     @Test
     void insertValues() {
         final int[] input1 = {3, 5, 6, 12, 15, 123};
@@ -135,6 +223,32 @@ class ArrayProcessorWithForLoopsTest {
         assertThat(testProcessor.mergeSortedArrays(list1, list2)).containsExactly(list3);
     }
 
+    @Test
+    void mergeSortedArrays_whenManyInputs_mergeInOnePass() {
+        final int[] input1 = {-8, 5, 6, 12};
+        final int[] input2 = {};
+        final int[] input3 = {-86, 5, 123};
+        final int[] input4 = {Integer.MIN_VALUE, Integer.MAX_VALUE};
+        final int[] input5 = {6, 6, 7};
+
+        assertAll(
+            () -> assertThat(testProcessor.mergeSortedArrays(input1, input2, input3, input4, input5))
+                .containsExactly(Integer.MIN_VALUE, -86, -8, 5, 5, 6, 6, 6, 7, 12, 123, Integer.MAX_VALUE),
+            () -> assertThat(testProcessor.mergeSortedArrays(input3)).containsExactly(input3),
+            () -> assertThat(testProcessor.mergeSortedArrays()).isEmpty()
+        );
+    }
+
+    @Test
+    void mergeSortedArrays_whenAnyInputUnsorted_throwException() {
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.mergeSortedArrays(new int[]{1, 2}, new int[]{0, 9, 3})),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.mergeSortedArrays(new int[]{1, 2}, new int[]{3}, new int[]{5, 4}))
+        );
+    }
+
     @ParameterizedTest
     @MethodSource("provideArraysForValidateForMatrixMultiplication")
     void validateForMatrixMultiplication(int[][] matrix1, int[][] matrix2) {
@@ -160,6 +274,129 @@ class ArrayProcessorWithForLoopsTest {
         assertThat(testProcessor.matrixMultiplication(leftMatrix, rightMatrix)).isEqualTo(expectedMatrix);
     }
 
+    @Test
+    void matrixMultiplication_whenIntMatrix_matchesArrayResult() {
+        int[][] leftMatrix = {
+            {1, 2, 3},
+            {4, 5, 6}
+        };
+        int[][] rightMatrix = {
+            {7, 8},
+            {9, 10},
+            {11, 12}
+        };
+
+        assertThat(testProcessor.matrixMultiplication(IntMatrix.of(leftMatrix), IntMatrix.of(rightMatrix)).toArray())
+            .isEqualTo(testProcessor.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Test
+    void validateForMatrixMultiplication_whenIntMatrixDimensionsMismatch_throwException() {
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.validateForMatrixMultiplication(IntMatrix.zeros(2, 3), IntMatrix.zeros(2, 3))),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.validateForMatrixMultiplication(IntMatrix.zeros(0, 0), IntMatrix.zeros(0, 0))),
+            () -> assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> testProcessor.validateForMatrixMultiplication((IntMatrix) null, IntMatrix.zeros(1, 1)))
+        );
+    }
+
+    @Test
+    void matrixMultiplication_whenSparse_matchesDenseResult() {
+        final Random random = new Random(22);
+        final int[][] leftMatrix = sparseMatrix(random, 30, 40);
+        final int[][] rightMatrix = sparseMatrix(random, 40, 25);
+        final int[][] expected = testProcessor.matrixMultiplication(leftMatrix, rightMatrix);
+
+        assertAll(
+            () -> assertThat(testProcessor.matrixMultiplication(SparseIntMatrix.of(leftMatrix), SparseIntMatrix.of(rightMatrix)))
+                .isEqualTo(SparseIntMatrix.of(expected)),
+            () -> assertThat(testProcessor.matrixMultiplication(SparseIntMatrix.of(leftMatrix), IntMatrix.of(rightMatrix)).toArray())
+                .isEqualTo(expected)
+        );
+    }
+
+    @Test
+    void matrixMultiplication_whenSparseProductsCancel_storeNoZeros() {
+        final SparseIntMatrix leftMatrix = SparseIntMatrix.of(new int[][]{{1, 1}});
+        final SparseIntMatrix rightMatrix = SparseIntMatrix.of(new int[][]{{3, 0}, {-3, 0}});
+
+        final SparseIntMatrix result = testProcessor.matrixMultiplication(leftMatrix, rightMatrix);
+
+        assertThat(result.getNonZeros()).isZero();
+        assertThat(result.toArray()).isEqualTo(new int[][]{{0, 0}});
+    }
+
+    @Test
+    void validateForMatrixMultiplication_whenSparseDimensionsMismatch_throwException() {
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.validateForMatrixMultiplication(SparseIntMatrix.of(new int[2][3]), SparseIntMatrix.of(new int[2][3]))),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.validateForMatrixMultiplication(SparseIntMatrix.of(new int[0][0]), IntMatrix.zeros(0, 0))),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.matrixMultiplication(SparseIntMatrix.of(new int[2][3]), IntMatrix.zeros(2, 3))),
+            () -> assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> testProcessor.matrixMultiplication((SparseIntMatrix) null, SparseIntMatrix.of(new int[1][1])))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("batchShapes")
+    void matrixMultiplication_whenBatch_matchesEachMatrixResult(int rows, int inner, int columns) {
+        final Random random = new Random(23);
+        final int count = 5;
+        final IntMatrixBatch leftMatrices = randomBatch(random, count, rows, inner);
+        final IntMatrixBatch rightMatrices = randomBatch(random, count, inner, columns);
+        final IntMatrixBatch output = IntMatrixBatch.wrap(random.ints(count * rows * columns).toArray(), count, rows, columns);
+
+        testProcessor.matrixMultiplication(leftMatrices, rightMatrices, output);
+
+        for (int b = 0; b < count; ++b) {
+            assertThat(output.get(b).toArray())
+                .isEqualTo(testProcessor.matrixMultiplication(leftMatrices.get(b).toArray(), rightMatrices.get(b).toArray()));
+        }
+    }
+
+    static Stream<Arguments> batchShapes() {
+        return Stream.of(
+            Arguments.of(2, 2, 2),
+            Arguments.of(3, 3, 3),
+            Arguments.of(4, 4, 4),
+            Arguments.of(8, 8, 8),
+            Arguments.of(16, 16, 16),
+            Arguments.of(32, 32, 32),
+            Arguments.of(1, 5, 7),
+            Arguments.of(5, 3, 2)
+        );
+    }
+
+    private static IntMatrixBatch randomBatch(Random random, int count, int rows, int columns) {
+        return IntMatrixBatch.wrap(random.ints(count * rows * columns).toArray(), count, rows, columns);
+    }
+
+    @Test
+    void validateForMatrixMultiplication_whenBatchShapesMismatch_throwException() {
+        final int[] shared = new int[16];
+        assertAll(
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.validateForMatrixMultiplication(IntMatrixBatch.zeros(2, 2, 3), IntMatrixBatch.zeros(2, 2, 3),
+                    IntMatrixBatch.zeros(2, 2, 3))),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.validateForMatrixMultiplication(IntMatrixBatch.zeros(2, 2, 2), IntMatrixBatch.zeros(3, 2, 2),
+                    IntMatrixBatch.zeros(2, 2, 2))),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.validateForMatrixMultiplication(IntMatrixBatch.zeros(2, 2, 2), IntMatrixBatch.zeros(2, 2, 2),
+                    IntMatrixBatch.zeros(2, 2, 1))),
+            () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.matrixMultiplication(IntMatrixBatch.wrap(shared, 0, 2, 2, 2), IntMatrixBatch.zeros(2, 2, 2),
+                    IntMatrixBatch.wrap(shared, 4, 2, 2, 2))),
+            () -> assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> testProcessor.matrixMultiplication(IntMatrixBatch.zeros(1, 1, 1), IntMatrixBatch.zeros(1, 1, 1), null))
+        );
+    }
+
     @Test
     void distinct() {
         int[] initialArray = {12, 53, 22, 76, 12, 54, 53, 76, 12};
@@ -168,6 +405,46 @@ class ArrayProcessorWithForLoopsTest {
         assertThat(testProcessor.distinct(initialArray)).containsOnly(expectedArray);
     }
 
+    @Test
+    void distinct_keepsEncounterOrder() {
+        int[] initialArray = {0, 12, -3, 0, 53, Integer.MIN_VALUE, 12, -3, Integer.MIN_VALUE};
+
+        assertThat(testProcessor.distinct(initialArray)).containsExactly(0, 12, -3, 53, Integer.MIN_VALUE);
+    }
+
+    @Test
+    void copyValues_whenSlice_returnViewWithoutCopying() {
+        final int[] testStringNumbers = {214, 331, 1243, 214, 991232, 120};
+        final IntSlice view = testProcessor.copyValues(IntSlice.of(testStringNumbers), 1, 4);
+
+        assertThat(view.getArray()).isSameAs(testStringNumbers);
+        assertThat(view.toArray()).containsExactly(331, 1243, 214);
+        assertThatThrownBy(() -> testProcessor.copyValues(view, 2, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sliceOperations_matchArrayOperationsOnCopiedRange() {
+        final int[] padded = {99, 3, -5, 4, -7, 2, 9, 4, 3, -100};
+        final IntSlice slice = IntSlice.of(padded, 1, 9);
+        final int[] copy = slice.toArray();
+        final int[] sorted = {-9, -5, 2, 2, 8};
+        final IntSlice sortedSlice = IntSlice.of(new int[]{100, 1, 3, 8, 0}, 1, 4);
+
+        assertAll(
+            () -> assertThat(testProcessor.noneMatch(slice)).isEqualTo(testProcessor.noneMatch(copy)),
+            () -> assertThat(testProcessor.someMatch(slice, n -> n == 99)).isFalse(),
+            () -> assertThat(testProcessor.replace(slice)).containsExactly(testProcessor.replace(copy)),
+            () -> assertThat(testProcessor.findSecondMax(slice)).isEqualTo(testProcessor.findSecondMax(copy)),
+            () -> assertThat(testProcessor.rearrange(slice)).containsExactly(testProcessor.rearrange(copy)),
+            () -> assertThat(testProcessor.filter(slice)).containsExactly(testProcessor.filter(copy)),
+            () -> assertThat(testProcessor.distinct(slice)).containsExactly(testProcessor.distinct(copy)),
+            () -> assertThat(testProcessor.insertValues(slice, 2, IntSlice.of(sorted, 1, 3)))
+                .containsExactly(testProcessor.insertValues(copy, 2, new int[]{-5, 2})),
+            () -> assertThat(testProcessor.mergeSortedArrays(IntSlice.of(sorted), sortedSlice))
+                .containsExactly(testProcessor.mergeSortedArrays(sorted, new int[]{1, 3, 8}))
+        );
+    }
+
     private static Stream<Arguments> provideArraysForMergeSortedArrays() {
         int[] listMixed_1 = {-8, 5, 6, 12, 15, 54};
         int[] listMixed_2 = {-86, -5, -2, 7, 8, 8, 45, 123};
@@ -209,4 +486,16 @@ class ArrayProcessorWithForLoopsTest {
             Arguments.of(leftMatrix2, rightMatrix1)
         );
     }
-}
\ No newline at end of file
+
+    private static int[][] sparseMatrix(Random random, int rows, int columns) {
+        final int[][] matrix = new int[rows][columns];
+        for (int[] row : matrix) {
+            for (int j = 0; j < columns; ++j) {
+                if (random.nextInt(20) == 0) {
+                    row[j] = random.nextInt();
+                }
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,124 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static com.endava.internship.warmup.domain.service.MatrixFixtures.randomMatrix;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ArrayProcessorWithForkJoinTest {
+
+    private ForkJoinPool pool;
+    private ArrayProcessor testProcessor;
+    private ArrayProcessor referenceProcessor;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        testProcessor = new ArrayProcessorWithForkJoin(pool, 16, new ParallelMatrixMultiplier(pool, 64, new BlockedMatrixMultiplier(4, 4, 4, 2)));
+        referenceProcessor = new ArrayProcessorWithForLoops();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1, 1", "2, 3, 2", "33, 17, 21", "100, 40, 7"})
+    void matrixMultiplication_whenParallel_matchesForLoops(int rows, int inner, int columns) {
+        final Random random = new Random(rows * 31L + inner * 17L + columns);
+        final int[][] leftMatrix = randomMatrix(random, rows, inner);
+        final int[][] rightMatrix = randomMatrix(random, inner, columns);
+
+        assertThat(testProcessor.matrixMultiplication(leftMatrix, rightMatrix))
+            .isEqualTo(referenceProcessor.matrixMultiplication(leftMatrix, rightMatrix));
+        assertThat(testProcessor.matrixMultiplication(IntMatrix.of(leftMatrix), IntMatrix.of(rightMatrix)).toArray())
+            .isEqualTo(referenceProcessor.matrixMultiplication(leftMatrix, rightMatrix));
+    }
+
+    @Test
+    void matrixMultiplication_whenInvalidInput_throwSameExceptions() {
+        final int[][] raggedMatrix = {new int[3], new int[1], new int[3]};
+
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> testProcessor.matrixMultiplication(null, new int[1][1]));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> testProcessor.matrixMultiplication(new int[][]{null}, new int[1][1]));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> testProcessor.matrixMultiplication(new int[0][0], new int[0][0]));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> testProcessor.matrixMultiplication(raggedMatrix, new int[3][3]));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 0", "0, 40", "17, 16", "500, 3", "1000, 1000"})
+    void mergeSortedArrays_whenParallel_matchesForLoops(int length, int length2) {
+        final Random random = new Random(length * 31L + length2);
+        final int[] input = random.ints(length, -50, 50).sorted().toArray();
+        final int[] input2 = random.ints(length2, -50, 50).sorted().toArray();
+
+        assertThat(testProcessor.mergeSortedArrays(input, input2)).containsExactly(referenceProcessor.mergeSortedArrays(input, input2));
+    }
+
+    @Test
+    void mergeSortedArrays_whenUnsortedPastFirstSlice_throwException() {
+        final int[] input = IntStream.range(0, 200).toArray();
+        final int[] input2 = IntStream.range(0, 200).toArray();
+        input2[150] = -1;
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> testProcessor.mergeSortedArrays(input, input2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 17, 300, 4099})
+    void rearrangeAndFilter_whenParallel_matchesForLoops(int length) {
+        final int[] input = new Random(length).ints(length, -length, length).toArray();
+        final int[] expectedRearranged = referenceProcessor.rearrange(input);
+        final int[] expectedFiltered = referenceProcessor.filter(input);
+        final int[] output = new int[length];
+
+        assertThat(testProcessor.rearrange(input)).containsExactly(expectedRearranged);
+        testProcessor.rearrange(input, output);
+        assertThat(output).containsExactly(expectedRearranged);
+
+        assertThat(testProcessor.filter(input)).containsExactly(expectedFiltered);
+        assertThat(Arrays.copyOf(output, testProcessor.filterInto(input, output))).containsExactly(expectedFiltered);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 10, 1000, 9999})
+    void matches_whenParallel_findTheSameAnswer(int position) {
+        final int[] input = IntStream.range(0, 10_000).map(i -> 10 * i + 1).toArray();
+        final String[] numbers = IntStream.of(input).mapToObj(String::valueOf).toArray(String[]::new);
+        input[position] = 70;
+        numbers[position] = "70";
+
+        assertThat(testProcessor.noneMatch(input)).isFalse();
+        assertThat(testProcessor.someMatch(input, n -> n == 70)).isTrue();
+        assertThat(testProcessor.someMatch(input, n -> n == 72)).isFalse();
+        assertThat(testProcessor.allMatch(numbers, Integer::parseInt, n -> n % 10 == 1)).isFalse();
+        assertThat(testProcessor.allMatch(numbers, Integer::parseInt, n -> n > 0)).isTrue();
+    }
+
+    @Test
+    void allMatch_whenParallel_failOrThrowLikeSequentialScan() {
+        final String[] numbers = IntStream.range(0, 5_000).mapToObj(String::valueOf).toArray(String[]::new);
+        numbers[4_000] = "not a number";
+
+        numbers[100] = "-1";
+        assertThat(testProcessor.allMatch(numbers, Integer::parseInt, n -> n >= 0)).isFalse();
+
+        numbers[100] = "100";
+        numbers[4_500] = "-1";
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> testProcessor.allMatch(numbers, Integer::parseInt, n -> n >= 0));
+    }
+}
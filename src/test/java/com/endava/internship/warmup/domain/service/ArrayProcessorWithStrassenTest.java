@@ -0,0 +1,61 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static com.endava.internship.warmup.domain.service.MatrixFixtures.randomMatrix;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ArrayProcessorWithStrassenTest {
+
+    private ArrayProcessor testProcessor;
+    private ArrayProcessor referenceProcessor;
+
+    @BeforeEach
+    void setUp() {
+        testProcessor = new ArrayProcessorWithStrassen(new StrassenMatrixMultiplier(4, new BlockedMatrixMultiplier()));
+        referenceProcessor = new ArrayProcessorWithForLoops();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1, 1", "4, 4, 4", "16, 16, 16", "33, 33, 33", "10, 7, 13", "3, 40, 2"})
+    void matrixMultiplication_whenRecursive_matchesForLoopsIncludingOverflow(int rows, int inner, int columns) {
+        final Random random = new Random(rows * 31L + inner * 17L + columns);
+        final int[][] leftMatrix = randomMatrix(random, rows, inner);
+        final int[][] rightMatrix = randomMatrix(random, inner, columns);
+        final int[][] expected = referenceProcessor.matrixMultiplication(leftMatrix, rightMatrix);
+
+        assertThat(testProcessor.matrixMultiplication(leftMatrix, rightMatrix)).isEqualTo(expected);
+        assertThat(testProcessor.matrixMultiplication(IntMatrix.of(leftMatrix), IntMatrix.of(rightMatrix)).toArray()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 50000, 1", "1000, 1, 1000"})
+    void matrixMultiplication_whenSkinny_matchesForLoopsWithoutPadding(int rows, int inner, int columns) {
+        final Random random = new Random(rows * 31L + inner * 17L + columns);
+        final int[][] leftMatrix = randomMatrix(random, rows, inner);
+        final int[][] rightMatrix = randomMatrix(random, inner, columns);
+        final int[][] expected = referenceProcessor.matrixMultiplication(leftMatrix, rightMatrix);
+
+        assertThat(testProcessor.matrixMultiplication(leftMatrix, rightMatrix)).isEqualTo(expected);
+        assertThat(new ArrayProcessorWithStrassen().matrixMultiplication(leftMatrix, rightMatrix)).isEqualTo(expected);
+    }
+
+    @Test
+    void matrixMultiplication_whenDimensionsMismatch_throwException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> testProcessor.matrixMultiplication(new int[5][6], new int[5][6]));
+    }
+
+    @Test
+    void strassenMatrixMultiplier_whenCrossoverIsNotPositive_throwException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new StrassenMatrixMultiplier(0, new BlockedMatrixMultiplier()));
+    }
+}
@@ -0,0 +1,175 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class AsyncArrayProcessorTest {
+
+    private final ArrayProcessorWithForLoops reference = new ArrayProcessorWithForLoops();
+    private ExecutorService executor;
+    private AsyncArrayProcessor testProcessor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        testProcessor = new AsyncArrayProcessor(reference, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void methods_returnDelegateResults() throws Exception {
+        final int[] input = new Random(25).ints(1_000, -100, 100).toArray();
+        final IntMatrix matrix = IntMatrix.of(new int[][]{{1, 2}, {3, 4}});
+
+        assertAll(
+            () -> assertThat(testProcessor.distinct(input).get()).isEqualTo(reference.distinct(input)),
+            () -> assertThat(testProcessor.filter(new int[]{1, 2, 3}).get()).isEqualTo(reference.filter(new int[]{1, 2, 3})),
+            () -> assertThat(testProcessor.findSecondMax(input).get()).isEqualTo(reference.findSecondMax(input)),
+            () -> assertThat(testProcessor.matrixMultiplication(matrix, matrix).get()).isEqualTo(reference.matrixMultiplication(matrix, matrix)),
+            () -> assertThat(testProcessor.mergeSortedArrays(new int[]{1, 3}, new int[]{2}).get()).containsExactly(1, 2, 3),
+            () -> assertThat(testProcessor.validateForMatrixMultiplication(new int[][]{{1}}, new int[][]{{2}}).get()).isNull()
+        );
+    }
+
+    @Test
+    void findSecondMax_whenDelegateThrows_completeExceptionally() {
+        final CompletableFuture<Integer> result = testProcessor.findSecondMax(new int[]{1, 1});
+
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(result::get)
+            .withCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void distinct_whenManyTinyRequests_runInBatches() throws Exception {
+        final AtomicInteger tasks = new AtomicInteger();
+        final AsyncArrayProcessor batching = new AsyncArrayProcessor(reference, runnable -> {
+            tasks.incrementAndGet();
+            executor.execute(runnable);
+        }, 16, 64);
+        final List<CompletableFuture<int[]>> results = new ArrayList<>();
+        for (int i = 0; i < 1_000; ++i) {
+            results.add(batching.distinct(new int[]{i, i, i + 1}));
+        }
+
+        for (int i = 0; i < results.size(); ++i) {
+            assertThat(results.get(i).get()).containsExactly(i, i + 1);
+        }
+        assertThat(tasks.get()).isLessThan(results.size());
+    }
+
+    @Test
+    void withTimeout_whenDeadlinePasses_completeWithTimeout() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ArrayProcessorWithForLoops slow = new ArrayProcessorWithForLoops() {
+            @Override
+            public int[] distinct(int[] input) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.distinct(input);
+            }
+        };
+        final AsyncArrayProcessor timed = new AsyncArrayProcessor(slow, executor).withTimeout(20, TimeUnit.MILLISECONDS);
+
+        final CompletableFuture<int[]> result = timed.distinct(new int[]{1, 1});
+
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+            .withCauseInstanceOf(TimeoutException.class);
+        release.countDown();
+        assertThat(timed.filter(new int[]{1}).get(5, TimeUnit.SECONDS)).isEqualTo(reference.filter(new int[]{1}));
+    }
+
+    @Test
+    void submit_whenExecutorRejects_completeExceptionally() {
+        final ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        final AsyncArrayProcessor rejecting = new AsyncArrayProcessor(reference, closed);
+
+        assertAll(
+            () -> assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> rejecting.distinct(new int[]{1}).get())
+                .withCauseInstanceOf(RejectedExecutionException.class),
+            () -> assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> rejecting.distinct(new int[1_000]).get())
+                .withCauseInstanceOf(RejectedExecutionException.class)
+        );
+    }
+
+    @Test
+    void distinct_whenTinyRequestsSaturateBoundedPool_rejectOverflow() throws Exception {
+        final ExecutorService saturated = AsyncExecutors.newBoundedPool(1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        saturated.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final AsyncArrayProcessor bounded = new AsyncArrayProcessor(reference, saturated, 16, 4, 8);
+        final List<CompletableFuture<int[]>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 100; ++i) {
+                results.add(bounded.distinct(new int[]{i, i}));
+            }
+
+            assertThat(results.stream().filter(CompletableFuture::isCompletedExceptionally).count()).isEqualTo(92);
+            assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> results.get(99).get())
+                .withCauseInstanceOf(RejectedExecutionException.class);
+            release.countDown();
+            for (int i = 0; i < 8; ++i) {
+                assertThat(results.get(i).get(5, TimeUnit.SECONDS)).containsExactly(i);
+            }
+        } finally {
+            release.countDown();
+            saturated.shutdownNow();
+        }
+    }
+
+    @Test
+    void defaultExecutor_runsRequestsAndCloses() throws Exception {
+        try (AsyncArrayProcessor processor = new AsyncArrayProcessor(reference)) {
+            assertThat(processor.replace(new int[]{1, 2}).get()).isEqualTo(reference.replace(new int[]{1, 2}));
+        }
+    }
+
+    @Test
+    void newVirtualThreadExecutor_whenBeforeJdk21_returnNull() {
+        final ExecutorService virtualThreads = AsyncExecutors.newVirtualThreadExecutor();
+        try {
+            assertThat(virtualThreads == null).isEqualTo(AsyncExecutors.featureVersion() < 21);
+        } finally {
+            if (virtualThreads != null) {
+                virtualThreads.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.endava.internship.warmup.domain.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ExternalSortedMergerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void merge_whenWindowsAreSmallerThanFiles_matchesInMemoryMerge() throws IOException {
+        final Random random = new Random(3);
+        final int[] shard1 = random.ints(1000).sorted().toArray();
+        final int[] shard2 = {};
+        final int[] shard3 = random.ints(77, -5, 5).sorted().toArray();
+        final Path output = directory.resolve("merged.bin");
+
+        final long written = new ExternalSortedMerger(64, 32).merge(
+            Arrays.asList(write("a.bin", shard1), write("b.bin", shard2), write("c.bin", shard3)), output);
+
+        assertThat(written).isEqualTo(1077);
+        assertThat(read(output)).containsExactly(new ArrayProcessorWithForLoops().mergeSortedArrays(shard1, shard2, shard3));
+    }
+
+    @Test
+    void merge_whenInputUnsorted_reportFileAndOffsetAndDeleteOutput() throws IOException {
+        final Path sorted = write("sorted.bin", new int[]{1, 2, 3});
+        final Path unsorted = write("unsorted.bin", new int[]{1, 5, 4, 6});
+        final Path output = directory.resolve("merged.bin");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new ExternalSortedMerger().merge(Arrays.asList(sorted, unsorted), output))
+            .withMessageContaining("unsorted.bin")
+            .withMessageContaining("byte offset 8");
+        assertThat(output).doesNotExist();
+    }
+
+    @Test
+    void merge_whenLengthNotMultipleOfFour_throwException() throws IOException {
+        final Path truncated = Files.write(directory.resolve("truncated.bin"), new byte[]{1, 2, 3});
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new ExternalSortedMerger().merge(Arrays.asList(truncated), directory.resolve("merged.bin")))
+            .withMessageContaining("truncated.bin");
+    }
+
+    @Test
+    void merge_whenInputMissing_keepExistingOutput() throws IOException {
+        final Path first = write("first.bin", new int[]{1, 2});
+        final Path output = write("merged.bin", new int[]{7, 8, 9});
+
+        assertThatExceptionOfType(NoSuchFileException.class)
+            .isThrownBy(() -> new ExternalSortedMerger().merge(Arrays.asList(first, directory.resolve("missing.bin")), output));
+        assertThat(read(output)).containsExactly(7, 8, 9);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void merge_whenOutputIsAnInput_throwExceptionAndKeepInput() throws IOException {
+        final Path first = write("first.bin", new int[]{1, 3});
+        final Path second = write("second.bin", new int[]{2, 4});
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new ExternalSortedMerger().merge(Arrays.asList(first, second), directory.resolve("./second.bin")));
+        assertThat(read(second)).containsExactly(2, 4);
+    }
+
+    @Test
+    void merge_whenOutputExists_replaceIt() throws IOException {
+        final Path output = write("merged.bin", new int[]{7, 8, 9, 10, 11});
+
+        new ExternalSortedMerger().merge(Arrays.asList(write("first.bin", new int[]{1, 3}), write("second.bin", new int[]{2})), output);
+
+        assertThat(read(output)).containsExactly(1, 2, 3);
+    }
+
+    private Path write(String name, int[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(values);
+        return Files.write(directory.resolve(name), buffer.array());
+    }
+
+    private static int[] read(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        int[] values = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values);
+        return values;
+    }
+}
@@ -0,0 +1,213 @@
+package com.endava.internship.warmup.domain.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class IntChunkConsumerTest {
+
+    private ArrayProcessor referenceProcessor;
+    private ExecutorService executor;
+
+    @TempDir
+    Path spillDirectory;
+
+    @BeforeEach
+    void setUp() {
+        referenceProcessor = new ArrayProcessorWithForLoops();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 64})
+    void operators_whenChunked_matchWholeArray(int chunkSize) {
+        final int[] input = new Random(chunkSize).ints(500, -300, 300).toArray();
+        final Collecting replaced = new Collecting();
+        final Collecting distinct = new Collecting();
+        final StreamingReplace replace = new StreamingReplace(replaced);
+        final StreamingDistinctConsumer distinctConsumer =
+                new StreamingDistinctConsumer(new ExactStreamingDistinct(referenceProcessor, 16, spillDirectory), distinct);
+        final StreamingSecondMax secondMax = new StreamingSecondMax();
+
+        for (int[] chunk : chunks(input, chunkSize)) {
+            replace.accept(chunk);
+            distinctConsumer.accept(chunk);
+            secondMax.accept(chunk);
+        }
+        replace.complete();
+        distinctConsumer.complete();
+
+        assertAll(
+                () -> assertThat(replaced.toArray()).isEqualTo(referenceProcessor.replace(input)),
+                () -> assertThat(replaced.completed).isTrue(),
+                () -> assertThat(distinct.toArray()).isEqualTo(referenceProcessor.distinct(input)),
+                () -> assertThat(secondMax.getSecondMax()).isEqualTo(referenceProcessor.findSecondMax(input))
+        );
+    }
+
+    @Test
+    void someMatch_whenMatched_stopsAskingForChunks() {
+        final StreamingMatch someMatch = StreamingMatch.someMatch(referenceProcessor, value -> value > 5);
+        final StreamingMatch noneMatch = StreamingMatch.noneMatch(referenceProcessor);
+
+        assertAll(
+                () -> assertThat(someMatch.accept(new int[]{1, 2})).isTrue(),
+                () -> assertThat(someMatch.isDecided()).isFalse(),
+                () -> assertThat(someMatch.accept(new int[]{3, 6})).isFalse(),
+                () -> assertThat(someMatch.isDecided()).isTrue(),
+                () -> assertThat(someMatch.getResult()).isTrue(),
+                () -> assertThat(noneMatch.accept(new int[]{1, 2})).isTrue(),
+                () -> assertThat(noneMatch.getResult()).isTrue(),
+                () -> assertThat(noneMatch.accept(new int[]{20})).isFalse(),
+                () -> assertThat(noneMatch.getResult()).isFalse()
+        );
+    }
+
+    @Test
+    void getSecondMax_whenOneDistinctValue_throwException() {
+        final StreamingSecondMax secondMax = new StreamingSecondMax();
+        secondMax.accept(new int[]{4, 4});
+
+        assertThat(secondMax.hasSecondMax()).isFalse();
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(secondMax::getSecondMax);
+    }
+
+    @Test
+    void accept_whenBufferFull_blocksProducerUntilDrained() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Collecting collecting = new Collecting();
+        final BoundedChunkBuffer buffer = new BoundedChunkBuffer(chunk -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return collecting.accept(chunk);
+        }, executor, 4);
+        final AtomicInteger accepted = new AtomicInteger();
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10; ++i) {
+                buffer.accept(new int[]{i, i});
+                accepted.incrementAndGet();
+            }
+            buffer.complete();
+        });
+
+        producer.start();
+        Thread.sleep(200);
+        assertThat(accepted.get()).isLessThanOrEqualTo(3);
+        assertThat(buffer.getBufferedValues()).isLessThanOrEqualTo(4);
+
+        release.countDown();
+        buffer.completion().get(5, TimeUnit.SECONDS);
+        producer.join(5_000);
+
+        assertThat(collecting.toArray()).isEqualTo(new int[]{0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9});
+    }
+
+    @Test
+    void accept_whenDownstreamDone_returnFalseAndSkipCompletion() throws Exception {
+        final StreamingMatch match = StreamingMatch.someMatch(referenceProcessor, value -> value == 3);
+        final BoundedChunkBuffer buffer = new BoundedChunkBuffer(match, executor, 100);
+
+        buffer.accept(new int[]{1, 2, 3});
+        buffer.completion().get(5, TimeUnit.SECONDS);
+
+        assertThat(buffer.accept(new int[]{4})).isFalse();
+        assertThat(match.getResult()).isTrue();
+        buffer.complete();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> buffer.accept(new int[]{5}));
+    }
+
+    @Test
+    void accept_whenExecutorRejects_dropChunkAndFailCompletion() {
+        final ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        final BoundedChunkBuffer buffer = new BoundedChunkBuffer(new Collecting(), closed, 100);
+
+        assertAll(
+                () -> assertThat(buffer.accept(new int[]{1, 2, 3})).isFalse(),
+                () -> assertThat(buffer.getBufferedValues()).isZero(),
+                () -> assertThat(buffer.accept(new int[]{4})).isFalse(),
+                () -> assertThatExceptionOfType(ExecutionException.class)
+                        .isThrownBy(() -> buffer.completion().get(5, TimeUnit.SECONDS))
+                        .withCauseInstanceOf(RejectedExecutionException.class)
+        );
+    }
+
+    @Test
+    void accept_whenDownstreamStopsEarly_deleteSpillFiles() throws Exception {
+        final StreamingMatch match = StreamingMatch.someMatch(referenceProcessor, value -> value == 999);
+        final BoundedChunkBuffer buffer = new BoundedChunkBuffer(
+                new StreamingDistinctConsumer(new ExactStreamingDistinct(referenceProcessor, 16, spillDirectory), match),
+                executor, 64);
+
+        for (int[] chunk : chunks(IntStream.range(0, 1000).toArray(), 10)) {
+            buffer.accept(chunk);
+        }
+        buffer.complete();
+        buffer.completion().get(5, TimeUnit.SECONDS);
+
+        assertThat(match.getResult()).isTrue();
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static List<int[]> chunks(int[] input, int chunkSize) {
+        final List<int[]> chunks = new ArrayList<>();
+        for (int from = 0; from < input.length; from += chunkSize) {
+            chunks.add(Arrays.copyOfRange(input, from, Math.min(input.length, from + chunkSize)));
+        }
+        return chunks;
+    }
+
+    private static final class Collecting implements IntChunkConsumer {
+
+        private final List<int[]> chunks = new ArrayList<>();
+        private volatile boolean completed;
+
+        @Override
+        public synchronized boolean accept(int[] chunk) {
+            chunks.add(chunk);
+            return true;
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        synchronized int[] toArray() {
+            return chunks.stream().flatMapToInt(Arrays::stream).toArray();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.endava.internship.warmup.domain.service;
+
+import java.util.Random;
+
+/**
+ * Matrices shared by the matrix multiplication tests.
+ */
+final class MatrixFixtures {
+
+    private MatrixFixtures() {
+    }
+
+    /**
+     * Return a rows x columns matrix of uniformly random ints, so that products overflow
+     */
+    static int[][] randomMatrix(Random random, int rows, int columns) {
+        int[][] matrix = new int[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                matrix[i][j] = random.nextInt();
+            }
+        }
+        return matrix;
+    }
+}
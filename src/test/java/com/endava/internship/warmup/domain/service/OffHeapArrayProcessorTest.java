@@ -0,0 +1,186 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.util.IntBufferArena;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OffHeapArrayProcessorTest {
+
+    private OffHeapArrayProcessor testProcessor;
+    private ArrayProcessor referenceProcessor;
+    private IntBufferArena arena;
+
+    @BeforeEach
+    void setUp() {
+        testProcessor = new OffHeapArrayProcessor();
+        referenceProcessor = new ArrayProcessorWithForLoops();
+        arena = new IntBufferArena();
+    }
+
+    @AfterEach
+    void tearDown() {
+        arena.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 11, 100, 5_000})
+    void operations_whenDirectBuffers_matchForLoops(int length) {
+        final Random random = new Random(length);
+        final int[] input = random.ints(length, -length - 20, length + 20).toArray();
+        final int[] sorted = input.clone();
+        Arrays.sort(sorted);
+        final int[] sorted2 = random.ints(length / 2, -length - 20, length + 20).sorted().toArray();
+
+        assertAll(
+                () -> assertThat(toArray(testProcessor.replace(direct(input), arena)))
+                        .isEqualTo(referenceProcessor.replace(input)),
+                () -> assertThat(toArray(testProcessor.filter(direct(input), arena)))
+                        .isEqualTo(referenceProcessor.filter(input)),
+                () -> assertThat(toArray(testProcessor.distinct(direct(input), arena)))
+                        .isEqualTo(referenceProcessor.distinct(input)),
+                () -> assertThat(toArray(testProcessor.mergeSortedArrays(direct(sorted), direct(sorted2), arena)))
+                        .isEqualTo(referenceProcessor.mergeSortedArrays(sorted, sorted2))
+        );
+    }
+
+    @Test
+    void replace_whenPositioned_readsFromPositionWithoutMovingIt() {
+        final IntBuffer input = direct(new int[]{9, 9, 1, 2, 3, 9});
+        input.position(2).limit(5);
+
+        assertThat(toArray(testProcessor.replace(input, arena))).containsExactly(2, -2, 6);
+        assertThat(input.position()).isEqualTo(2);
+        assertThat(input.limit()).isEqualTo(5);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1, 1", "4, 4, 4", "10, 7, 13", "3, 40, 2"})
+    void matrixMultiplication_whenRowMajor_matchesForLoopsIncludingOverflow(int rows, int inner, int columns) {
+        final Random random = new Random(rows * 31L + inner * 17L + columns);
+        final int[][] leftMatrix = new int[rows][];
+        final int[][] rightMatrix = new int[inner][];
+        Arrays.setAll(leftMatrix, i -> random.ints(inner).toArray());
+        Arrays.setAll(rightMatrix, i -> random.ints(columns).toArray());
+
+        final IntBuffer result = testProcessor.matrixMultiplication(direct(flatten(leftMatrix)), rows, inner,
+                direct(flatten(rightMatrix)), columns, arena);
+
+        assertThat(toArray(result)).isEqualTo(flatten(referenceProcessor.matrixMultiplication(leftMatrix, rightMatrix)));
+    }
+
+    @Test
+    void matrixMultiplication_whenDimensionsMismatch_throwException() {
+        assertAll(
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> testProcessor.matrixMultiplication(direct(new int[6]), 2, 3, direct(new int[6]), 3, arena)),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> testProcessor.matrixMultiplication(direct(new int[0]), 0, 3, direct(new int[6]), 2, arena)),
+                () -> assertThatExceptionOfType(NullPointerException.class)
+                        .isThrownBy(() -> testProcessor.matrixMultiplication(null, 2, 3, direct(new int[6]), 2, arena))
+        );
+    }
+
+    @Test
+    void mergeSortedArrays_whenNotSorted_throwException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> testProcessor.mergeSortedArrays(direct(new int[]{2, 1}), direct(new int[]{1}), arena));
+    }
+
+    @Test
+    void close_whenClosed_releasesMemoryAndRejectsAllocations() {
+        final IntBufferArena closed = new IntBufferArena();
+        final IntBuffer buffer = closed.allocate(1000);
+
+        assertThat(buffer.isDirect()).isTrue();
+        assertThat(closed.getAllocatedBytes()).isEqualTo(4000);
+
+        closed.close();
+        closed.close();
+
+        assertThat(closed.isOpen()).isFalse();
+        assertThat(closed.getAllocatedBytes()).isZero();
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> closed.allocate(1));
+    }
+
+    @Test
+    void close_whenBufferStillReferenced_keepItReadable() {
+        final IntBufferArena closed = new IntBufferArena();
+        final IntBuffer buffer = closed.allocate(1000);
+        buffer.put(999, 42);
+
+        closed.close();
+        buffer.put(0, 7);
+
+        assertAll(
+                () -> assertThat(buffer.get(999)).isEqualTo(42),
+                () -> assertThat(buffer.get(0)).isEqualTo(7)
+        );
+    }
+
+    @Test
+    void close_whenEagerArena_releasesMemoryAndRejectsAllocations() {
+        final IntBufferArena eager = IntBufferArena.unsafeEagerRelease();
+        eager.allocate(1000);
+
+        eager.close();
+
+        assertAll(
+                () -> assertThat(eager.isOpen()).isFalse(),
+                () -> assertThat(eager.getAllocatedBytes()).isZero(),
+                () -> assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> eager.allocate(1))
+        );
+    }
+
+    @Test
+    void close_whenEagerArenaHoldsResults_freesDirectMemory() {
+        final BufferPoolMXBean directPool = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> "direct".equals(pool.getName()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        final IntBuffer input = direct(new Random(18).ints(1 << 20).toArray());
+        final IntBufferArena eager = IntBufferArena.unsafeEagerRelease();
+        testProcessor.replace(input, eager);
+        testProcessor.distinct(input, eager);
+
+        final long held = eager.getAllocatedBytes();
+        final long usedBeforeClose = directPool.getMemoryUsed();
+        eager.close();
+
+        assertAll(
+                () -> assertThat(held).isGreaterThan((long) Integer.BYTES * (1 << 20)),
+                () -> assertThat(eager.getAllocatedBytes()).isZero(),
+                () -> assertThat(usedBeforeClose - directPool.getMemoryUsed()).isGreaterThanOrEqualTo(held),
+                () -> assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> eager.allocate(1))
+        );
+    }
+
+    private IntBuffer direct(int[] values) {
+        final IntBuffer buffer = arena.allocate(values.length);
+        buffer.put(values).clear();
+        return buffer;
+    }
+
+    private static int[] toArray(IntBuffer buffer) {
+        final int[] values = new int[buffer.remaining()];
+        buffer.duplicate().get(values);
+        return values;
+    }
+
+    private static int[] flatten(int[][] matrix) {
+        return Arrays.stream(matrix).flatMapToInt(Arrays::stream).toArray();
+    }
+}
@@ -0,0 +1,109 @@
+package com.endava.internship.warmup.domain.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingDistinctTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void exact_whenSpillingAndCompacting_matchesInMemoryDistinct() throws IOException {
+        final ArrayProcessor processor = new ArrayProcessorWithForLoops();
+        final Random random = new Random(7);
+        final int[] sequence = random.ints(20_000, -3_000, 3_000).toArray();
+        final int[] emitted = new int[sequence.length];
+        int count = 0;
+
+        try (StreamingDistinct distinct = new ExactStreamingDistinct(processor, 100, 3, spillDirectory)) {
+            for (int from = 0; from < sequence.length; from += 250) {
+                int[] chunk = Arrays.copyOfRange(sequence, from, from + 250);
+                for (int value : distinct.accept(chunk)) {
+                    emitted[count++] = value;
+                }
+            }
+
+            assertThat(distinct.cardinality()).isEqualTo(count);
+            assertThat(listFiles()).isNotEmpty();
+        }
+
+        assertThat(Arrays.copyOf(emitted, count)).containsExactly(processor.distinct(sequence));
+        assertThat(listFiles()).isEmpty();
+    }
+
+    @Test
+    void exact_whenManyValuesSpilled_emitOnlyValuesNotInRuns() throws IOException {
+        final Random random = new Random(7);
+        try (StreamingDistinct distinct = new ExactStreamingDistinct(new ArrayProcessorWithForLoops(), 20_000, 2, spillDirectory)) {
+            for (int from = 0; from < 200_000; from += 1_000) {
+                distinct.accept(IntStream.range(from, from + 1_000).map(value -> value * 2).toArray());
+            }
+            assertThat(listFiles()).isNotEmpty();
+
+            for (int round = 0; round < 10; ++round) {
+                final int[] chunk = random.ints(8, 0, 400_000).distinct().toArray();
+
+                final int[] emitted = distinct.accept(chunk);
+
+                assertThat(emitted).containsExactly(IntStream.of(chunk).filter(value -> value % 2 != 0).toArray());
+            }
+        }
+    }
+
+    @Test
+    void exact_whenSpillingOften_keepLogarithmicRunCount() throws IOException {
+        try (StreamingDistinct distinct = new ExactStreamingDistinct(new ArrayProcessorWithForLoops(), 10, 1, spillDirectory)) {
+            for (int from = 0; from < 10 * 1_024; from += 10) {
+                distinct.accept(IntStream.range(from, from + 10).toArray());
+            }
+
+            assertThat(distinct.cardinality()).isEqualTo(10 * 1_024);
+            assertThat(listFiles()).hasSize(1);
+            distinct.accept(IntStream.range(0, 10 * 1_024 + 10).toArray());
+            assertThat(listFiles()).hasSize(2);
+        }
+        assertThat(listFiles()).isEmpty();
+    }
+
+    @Test
+    void exact_whenWithinBudget_neverSpills() throws IOException {
+        try (StreamingDistinct distinct = new ExactStreamingDistinct(new ArrayProcessorWithForLoops(), 1_000, spillDirectory)) {
+            assertThat(distinct.accept(new int[]{3, 1, 3, 2})).containsExactly(3, 1, 2);
+            assertThat(distinct.accept(new int[]{2, 4, 1})).containsExactly(4);
+            assertThat(distinct.cardinality()).isEqualTo(4);
+            assertThat(listFiles()).isEmpty();
+        }
+    }
+
+    @Test
+    void approximate_estimatesCardinalityAndNeverRepeatsValues() {
+        try (StreamingDistinct distinct = new ApproximateStreamingDistinct(200_000, 0.01)) {
+            int emitted = 0;
+            for (int round = 0; round < 2; ++round) {
+                for (int from = 0; from < 200_000; from += 10_000) {
+                    emitted += distinct.accept(IntStream.range(from, from + 10_000).toArray()).length;
+                }
+            }
+
+            assertThat(emitted).isBetween(196_000, 200_000);
+            assertThat(distinct.cardinality()).isBetween(194_000L, 206_000L);
+        }
+    }
+
+    private Object[] listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.toArray();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.endava.internship.warmup.domain.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntHashSetTest {
+
+    @Test
+    void add_whenValueRepeats_returnFalse() {
+        final IntHashSet set = new IntHashSet();
+
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.add(-7)).isTrue();
+        assertThat(set.add(-7)).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.toArray()).containsOnly(0, -7);
+    }
+
+    @Test
+    void add_whenGrowingPastCapacity_keepsEveryValue() {
+        final IntHashSet set = new IntHashSet(0);
+        final Set<Integer> expected = new HashSet<>();
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; ++i) {
+            int value = random.nextInt(20_000) - 10_000;
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (int value = -10_001; value <= 10_001; ++value) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+
+    @Test
+    void add_whenTableReachesMaximumCapacity_switchesToBitmap() {
+        final IntHashSet set = new IntHashSet(0, 16);
+        final Set<Integer> expected = new HashSet<>();
+        final Random random = new Random(6);
+        set.add(0);
+        expected.add(0);
+
+        for (int i = 0; i < 20_000; ++i) {
+            int value = random.nextInt();
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+        assertThat(set.add(Integer.MIN_VALUE)).isEqualTo(expected.add(Integer.MIN_VALUE));
+        assertThat(set.add(Integer.MAX_VALUE)).isEqualTo(expected.add(Integer.MAX_VALUE));
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(set.toArray()).hasSize(expected.size()).containsOnly(expected.stream().mapToInt(Integer::intValue).toArray());
+        for (int value : expected) {
+            assertThat(set.contains(value)).isTrue();
+            assertThat(set.contains(value + 1)).isEqualTo(expected.contains(value + 1));
+        }
+
+        set.clear();
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(Integer.MAX_VALUE)).isFalse();
+        assertThat(set.add(Integer.MAX_VALUE)).isTrue();
+        assertThat(set.toArray()).containsExactly(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void clear_removesAllValues() {
+        final IntHashSet set = new IntHashSet();
+        set.add(0);
+        set.add(5);
+
+        set.clear();
+
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains(5)).isFalse();
+    }
+}
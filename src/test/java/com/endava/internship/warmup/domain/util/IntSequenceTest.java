@@ -0,0 +1,98 @@
+package com.endava.internship.warmup.domain.util;
+
+import com.endava.internship.warmup.domain.service.ArrayProcessorWithForLoops;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class IntSequenceTest {
+
+    private final ArrayProcessorWithForLoops processor = new ArrayProcessorWithForLoops();
+
+    private static Function<int[], IntSequence> factory(String kind) {
+        switch (kind) {
+            case "gap":
+                return IntGapBuffer::new;
+            case "chunked":
+                return initial -> new IntChunkedSequence(initial, 8);
+            default:
+                throw new IllegalArgumentException(kind);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gap", "chunked"})
+    void insertValues_whenRepeated_matchesProcessor(String kind) {
+        final Random random = new Random(7);
+        int[] expected = random.ints(5, -100, 100).toArray();
+        final IntSequence sequence = factory(kind).apply(expected);
+
+        for (int i = 0; i < 2_000; ++i) {
+            final int[] values = random.ints(random.nextInt(20), -100, 100).toArray();
+            final int start = i % 3 == 0 ? random.nextInt(expected.length) : Math.min(i % 40, expected.length - 1);
+            expected = processor.insertValues(expected, start, values);
+            sequence.insertValues(start, values);
+        }
+
+        assertThat(sequence.size()).isEqualTo(expected.length);
+        assertThat(sequence.toArray()).isEqualTo(expected);
+        for (int i = 0; i < expected.length; i += 97) {
+            assertThat(sequence.get(i)).isEqualTo(expected[i]);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gap", "chunked"})
+    void append_whenEmpty_growsSequence(String kind) {
+        final IntSequence sequence = factory(kind).apply(new int[0]);
+
+        sequence.append(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        sequence.insertValues(0, new int[]{0});
+        sequence.append(new int[]{10});
+
+        assertThat(sequence.toArray()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gap", "chunked"})
+    void insertValues_whenStartOutOfBounds_throwIllegalArgumentException(String kind) {
+        final IntSequence sequence = factory(kind).apply(new int[]{1, 2, 3});
+
+        assertAll(
+                () -> assertThatThrownBy(() -> sequence.insertValues(-1, new int[]{4}))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> sequence.insertValues(3, new int[]{4}))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> factory(kind).apply(new int[0]).insertValues(0, new int[]{4}))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> sequence.get(3))
+                        .isInstanceOf(IndexOutOfBoundsException.class)
+        );
+        assertThat(sequence.toArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void insertValues_whenManySingleValues_keepChunksAtLeastHalfFull() {
+        final IntChunkedSequence sequence = new IntChunkedSequence(new int[1024], 1024);
+        final int[] expected = new int[11_024];
+
+        for (int i = 0; i < 10_000; ++i) {
+            sequence.insertValues(1 + i, new int[]{i + 1});
+            expected[1 + i] = i + 1;
+        }
+
+        assertThat(sequence.size()).isEqualTo(expected.length);
+        assertThat(sequence.getChunkCount()).isLessThanOrEqualTo(2 * expected.length / 1024 + 1);
+        assertThat(sequence.toArray()).isEqualTo(expected);
+        for (int i = 0; i < expected.length; i += 101) {
+            assertThat(sequence.get(i)).isEqualTo(expected[i]);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.endava.internship.warmup.benchmark;
+
+import com.endava.internship.warmup.domain.model.IntSlice;
+import com.endava.internship.warmup.domain.model.IntSource;
+import com.endava.internship.warmup.domain.service.ArrayProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+/**
+ * Every one-dimensional {@link ArrayProcessor} operation on random input, for each implementation with its own array
+ * code and each input size. BlockedMatrices and Strassen inherit the array operations of ForLoops, so they are
+ * left out; the operations whose cost depends on the input shape are in {@link ArrayDistributionBenchmarks}.
+ * Narrow a run with e.g. "-p implementation=ForLoops -p size=100000 ArrayBenchmarks.filter".
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayBenchmarks {
+
+    private static final int INSERTED_VALUES = 16;
+    private static final int TOP_K = 16;
+
+    /** Never produced by {@link Distribution}, so predicates testing for it scan the whole input */
+    private static final IntPredicate NEVER = value -> value == Integer.MIN_VALUE;
+    private static final IntPredicate ALWAYS = value -> value != Integer.MIN_VALUE;
+
+    @Param({"ForLoops", "ForkJoin", "AdaptiveArrayProcessor"})
+    public String implementation;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ArrayProcessor processor;
+    private int[] input;
+    private int[] sortedHalf;
+    private int[] sortedOtherHalf;
+    private int[] values;
+    private int[] output;
+    private String[] strings;
+    private String text;
+    private IntSlice slice;
+    private IntSlice valuesSlice;
+    private IntSlice sortedHalfSlice;
+    private IntSlice sortedOtherHalfSlice;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Distribution distribution = Distribution.RANDOM;
+        final Random random = new Random(size * 31L + distribution.ordinal());
+        processor = Implementations.create(implementation);
+        input = distribution.generate(random, size);
+        final int[] sorted = input.clone();
+        Arrays.sort(sorted);
+        sortedHalf = Arrays.copyOfRange(sorted, 0, size / 2);
+        sortedOtherHalf = distribution.generate(random, size - size / 2);
+        Arrays.sort(sortedOtherHalf);
+        values = distribution.generate(random, INSERTED_VALUES);
+        output = new int[size];
+        strings = Arrays.stream(input).mapToObj(Integer::toString).toArray(String[]::new);
+        text = String.join(",", strings);
+
+        // offset views so that slice overloads cannot take the whole-array shortcut
+        slice = IntSlice.of(input, 1, size - 1);
+        valuesSlice = IntSlice.of(values);
+        sortedHalfSlice = IntSlice.of(sortedHalf);
+        sortedOtherHalfSlice = IntSlice.of(sortedOtherHalf);
+    }
+
+    @Benchmark
+    public boolean noneMatch() {
+        return processor.noneMatch(input);
+    }
+
+    @Benchmark
+    public boolean someMatch() {
+        return processor.someMatch(input, NEVER);
+    }
+
+    @Benchmark
+    public boolean allMatchStrings() {
+        return processor.allMatch(strings, Integer::parseInt, ALWAYS);
+    }
+
+    @Benchmark
+    public boolean allMatchSource() {
+        return processor.allMatch(IntSource.of(text, ','), ALWAYS);
+    }
+
+    @Benchmark
+    public int[] copyValues() {
+        return processor.copyValues(input, size / 4, size - size / 4);
+    }
+
+    @Benchmark
+    public int[] replace() {
+        return processor.replace(input);
+    }
+
+    @Benchmark
+    public int findSecondMax() {
+        try {
+            return processor.findSecondMax(input);
+        } catch (IllegalArgumentException e) {
+            return Integer.MIN_VALUE;
+        }
+    }
+
+    @Benchmark
+    public int[] topK() {
+        return processor.topK(input, TOP_K);
+    }
+
+    @Benchmark
+    public int kthLargest() {
+        return processor.kthLargest(input, size / 2 + 1);
+    }
+
+    @Benchmark
+    public int[] filter() {
+        return processor.filter(input);
+    }
+
+    @Benchmark
+    public int filterInto() {
+        return processor.filterInto(input, output);
+    }
+
+    @Benchmark
+    public int[] insertValues() {
+        return processor.insertValues(input, size / 2, values);
+    }
+
+    @Benchmark
+    public boolean noneMatchSlice() {
+        return processor.noneMatch(slice);
+    }
+
+    @Benchmark
+    public boolean someMatchSlice() {
+        return processor.someMatch(slice, NEVER);
+    }
+
+    @Benchmark
+    public IntSlice copyValuesSlice() {
+        return processor.copyValues(slice, size / 4, size / 2);
+    }
+
+    @Benchmark
+    public int[] replaceSlice() {
+        return processor.replace(slice);
+    }
+
+    @Benchmark
+    public int findSecondMaxSlice() {
+        try {
+            return processor.findSecondMax(slice);
+        } catch (IllegalArgumentException e) {
+            return Integer.MIN_VALUE;
+        }
+    }
+
+    @Benchmark
+    public int[] rearrangeSlice() {
+        return processor.rearrange(slice);
+    }
+
+    @Benchmark
+    public int[] filterSlice() {
+        return processor.filter(slice);
+    }
+
+    @Benchmark
+    public int[] insertValuesSlice() {
+        return processor.insertValues(slice, size / 2, valuesSlice);
+    }
+
+    @Benchmark
+    public int[] mergeSortedArraysSlice() {
+        return processor.mergeSortedArrays(sortedHalfSlice, sortedOtherHalfSlice);
+    }
+
+    @Benchmark
+    public int[] distinctSlice() {
+        return processor.distinct(slice);
+    }
+}
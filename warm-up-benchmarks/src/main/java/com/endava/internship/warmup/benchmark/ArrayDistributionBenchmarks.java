@@ -0,0 +1,94 @@
+package com.endava.internship.warmup.benchmark;
+
+import com.endava.internship.warmup.domain.service.ArrayProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The one-dimensional {@link ArrayProcessor} operations whose cost depends on the shape of the input: distinct,
+ * rearrange and merging sorted arrays, for each implementation, input size and distribution.
+ * Narrow a run with e.g. "-p distribution=SORTED ArrayDistributionBenchmarks.distinct".
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayDistributionBenchmarks {
+
+    private static final int MERGED_RUNS = 4;
+
+    @Param({"ForLoops", "ForkJoin", "AdaptiveArrayProcessor"})
+    public String implementation;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"SORTED", "RANDOM", "ALL_DUPLICATES", "NEGATIVE_HEAVY"})
+    public Distribution distribution;
+
+    private ArrayProcessor processor;
+    private int[] input;
+    private int[] sortedHalf;
+    private int[] sortedOtherHalf;
+    private int[][] sortedRuns;
+    private int[] output;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(size * 31L + distribution.ordinal());
+        processor = Implementations.create(implementation);
+        input = distribution.generate(random, size);
+        final int[] sorted = input.clone();
+        Arrays.sort(sorted);
+        sortedHalf = Arrays.copyOfRange(sorted, 0, size / 2);
+        sortedOtherHalf = distribution.generate(random, size - size / 2);
+        Arrays.sort(sortedOtherHalf);
+        sortedRuns = new int[MERGED_RUNS][];
+        for (int i = 0; i < MERGED_RUNS; ++i) {
+            sortedRuns[i] = Arrays.copyOfRange(sorted, i * size / MERGED_RUNS, (i + 1) * size / MERGED_RUNS);
+        }
+        output = new int[size];
+    }
+
+    @Benchmark
+    public int[] distinct() {
+        return processor.distinct(input);
+    }
+
+    @Benchmark
+    public int[] rearrange() {
+        return processor.rearrange(input);
+    }
+
+    @Benchmark
+    public int[] rearrangeInto() {
+        processor.rearrange(input, output);
+        return output;
+    }
+
+    @Benchmark
+    public int[] mergeSortedArrays() {
+        return processor.mergeSortedArrays(sortedHalf, sortedOtherHalf);
+    }
+
+    @Benchmark
+    public int[] mergeSortedArraysMany() {
+        return processor.mergeSortedArrays(sortedRuns);
+    }
+}
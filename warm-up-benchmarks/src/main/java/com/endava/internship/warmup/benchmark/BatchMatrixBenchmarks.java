@@ -0,0 +1,76 @@
+package com.endava.internship.warmup.benchmark;
+
+import com.endava.internship.warmup.domain.model.IntMatrixBatch;
+import com.endava.internship.warmup.domain.service.ArrayProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many small square matrices multiplied one int[][] call at a time against a single packed batch call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchMatrixBenchmarks {
+
+    @Param({"ForLoops", "AdaptiveArrayProcessor"})
+    public String implementation;
+
+    @Param({"2", "4", "8", "16", "32"})
+    public int size;
+
+    @Param({"1024"})
+    public int count;
+
+    private ArrayProcessor processor;
+    private int[][][] left;
+    private int[][][] right;
+    private IntMatrixBatch leftMatrices;
+    private IntMatrixBatch rightMatrices;
+    private IntMatrixBatch output;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(size * 31L + count);
+        processor = Implementations.create(implementation);
+        leftMatrices = IntMatrixBatch.wrap(random.ints(count * size * size, -100, 100).toArray(), count, size, size);
+        rightMatrices = IntMatrixBatch.wrap(random.ints(count * size * size, -100, 100).toArray(), count, size, size);
+        output = IntMatrixBatch.zeros(count, size, size);
+        left = new int[count][][];
+        right = new int[count][][];
+        for (int b = 0; b < count; ++b) {
+            left[b] = leftMatrices.get(b).toArray();
+            right[b] = rightMatrices.get(b).toArray();
+        }
+    }
+
+    @Benchmark
+    public void matrixMultiplicationEach(Blackhole blackhole) {
+        for (int b = 0; b < count; ++b) {
+            blackhole.consume(processor.matrixMultiplication(left[b], right[b]));
+        }
+    }
+
+    @Benchmark
+    public int[] matrixMultiplicationBatch() {
+        processor.matrixMultiplication(leftMatrices, rightMatrices, output);
+        return output.getData();
+    }
+}
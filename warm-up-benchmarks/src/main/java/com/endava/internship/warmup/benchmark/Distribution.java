@@ -0,0 +1,47 @@
+package com.endava.internship.warmup.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Shapes of generated benchmark inputs. Values stay in [-size, size] so that no generated value equals
+ * Integer.MIN_VALUE or size + 1, which the benchmarks use as values that never match.
+ */
+public enum Distribution {
+
+    SORTED {
+        @Override
+        int[] generate(Random random, int size) {
+            final int[] values = RANDOM.generate(random, size);
+            Arrays.sort(values);
+            return values;
+        }
+    },
+    RANDOM {
+        @Override
+        int[] generate(Random random, int size) {
+            return random.ints(size, -size, size + 1).toArray();
+        }
+    },
+    ALL_DUPLICATES {
+        @Override
+        int[] generate(Random random, int size) {
+            final int[] values = new int[size];
+            Arrays.fill(values, 7);
+            return values;
+        }
+    },
+    NEGATIVE_HEAVY {
+        /** Nine of ten values are negative */
+        @Override
+        int[] generate(Random random, int size) {
+            final int[] values = new int[size];
+            for (int i = 0; i < size; ++i) {
+                values[i] = random.nextInt(10) == 0 ? random.nextInt(size + 1) : -1 - random.nextInt(size);
+            }
+            return values;
+        }
+    };
+
+    abstract int[] generate(Random random, int size);
+}
@@ -0,0 +1,31 @@
+package com.endava.internship.warmup.benchmark;
+
+import com.endava.internship.warmup.domain.service.ArrayProcessor;
+
+/**
+ * Create an {@link ArrayProcessor} from the short name used in the "implementation" benchmark parameter.
+ * Classes are loaded by name so that implementations from optional modules only need to be on the classpath
+ * when they are benchmarked.
+ */
+final class Implementations {
+
+    static final String PACKAGE = "com.endava.internship.warmup.domain.service.";
+
+    private Implementations() {
+    }
+
+    /**
+     * @param name simple class name without the "ArrayProcessorWith" prefix, e.g. "ForLoops",
+     *             or the whole simple class name of other implementations, e.g. "AdaptiveArrayProcessor"
+     * @throws IllegalArgumentException when no such implementation is on the classpath
+     */
+    static ArrayProcessor create(String name) throws IllegalArgumentException {
+        final String className = PACKAGE + (name.endsWith("ArrayProcessor") ? name : "ArrayProcessorWith" + name);
+        try {
+            return (ArrayProcessor) Class.forName(className).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalArgumentException("Cannot create " + className
+                    + "; ArrayProcessorWithVectors needs -Pvector and -jvmArgsAppend --add-modules=jdk.incubator.vector", e);
+        }
+    }
+}
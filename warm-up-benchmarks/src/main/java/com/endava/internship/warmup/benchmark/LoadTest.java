@@ -0,0 +1,140 @@
+package com.endava.internship.warmup.benchmark;
+
+import com.endava.internship.warmup.domain.metrics.HistogramSnapshot;
+import com.endava.internship.warmup.domain.metrics.LogLinearHistogram;
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.service.ArrayProcessor;
+import com.endava.internship.warmup.domain.service.AsyncArrayProcessor;
+import com.endava.internship.warmup.domain.service.AsyncExecutors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load test of {@link AsyncArrayProcessor}: keeps concurrency requests in flight, a mix of small
+ * distinct, filter, findSecondMax and 4x4 matrix calls, and prints throughput, rejections and latency percentiles.
+ * <p>
+ * Run with {@code java -cp target/benchmarks.jar com.endava.internship.warmup.benchmark.LoadTest [key=value...]},
+ * keys being requests, concurrency, size, executor (default, virtual or pool), threads, timeoutMillis, batch
+ * (the tiny request size, 0 disables batching), maxPending (the tiny request queue bound, by default at least
+ * concurrency so the facade never rejects the default load) and implementation.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        final Map<String, String> options = parse(args);
+        final int requests = Integer.parseInt(options.getOrDefault("requests", "200000"));
+        final int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "10000"));
+        final int size = Integer.parseInt(options.getOrDefault("size", "64"));
+        final String executorName = options.getOrDefault("executor", "default");
+        final int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        final long timeoutMillis = Long.parseLong(options.getOrDefault("timeoutMillis", "0"));
+        final int batch = Integer.parseInt(options.getOrDefault("batch", String.valueOf(AsyncArrayProcessor.DEFAULT_TINY_REQUEST_SIZE)));
+        final int maxPending = Integer.parseInt(options.getOrDefault("maxPending",
+                String.valueOf(Math.max(concurrency, AsyncArrayProcessor.DEFAULT_MAX_PENDING_REQUESTS))));
+        final ArrayProcessor processor = Implementations.create(options.getOrDefault("implementation", "ForLoops"));
+
+        final ExecutorService executor = executor(executorName, threads, concurrency);
+        final AsyncArrayProcessor base = new AsyncArrayProcessor(processor, executor, batch,
+                AsyncArrayProcessor.DEFAULT_MAX_BATCH_SIZE, maxPending);
+        final AsyncArrayProcessor async = timeoutMillis > 0 ? base.withTimeout(timeoutMillis, TimeUnit.MILLISECONDS) : base;
+
+        final Random random = new Random(25);
+        final int[][] inputs = new int[256][];
+        for (int i = 0; i < inputs.length; ++i) {
+            inputs[i] = random.ints(size, -1_000, 1_000).toArray();
+        }
+        final IntMatrix matrix = IntMatrix.wrap(random.ints(16, -100, 100).toArray(), 4, 4);
+
+        final LogLinearHistogram latencyMicros = new LogLinearHistogram();
+        final LongAdder failures = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+        final LongAdder rejections = new LongAdder();
+        final Semaphore inFlight = new Semaphore(concurrency);
+
+        System.out.printf("executor=%s requests=%d concurrency=%d size=%d batch=%d maxPending=%d timeoutMillis=%d%n",
+                executorName, requests, concurrency, size, batch, maxPending, timeoutMillis);
+        final long start = System.nanoTime();
+        for (int i = 0; i < requests; ++i) {
+            inFlight.acquire();
+            final int[] input = inputs[i & (inputs.length - 1)];
+            final long sent = System.nanoTime();
+            final CompletableFuture<?> result;
+            switch (i & 3) {
+                case 0:
+                    result = async.distinct(input);
+                    break;
+                case 1:
+                    result = async.filter(input);
+                    break;
+                case 2:
+                    result = async.findSecondMax(input);
+                    break;
+                default:
+                    result = async.matrixMultiplication(matrix, matrix);
+                    break;
+            }
+            result.whenComplete((value, failure) -> {
+                latencyMicros.record((System.nanoTime() - sent) / 1_000);
+                if (failure instanceof TimeoutException) {
+                    timeouts.increment();
+                } else if (failure instanceof RejectedExecutionException) {
+                    rejections.increment();
+                } else if (failure != null) {
+                    failures.increment();
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.acquire(concurrency);
+        final long elapsed = System.nanoTime() - start;
+
+        final HistogramSnapshot latency = latencyMicros.snapshot();
+        System.out.printf("throughput=%.0f req/s failures=%d timeouts=%d rejections=%d%n",
+                requests / (elapsed / 1e9), failures.sum(), timeouts.sum(), rejections.sum());
+        System.out.printf("latency us: mean=%.1f p50=%d p99=%d p99.9=%d max=%d%n", latency.getMean(),
+                latency.getValueAtPercentile(50), latency.getValueAtPercentile(99),
+                latency.getValueAtPercentile(99.9), latency.getMax());
+        executor.shutdown();
+    }
+
+    private static ExecutorService executor(String name, int threads, int concurrency) {
+        switch (name) {
+            case "virtual":
+                final ExecutorService virtualThreads = AsyncExecutors.newVirtualThreadExecutor();
+                if (virtualThreads == null) {
+                    throw new IllegalArgumentException("virtual threads need JDK 21 or later");
+                }
+                return virtualThreads;
+            case "pool":
+                return AsyncExecutors.newBoundedPool(threads, concurrency);
+            case "default":
+                return AsyncExecutors.newDefaultExecutor();
+            default:
+                throw new IllegalArgumentException("unknown executor " + name);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("expected key=value, got " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
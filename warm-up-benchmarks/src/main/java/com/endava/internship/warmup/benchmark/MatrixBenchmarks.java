@@ -0,0 +1,84 @@
+package com.endava.internship.warmup.benchmark;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import com.endava.internship.warmup.domain.service.ArrayProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matrix validation and multiplication of two square matrices, for each implementation, size and distribution
+ * of the matrix cells.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatrixBenchmarks {
+
+    @Param({"ForLoops", "BlockedMatrices", "ForkJoin", "Strassen", "AdaptiveArrayProcessor"})
+    public String implementation;
+
+    @Param({"16", "128", "512"})
+    public int size;
+
+    @Param({"SORTED", "RANDOM", "ALL_DUPLICATES", "NEGATIVE_HEAVY"})
+    public Distribution distribution;
+
+    private ArrayProcessor processor;
+    private int[][] left;
+    private int[][] right;
+    private IntMatrix leftMatrix;
+    private IntMatrix rightMatrix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(size * 31L + distribution.ordinal());
+        processor = Implementations.create(implementation);
+        left = new int[size][];
+        right = new int[size][];
+        for (int i = 0; i < size; ++i) {
+            left[i] = distribution.generate(random, size);
+            right[i] = distribution.generate(random, size);
+        }
+        leftMatrix = IntMatrix.of(left);
+        rightMatrix = IntMatrix.of(right);
+    }
+
+    @Benchmark
+    public void validateForMatrixMultiplication(Blackhole blackhole) {
+        processor.validateForMatrixMultiplication(left, right);
+        blackhole.consume(left);
+    }
+
+    @Benchmark
+    public void validateForMatrixMultiplicationIntMatrix(Blackhole blackhole) {
+        processor.validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        blackhole.consume(leftMatrix);
+    }
+
+    @Benchmark
+    public int[][] matrixMultiplication() {
+        return processor.matrixMultiplication(left, right);
+    }
+
+    @Benchmark
+    public IntMatrix matrixMultiplicationIntMatrix() {
+        return processor.matrixMultiplication(leftMatrix, rightMatrix);
+    }
+}
@@ -0,0 +1,190 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ArrayProcessorWithForLoops} whose element-wise kernels run on SIMD lanes through the incubating Vector API.
+ * Every kernel finishes the elements that do not fill a whole vector with a scalar tail.
+ */
+public class ArrayProcessorWithVectors extends ArrayProcessorWithForLoops {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /** Multiplicative inverse of 5 modulo 2^32 */
+    private static final int INVERSE_OF_FIVE = 0xCCCCCCCD;
+
+    /** floor((2^31 - 1) / 5): x is a multiple of 5 iff x * INVERSE_OF_FIVE + BIAS, read unsigned, is at most 2 * BIAS */
+    private static final int BIAS = Integer.MAX_VALUE / 5;
+
+    /**
+     * Return true if there are no numbers that divide by 10.
+     * Divisibility is tested without division: x must be even and x * 5^-1 must land in the image of the multiples of 5.
+     * @param input non-null immutable array of ints
+     */
+    @Override
+    public boolean noneMatch(final int[] input) {
+        final int bound = SPECIES.loopBound(input.length);
+        final int limit = 2 * BIAS ^ Integer.MIN_VALUE;
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector values = IntVector.fromArray(SPECIES, input, i);
+            VectorMask<Integer> even = values.and(1).compare(VectorOperators.EQ, 0);
+            VectorMask<Integer> multipleOfFive = values.mul(INVERSE_OF_FIVE)
+                    .add(BIAS)
+                    .lanewise(VectorOperators.XOR, Integer.MIN_VALUE)
+                    .compare(VectorOperators.LE, limit);
+            if (even.and(multipleOfFive).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < input.length; ++i) {
+            if (input[i] % 10 == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replace even index values with their doubles and odd indexed elements with their negative,
+     * multiplying whole vectors by an alternating {2, -1, 2, -1, ...} factor
+     * @param input non-null immutable array of ints
+     * @return new array with changed elements
+     */
+    @Override
+    public int[] replace(final int[] input) {
+        final int[] newValues = new int[input.length];
+        final int bound = SPECIES.loopBound(input.length);
+        final IntVector factors = IntVector.zero(SPECIES)
+                .addIndex(1)
+                .and(1)
+                .mul(-3)
+                .add(2);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, input, i)
+                    .mul(factors)
+                    .intoArray(newValues, i);
+        }
+        for (; i < input.length; ++i) {
+            newValues[i] = i % 2 == 0 ? 2 * input[i] : -input[i];
+        }
+        return newValues;
+    }
+
+    /**
+     * Remove (filter) all values which are smaller than the filter threshold.
+     * The first pass counts survivors per vector, the second copies whole vectors when every lane survives.
+     * @param input non-null immutable array of ints
+     * @return The result array should not contain empty cells!
+     */
+    @Override
+    public int[] filter(final int[] input) {
+        final int threshold = filterThreshold(input, 0, input.length);
+        final int bound = SPECIES.loopBound(input.length);
+        int count = 0;
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            count += IntVector.fromArray(SPECIES, input, i).compare(VectorOperators.GE, threshold).trueCount();
+        }
+        for (; i < input.length; ++i) {
+            if (input[i] >= threshold) {
+                ++count;
+            }
+        }
+
+        final int[] newValues = new int[count];
+        int k = 0;
+        for (i = 0; i < bound; i += SPECIES.length()) {
+            IntVector values = IntVector.fromArray(SPECIES, input, i);
+            VectorMask<Integer> keep = values.compare(VectorOperators.GE, threshold);
+            if (keep.allTrue()) {
+                values.intoArray(newValues, k);
+                k += SPECIES.length();
+            } else if (keep.anyTrue()) {
+                for (int lane = 0; lane < SPECIES.length(); ++lane) {
+                    if (keep.laneIsSet(lane)) {
+                        newValues[k++] = input[i + lane];
+                    }
+                }
+            }
+        }
+        for (; i < input.length; ++i) {
+            if (input[i] >= threshold) {
+                newValues[k++] = input[i];
+            }
+        }
+        return newValues;
+    }
+
+    /**
+     * Perform the matrix multiplication in i-k-j order, accumulating a broadcast left value times a right row vector
+     * @param leftMatrix the left matrix represented by array indexes [row][column]
+     * @param rightMatrix the right matrix represented by array indexes [row][column]
+     * @throws NullPointerException when any of the inputs are null. (arrays, rows and columns)
+     * @throws IllegalArgumentException when any array dimensions are not appropriate for matrix multiplication
+     */
+    @Override
+    public int[][] matrixMultiplication(final int[][] leftMatrix, final int[][] rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        final int columns = rightMatrix[0].length;
+        final int[][] multiplicationMatrix = new int[leftMatrix.length][columns];
+
+        for (int i = 0; i < leftMatrix.length; ++i) {
+            for (int k = 0; k < rightMatrix.length; ++k) {
+                multiplyAdd(leftMatrix[i][k], rightMatrix[k], 0, multiplicationMatrix[i], 0, columns);
+            }
+        }
+        return multiplicationMatrix;
+    }
+
+    /**
+     * Perform the matrix multiplication over contiguous matrices with vectorised row updates
+     * @param leftMatrix the left matrix
+     * @param rightMatrix the right matrix
+     * @throws NullPointerException when any of the inputs are null
+     * @throws IllegalArgumentException when any dimension is zero or leftMatrix columns differ from rightMatrix rows
+     */
+    @Override
+    public IntMatrix matrixMultiplication(final IntMatrix leftMatrix, final IntMatrix rightMatrix) throws NullPointerException, IllegalArgumentException {
+        validateForMatrixMultiplication(leftMatrix, rightMatrix);
+        final IntMatrix multiplicationMatrix = IntMatrix.zeros(leftMatrix.getRows(), rightMatrix.getColumns());
+        final int[] left = leftMatrix.getData();
+
+        for (int i = 0; i < leftMatrix.getRows(); ++i) {
+            int leftRow = leftMatrix.index(i, 0);
+            int resultRow = multiplicationMatrix.index(i, 0);
+            for (int k = 0; k < rightMatrix.getRows(); ++k) {
+                multiplyAdd(left[leftRow + k], rightMatrix.getData(), rightMatrix.index(k, 0),
+                            multiplicationMatrix.getData(), resultRow, rightMatrix.getColumns());
+            }
+        }
+        return multiplicationMatrix;
+    }
+
+    /**
+     * target[targetFrom + j] += value * source[sourceFrom + j] for j in [0, length)
+     */
+    private static void multiplyAdd(int value, int[] source, int sourceFrom, int[] target, int targetFrom, int length) {
+        final IntVector broadcast = IntVector.broadcast(SPECIES, value);
+        final int bound = SPECIES.loopBound(length);
+        int j = 0;
+
+        for (; j < bound; j += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, source, sourceFrom + j)
+                    .mul(broadcast)
+                    .add(IntVector.fromArray(SPECIES, target, targetFrom + j))
+                    .intoArray(target, targetFrom + j);
+        }
+        for (; j < length; ++j) {
+            target[targetFrom + j] += value * source[sourceFrom + j];
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.endava.internship.warmup.domain.service;
+
+import com.endava.internship.warmup.domain.model.IntMatrix;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArrayProcessorWithVectorsTest {
+
+    private ArrayProcessor testProcessor;
+    private ArrayProcessor referenceProcessor;
+
+    @BeforeEach
+    void setUp() {
+        testProcessor = new ArrayProcessorWithVectors();
+        referenceProcessor = new ArrayProcessorWithForLoops();
+    }
+
+    @Test
+    void noneMatch_whenEdgeValues_matchesForLoops() {
+        final int[] edgeValues = {Integer.MIN_VALUE, Integer.MAX_VALUE, -10, 10, 5, -5, 2, 0, 2147483640, -2147483640, 858993460, 429496730};
+
+        for (int value : edgeValues) {
+            for (int position : new int[]{3, 66}) {
+                final int[] input = new int[67];
+                Arrays.fill(input, 1);
+                input[position] = value;
+
+                assertThat(testProcessor.noneMatch(input)).as("%d at %d", value, position).isEqualTo(referenceProcessor.noneMatch(input));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 31, 1000})
+    void elementWise_whenRandomInput_matchesForLoops(int length) {
+        final Random random = new Random(length);
+        final int[] input = random.ints(length).toArray();
+        final int[] smallInput = random.ints(length, -length - 20, length + 20).toArray();
+        final int[] noMultiplesOfTen = random.ints(length).map(n -> n % 10 == 0 ? n + 1 : n).toArray();
+
+        assertThat(testProcessor.noneMatch(input)).isEqualTo(referenceProcessor.noneMatch(input));
+        assertThat(testProcessor.noneMatch(noMultiplesOfTen)).isTrue();
+        assertThat(testProcessor.replace(input)).containsExactly(referenceProcessor.replace(input));
+        assertThat(testProcessor.filter(smallInput)).containsExactly(referenceProcessor.filter(smallInput));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1, 1", "5, 3, 17", "20, 33, 64"})
+    void matrixMultiplication_matchesForLoops(int rows, int inner, int columns) {
+        final Random random = new Random(rows * 31L + inner * 17L + columns);
+        final int[][] leftMatrix = randomMatrix(random, rows, inner);
+        final int[][] rightMatrix = randomMatrix(random, inner, columns);
+        final int[][] expected = referenceProcessor.matrixMultiplication(leftMatrix, rightMatrix);
+
+        assertThat(testProcessor.matrixMultiplication(leftMatrix, rightMatrix)).isEqualTo(expected);
+        assertThat(testProcessor.matrixMultiplication(IntMatrix.of(leftMatrix), IntMatrix.of(rightMatrix)).toArray()).isEqualTo(expected);
+    }
+
+    private static int[][] randomMatrix(Random random, int rows, int columns) {
+        int[][] matrix = new int[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                matrix[i][j] = random.nextInt();
+            }
+        }
+        return matrix;
+    }
+}